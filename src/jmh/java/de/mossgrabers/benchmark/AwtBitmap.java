@@ -0,0 +1,89 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * An off-screen bitmap rendered with Java2D. The pixels are encoded in the same BGRA byte layout as
+ * the bitmaps of the DAW.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class AwtBitmap implements IBitmap
+{
+    private final BufferedImage image;
+    private final int []        pixels;
+    private final ByteBuffer    imageBuffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public AwtBitmap (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster ().getDataBuffer ()).getData ();
+        this.imageBuffer = ByteBuffer.allocateDirect (width * height * 4);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        final Graphics2D g = this.image.createGraphics ();
+        try
+        {
+            final Object antialias = enableAntialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF;
+            g.setRenderingHint (RenderingHints.KEY_ANTIALIASING, antialias);
+            renderer.render (new AwtGraphicsContext (g));
+        }
+        finally
+        {
+            g.dispose ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        // ARGB integers in little-endian order are BGRA bytes
+        this.imageBuffer.clear ();
+        this.imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ().put (this.pixels);
+        encoder.encode (this.imageBuffer, this.image.getWidth (), this.image.getHeight ());
+    }
+}
@@ -0,0 +1,294 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+
+
+/**
+ * Implementation of the graphics context with Java2D. It follows the drawing logic of the graphics
+ * context of the DAW, especially how texts are positioned, to produce a comparable workload.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class AwtGraphicsContext implements IGraphicsContext
+{
+    private static final Font BASE_FONT = new Font (Font.SANS_SERIF, Font.PLAIN, 12);
+
+    private final Graphics2D  g;
+
+
+    /**
+     * Constructor.
+     *
+     * @param g The Java2D graphics context
+     */
+    public AwtGraphicsContext (final Graphics2D g)
+    {
+        this.g = g;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        this.setColor (color);
+        this.g.setStroke (new BasicStroke (1));
+        this.g.draw (new Line2D.Double (x1, y1, x2, y2));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clip (final double left, final double top, final double width, final double height)
+    {
+        this.g.clip (new Rectangle2D.Double (left, top, Math.max (0, width), Math.max (0, height)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.g.setClip (null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
+    {
+        this.setColor (color);
+        this.g.fill (new Rectangle2D.Double (x, y, Math.max (0, width), Math.max (0, height)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        this.setColor (color);
+        this.g.setStroke (new BasicStroke ((float) lineWidth));
+        this.g.draw (new Rectangle2D.Double (left, top, width, height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx backgroundColor)
+    {
+        this.setColor (backgroundColor);
+        this.g.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        this.g.setPaint (new GradientPaint ((float) left, (float) top, toColor (color1), (float) left, (float) (top + height), toColor (color2)));
+        this.g.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        this.g.fill (createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx lineColor)
+    {
+        this.setColor (lineColor);
+        this.g.setStroke (new BasicStroke (1));
+        this.g.draw (createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        final double r = Math.max (0, radius);
+        this.setColor (fillColor);
+        this.g.fill (new Ellipse2D.Double (x - r, y - r, 2 * r, 2 * r));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+
+        final Shape oldClip = this.g.getClip ();
+        final FontMetrics metrics = this.setFontSize (fontSize);
+
+        final double h = metrics.getAscent ();
+        final double w = metrics.stringWidth (txt);
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        this.g.clip (new Rectangle2D.Double (x, y, width, height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.g.drawString (txt, (float) posX, (float) posY);
+        this.g.setClip (oldClip);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+
+        final FontMetrics metrics = this.setFontSize (fontSize);
+        final double h = metrics.getAscent ();
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = metrics.stringWidth (txt);
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.g.drawString (txt, (float) x, (float) posY);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage icon, final double x, final double y)
+    {
+        // Icons are not loaded, draw a placeholder of the same size
+        this.g.setColor (Color.GRAY);
+        this.g.fill (new Rectangle2D.Double (x, y, icon.getWidth (), icon.getHeight ()));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
+    {
+        this.setColor (maskColor);
+        this.g.fill (new Rectangle2D.Double (x, y, icon.getWidth (), icon.getHeight ()));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        double size = minimumFontSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            final double width = this.setFontSize (size).stringWidth (text);
+            if (width > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        return fittingSize;
+    }
+
+
+    private FontMetrics setFontSize (final double fontSize)
+    {
+        this.g.setFont (BASE_FONT.deriveFont ((float) fontSize));
+        return this.g.getFontMetrics ();
+    }
+
+
+    private void setColor (final ColorEx color)
+    {
+        this.g.setColor (toColor (color));
+    }
+
+
+    private static Color toColor (final ColorEx color)
+    {
+        return new Color (toComponent (color.getRed ()), toComponent (color.getGreen ()), toComponent (color.getBlue ()));
+    }
+
+
+    private static float toComponent (final double value)
+    {
+        return (float) Math.max (0, Math.min (1, value));
+    }
+
+
+    private static Path2D createTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3)
+    {
+        final Path2D path = new Path2D.Double ();
+        path.moveTo (x1, y1);
+        path.lineTo (x2, y2);
+        path.lineTo (x3, y3);
+        path.closePath ();
+        return path;
+    }
+}
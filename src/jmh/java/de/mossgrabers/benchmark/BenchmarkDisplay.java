@@ -0,0 +1,50 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
+import de.mossgrabers.framework.graphics.IBitmap;
+
+
+/**
+ * A graphics display which only renders its image but does not send it anywhere. Used to measure
+ * the rendering of the components independent of a device.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BenchmarkDisplay extends AbstractGraphicDisplay
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param width The width of the display
+     * @param height The height of the display
+     * @param maxParameterValue The maximum parameter value (upper bound)
+     */
+    public BenchmarkDisplay (final IHost host, final int width, final int height, final int maxParameterValue)
+    {
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (width, height, maxParameterValue), "Benchmark Display");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void notify (final String message)
+    {
+        this.setNotificationMessage (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void send (final IBitmap image)
+    {
+        // Intentionally empty
+    }
+}
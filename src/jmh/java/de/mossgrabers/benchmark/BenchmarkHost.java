@@ -0,0 +1,215 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.VuMeterService;
+import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.IDeviceMetadata;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.parameter.NoteAttribute;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.UsbException;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * A host for running the display code outside of the DAW. Bitmaps are rendered off-screen with
+ * Java2D, memory blocks are plain direct byte buffers and there are no USB devices. Functions which
+ * are not needed for rendering throw an exception.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BenchmarkHost implements IHost
+{
+    private final VuMeterService vuMeterService = new VuMeterService ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Benchmark";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports (final Capability capability)
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports (final NoteAttribute noteAttribute)
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        // Intentionally empty, e.g. the missing USB device is reported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable exception)
+    {
+        exception.printStackTrace ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwSurfaceFactory createSurfaceFactory (final double width, final double height)
+    {
+        throw new UnsupportedOperationException ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxPacketSize, final int maxBytesPerSecond)
+    {
+        throw new UnsupportedOperationException ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        throw new UnsupportedOperationException ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<?> values)
+    {
+        throw new UnsupportedOperationException ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        return new BenchmarkImage (24, 24);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return new AwtBitmap (width, height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect (size);
+        return buffer::duplicate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public VuMeterService getVuMeterService ()
+    {
+        return this.vuMeterService;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index) throws UsbException
+    {
+        throw new UsbException ("No USB devices available in benchmarks.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public List<IDeviceMetadata> getInstrumentMetadata ()
+    {
+        return Collections.emptyList ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public List<IDeviceMetadata> getAudioEffectMetadata ()
+    {
+        return Collections.emptyList ();
+    }
+}
@@ -0,0 +1,49 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.graphics.IImage;
+
+
+/**
+ * A placeholder for the SVG icons, which are loaded by the DAW. It is drawn as a filled rectangle
+ * of its size.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BenchmarkImage implements IImage
+{
+    private final int width;
+    private final int height;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the image
+     * @param height The height of the image
+     */
+    public BenchmarkImage (final int width, final int height)
+    {
+        this.width = width;
+        this.height = height;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.width;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.height;
+    }
+}
@@ -0,0 +1,104 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the rendering of the graphics components into an off-screen bitmap of the size of the
+ * Push 2 display. Run with the GC profiler to get the allocation rate per frame.
+ *
+ * @author Jürgen Moßgraber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentRenderBenchmark
+{
+    private static final int WIDTH     = 960;
+    private static final int HEIGHT    = 160;
+    private static final int MAX_VALUE = 1024;
+    private static final int COLUMNS   = 8;
+
+    /** The type of the components to render. */
+    @Param(
+    {
+        "CHANNEL",
+        "PARAMETER",
+        "CLIP_LIST",
+        "MIDI_CLIP"
+    })
+    public DisplayContent.Type type;
+
+    private BenchmarkDisplay   display;
+    private DisplayContent     content;
+    private int                frame;
+
+
+    /**
+     * Create the display and render the first frame.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        this.display = new BenchmarkDisplay (new BenchmarkHost (), WIDTH, HEIGHT, MAX_VALUE);
+        // Measure every frame
+        this.display.setFrameRate (0);
+        this.content = new DisplayContent (COLUMNS, MAX_VALUE);
+        this.content.fill (this.display, this.type, COLUMNS, this.frame);
+        this.display.send ();
+    }
+
+
+    /**
+     * Stop the display.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown ()
+    {
+        this.display.shutdown ();
+    }
+
+
+    /**
+     * Render a frame in which all columns changed.
+     */
+    @Benchmark
+    public void renderChanged ()
+    {
+        this.frame++;
+        this.content.fill (this.display, this.type, COLUMNS, this.frame);
+        this.display.send ();
+    }
+
+
+    /**
+     * Send a frame without changes, which only compares the components with the previous frame.
+     */
+    @Benchmark
+    public void renderUnchanged ()
+    {
+        this.content.fill (this.display, this.type, COLUMNS, this.frame);
+        this.display.send ();
+    }
+}
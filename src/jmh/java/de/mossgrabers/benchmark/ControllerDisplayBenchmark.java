@@ -0,0 +1,146 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.ableton.push.PushConfiguration;
+import de.mossgrabers.controller.ableton.push.PushVersion;
+import de.mossgrabers.controller.ableton.push.controller.Push2Display;
+import de.mossgrabers.controller.akai.fire.controller.FireDisplay;
+import de.mossgrabers.framework.controller.display.IGraphicDisplay;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures a complete display update of a controller: rendering the components and encoding the
+ * image into the format of the device. There is no device connected, therefore the Push 2 frames
+ * are converted and handed over but not transferred and the sysex messages of the Fire are
+ * discarded.
+ *
+ * @author Jürgen Moßgraber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerDisplayBenchmark
+{
+    /** The supported controllers. */
+    public enum Controller
+    {
+        /** Ableton Push 2, 960x160 pixels, 8 columns. */
+        PUSH2,
+        /** Akai Fire, 128x64 pixels, 1 column. */
+        FIRE
+    }
+
+
+    private static final int MAX_VALUE = 1024;
+
+    /** The controller whose display to update. */
+    @Param(
+    {
+        "PUSH2",
+        "FIRE"
+    })
+    public Controller controller;
+
+    /** The type of the components to render. */
+    @Param(
+    {
+        "CHANNEL",
+        "PARAMETER",
+        "CLIP_LIST",
+        "MIDI_CLIP"
+    })
+    public DisplayContent.Type type;
+
+    private IGraphicDisplay    display;
+    private DisplayContent     content;
+    private int                columns;
+    private int                frame;
+
+
+    /**
+     * Create the display and send the first frame.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        final BenchmarkHost host = new BenchmarkHost ();
+        switch (this.controller)
+        {
+            case PUSH2:
+                this.display = new Push2Display (host, MAX_VALUE, new PushConfiguration (host, null, Collections.emptyList (), PushVersion.VERSION_2));
+                this.columns = 8;
+                break;
+
+            case FIRE:
+            default:
+                this.display = new FireDisplay (host, Stubs.create (IMidiOutput.class, new HashMap<> ()), MAX_VALUE);
+                this.columns = 1;
+                break;
+        }
+
+        // Measure every frame
+        this.display.setFrameRate (0);
+
+        this.content = new DisplayContent (this.columns, MAX_VALUE);
+        this.content.fill (this.display, this.type, this.columns, this.frame);
+        this.display.send ();
+    }
+
+
+    /**
+     * Stop the display.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown ()
+    {
+        this.display.shutdown ();
+    }
+
+
+    /**
+     * Update the display with a frame in which all columns changed.
+     */
+    @Benchmark
+    public void sendChanged ()
+    {
+        this.frame++;
+        this.content.fill (this.display, this.type, this.columns, this.frame);
+        this.display.send ();
+    }
+
+
+    /**
+     * Update the display with an unchanged frame.
+     */
+    @Benchmark
+    public void sendUnchanged ()
+    {
+        this.content.fill (this.display, this.type, this.columns, this.frame);
+        this.display.send ();
+    }
+}
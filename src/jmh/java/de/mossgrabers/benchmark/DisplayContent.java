@@ -0,0 +1,191 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.display.IGraphicDisplay;
+import de.mossgrabers.framework.daw.clip.DefaultStepInfo;
+import de.mossgrabers.framework.daw.clip.INoteClip;
+import de.mossgrabers.framework.daw.clip.IStepInfo;
+import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.StepState;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Fills a graphics display with typical pages of one component type. The values depend on a frame
+ * number, which allows to benchmark frames where all columns changed as well as unchanged frames.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class DisplayContent
+{
+    /** The component types. */
+    public enum Type
+    {
+        /** Channels with volume, panorama and VU meters. */
+        CHANNEL,
+        /** Parameters with name and value. */
+        PARAMETER,
+        /** Lists of clip slots. */
+        CLIP_LIST,
+        /** The notes of a MIDI clip. */
+        MIDI_CLIP
+    }
+
+
+    private static final int                      NUMBER_OF_SLOTS = 8;
+    private static final int                      NUMBER_OF_STEPS = 32;
+
+    private final int                             maxValue;
+    private final List<List<Pair<ITrack, ISlot>>> evenSlots       = new ArrayList<> ();
+    private final List<List<Pair<ITrack, ISlot>>> oddSlots        = new ArrayList<> ();
+    private final ColorEx []                      colors;
+    private final INoteClip                       clip;
+    private final IStepInfo                       noteStart;
+    private final IStepInfo                       noteContinue;
+    private int                                   playStep;
+
+
+    /**
+     * Constructor.
+     *
+     * @param columns The number of columns of the display
+     * @param maxValue The maximum parameter value (upper bound)
+     */
+    public DisplayContent (final int columns, final int maxValue)
+    {
+        this.maxValue = maxValue;
+
+        this.colors = new ColorEx [columns];
+        for (int column = 0; column < columns; column++)
+            this.colors[column] = ColorEx.fromHSB (column / (float) columns, 0.8f, 0.9f);
+
+        for (int column = 0; column < columns; column++)
+        {
+            final Map<String, Object> trackAnswers = new HashMap<> ();
+            trackAnswers.put ("doesExist", Boolean.TRUE);
+            trackAnswers.put ("isRecArm", Boolean.valueOf (column % 2 == 0));
+            final ITrack track = Stubs.create (ITrack.class, trackAnswers);
+
+            // The slots of odd frames play the next clip, the stubs are never equal
+            this.evenSlots.add (this.createSlots (track, column, column % NUMBER_OF_SLOTS));
+            this.oddSlots.add (this.createSlots (track, column, (column + 1) % NUMBER_OF_SLOTS));
+        }
+
+        this.noteStart = createStepInfo (StepState.START);
+        this.noteContinue = createStepInfo (StepState.CONTINUE);
+
+        final Map<String, Object> clipAnswers = new HashMap<> ();
+        clipAnswers.put ("getColor", ColorEx.ORANGE);
+        clipAnswers.put ("getNumSteps", Integer.valueOf (NUMBER_OF_STEPS));
+        clipAnswers.put ("getStepLength", Double.valueOf (0.25));
+        clipAnswers.put ("isLoopEnabled", Boolean.TRUE);
+        clipAnswers.put ("getLoopLength", Double.valueOf (8));
+        clipAnswers.put ("getPlayEnd", Double.valueOf (8));
+        clipAnswers.put ("getLowestRowWithData", Integer.valueOf (36));
+        clipAnswers.put ("getHighestRowWithData", Integer.valueOf (47));
+        clipAnswers.put ("getCurrentStep", (Stubs.Answer) args -> Integer.valueOf (this.playStep));
+        clipAnswers.put ("getStep", (Stubs.Answer) args -> this.getStep ((NotePosition) args[0]));
+        this.clip = Stubs.create (INoteClip.class, clipAnswers);
+    }
+
+
+    /**
+     * Add the elements of one page to the display.
+     *
+     * @param display The display
+     * @param type The type of the components
+     * @param columns The number of columns
+     * @param frame The frame number, odd and even frames have different values in all columns
+     */
+    public void fill (final IGraphicDisplay display, final Type type, final int columns, final int frame)
+    {
+        final boolean isOdd = frame % 2 == 1;
+        switch (type)
+        {
+            case CHANNEL:
+                for (int i = 0; i < columns; i++)
+                {
+                    final int volume = (i * 97 + frame * 13) % this.maxValue;
+                    final int pan = (i * 31 + frame * 7) % this.maxValue;
+                    final int vu = (i * 53 + frame * 29) % this.maxValue;
+                    display.addChannelElement ("Track " + (i + 1), i == 0, "Audio " + (i + 1), ChannelType.AUDIO, this.colors[i], isOdd, volume, volume, Integer.toString (volume), pan, pan, Integer.toString (pan), vu, this.maxValue - 1 - vu, i == 1, i == 2, i == 3, true, 0, false);
+                }
+                break;
+
+            case PARAMETER:
+                for (int i = 0; i < columns; i++)
+                {
+                    final int value = (i * 97 + frame * 13) % this.maxValue;
+                    display.addParameterElement ("Device " + (i + 1), i == 0, "Page " + (i + 1), ChannelType.INSTRUMENT, ColorEx.GRAY, isOdd, "Param " + (i + 1), value, value + " %", i == 0, value);
+                }
+                break;
+
+            case CLIP_LIST:
+                final List<List<Pair<ITrack, ISlot>>> slots = isOdd ? this.oddSlots : this.evenSlots;
+                for (int i = 0; i < columns; i++)
+                    display.addSlotListElement (slots.get (i), ChannelType.AUDIO, "Track " + (i + 1), this.colors[i], isOdd, true, false);
+                break;
+
+            case MIDI_CLIP:
+                this.playStep = frame % NUMBER_OF_STEPS;
+                display.setMidiClipElement (this.clip, 4, null);
+                break;
+        }
+    }
+
+
+    private List<Pair<ITrack, ISlot>> createSlots (final ITrack track, final int column, final int playingSlot)
+    {
+        final List<Pair<ITrack, ISlot>> columnSlots = new ArrayList<> (NUMBER_OF_SLOTS);
+        for (int i = 0; i < NUMBER_OF_SLOTS; i++)
+        {
+            final Map<String, Object> slotAnswers = new HashMap<> ();
+            slotAnswers.put ("doesExist", Boolean.TRUE);
+            slotAnswers.put ("hasContent", Boolean.valueOf (i % 3 != 2));
+            slotAnswers.put ("isPlaying", Boolean.valueOf (i == playingSlot));
+            slotAnswers.put ("getName", "Clip " + (column + 1) + "-" + (i + 1));
+            slotAnswers.put ("getColor", this.colors[column]);
+            slotAnswers.put ("getPosition", Integer.valueOf (i));
+            columnSlots.add (new Pair<> (track, Stubs.create (ISlot.class, slotAnswers)));
+        }
+        return columnSlots;
+    }
+
+
+    private IStepInfo getStep (final NotePosition position)
+    {
+        // A note every 4 steps on every third row, 2 steps long, only on the first channel
+        if (position.getChannel () != 0 || position.getNote () % 3 != 0)
+            return EmptyStepInfo.INSTANCE;
+        switch (position.getStep () % 4)
+        {
+            case 0:
+                return this.noteStart;
+            case 1:
+                return this.noteContinue;
+            default:
+                return EmptyStepInfo.INSTANCE;
+        }
+    }
+
+
+    private static IStepInfo createStepInfo (final StepState state)
+    {
+        final DefaultStepInfo stepInfo = new DefaultStepInfo ();
+        stepInfo.setState (state);
+        return stepInfo;
+    }
+}
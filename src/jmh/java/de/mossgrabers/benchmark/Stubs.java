@@ -0,0 +1,111 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * Creates stubs of the large DAW interfaces (tracks, slots, clips, ...) with dynamic proxies. A
+ * method returns the configured answer for its name or a default value for its return type. Note
+ * that calling a method with parameters on a proxy allocates the argument array, which adds a small
+ * constant to the measured allocation rate.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class Stubs
+{
+    /**
+     * Calculates the answer of a method from its arguments.
+     */
+    @FunctionalInterface
+    public interface Answer
+    {
+        /**
+         * Calculate the answer.
+         *
+         * @param args The arguments of the method call, null if there are none
+         * @return The result of the method
+         */
+        Object answer (Object [] args);
+    }
+
+
+    /**
+     * Private due to utility class.
+     */
+    private Stubs ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Create a stub.
+     *
+     * @param <T> The type of the stub
+     * @param clazz The interface to stub
+     * @param answers The results of the methods by method name, either a value or an Answer
+     * @return The stub
+     */
+    public static <T> T create (final Class<T> clazz, final Map<String, Object> answers)
+    {
+        final InvocationHandler handler = (proxy, method, args) -> {
+
+            final Object result = answers.get (method.getName ());
+            if (result instanceof final Answer answer)
+                return answer.answer (args);
+            if (result != null)
+                return result;
+
+            switch (method.getName ())
+            {
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                case "toString":
+                    return clazz.getSimpleName ();
+                default:
+                    return getDefault (method.getReturnType ());
+            }
+        };
+        return clazz.cast (Proxy.newProxyInstance (clazz.getClassLoader (), new Class<?> []
+        {
+            clazz
+        }, handler));
+    }
+
+
+    private static Object getDefault (final Class<?> type)
+    {
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        if (type == String.class)
+            return "";
+        if (type == ColorEx.class)
+            return ColorEx.GRAY;
+        if (type == List.class)
+            return Collections.emptyList ();
+        if (type == Optional.class)
+            return Optional.empty ();
+        return null;
+    }
+}
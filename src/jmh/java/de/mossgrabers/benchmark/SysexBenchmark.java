@@ -0,0 +1,123 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
+import de.mossgrabers.controller.novation.launchpad.definition.LaunchpadMiniMkIIIControllerDefinition;
+import de.mossgrabers.framework.controller.grid.PadStateSet;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares creating the system exclusive message which updates the pads of a Launchpad from a hex
+ * string (which then needs to be parsed again to be sent) with creating it directly in binary
+ * form.
+ *
+ * @author Jürgen Moßgraber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SysexBenchmark
+{
+    /** The number of changed pads. */
+    @Param(
+    {
+        "8",
+        "64"
+    })
+    public int                                   pads;
+
+    private final ILaunchpadControllerDefinition definition = new LaunchpadMiniMkIIIControllerDefinition ();
+    private final PadStateSet                    padInfos   = new PadStateSet ();
+    private final SysexBuilder                   sysex      = new SysexBuilder (256);
+    private final int []                         sent       = new int [1];
+    private IMidiOutput                          output;
+
+
+    /**
+     * Create the pad updates and the output which counts the sent bytes.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        for (int i = 0; i < this.pads; i++)
+        {
+            final int note = 11 + i / 8 * 10 + i % 8;
+            // Every 8th pad blinks, alternating fast and slow
+            final int blinkColor = i % 8 == 0 ? 5 : 0;
+            this.padInfos.setColor (note, i % 128);
+            this.padInfos.setBlink (note, blinkColor, i % 16 == 0);
+        }
+
+        final Map<String, Object> answers = new HashMap<> ();
+        answers.put ("sendSysex", (Stubs.Answer) args -> {
+            this.sent[0] += ((byte []) args[0]).length;
+            return null;
+        });
+        this.output = Stubs.create (IMidiOutput.class, answers);
+    }
+
+
+    /**
+     * Format the update as a hex string and parse it into bytes, which is what sending a hex string
+     * requires.
+     *
+     * @return The number of sent bytes
+     */
+    @Benchmark
+    public int hexString ()
+    {
+        final StringBuilder sb = new StringBuilder (this.definition.getSysExHeader ()).append ("03 ");
+        for (int note = this.padInfos.next (0); note >= 0; note = this.padInfos.next (note + 1))
+        {
+            final int color = this.padInfos.getColor (note);
+            final int blinkColor = this.padInfos.getBlinkColor (note);
+            if (blinkColor <= 0)
+                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (color)).append (' ');
+            else if (this.padInfos.isFast (note))
+                sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (blinkColor)).append (' ').append (StringUtils.toHexStr (color)).append (' ');
+            else
+                sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (color)).append (' ');
+        }
+        this.output.sendSysex (SysexBuilder.fromHex (sb.append ("F7").toString ()));
+        return this.sent[0];
+    }
+
+
+    /**
+     * Create the update in binary form.
+     *
+     * @return The number of sent bytes
+     */
+    @Benchmark
+    public int binary ()
+    {
+        this.definition.sendLEDUpdate (this.padInfos, this.sysex, this.output);
+        return this.sent[0];
+    }
+}
@@ -0,0 +1,85 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ableton.push.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the conversion of a 960x160 ARGB image into the frame format of the Push 2 display.
+ *
+ * @author Jürgen Moßgraber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PushUsbDisplayBenchmark
+{
+    private static final int WIDTH       = 960;
+    private static final int HEIGHT      = 160;
+
+    private final ByteBuffer image       = ByteBuffer.allocateDirect (WIDTH * HEIGHT * 4).order (ByteOrder.LITTLE_ENDIAN);
+    private final int []     lineStore   = new int [WIDTH];
+    private final int []     sourceStore = new int [WIDTH * HEIGHT];
+    private final int []     frameStore  = new int [20 * 0x4000 / 4];
+
+
+    /**
+     * Fill the image with random pixels and convert it once.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        final Random random = new Random (42);
+        final IntBuffer pixels = this.image.asIntBuffer ();
+        while (pixels.hasRemaining ())
+            pixels.put (random.nextInt ());
+        PushUsbDisplay.convertFrame (this.image.asIntBuffer (), WIDTH, HEIGHT, this.lineStore, this.sourceStore, this.frameStore, true);
+    }
+
+
+    /**
+     * Convert all lines of the image.
+     *
+     * @return The number of converted lines
+     */
+    @Benchmark
+    public int convertAll ()
+    {
+        return PushUsbDisplay.convertFrame (this.image.asIntBuffer (), WIDTH, HEIGHT, this.lineStore, this.sourceStore, this.frameStore, true);
+    }
+
+
+    /**
+     * Convert an image which did not change, which only compares the lines with the previous
+     * frame.
+     *
+     * @return The number of converted lines
+     */
+    @Benchmark
+    public int convertUnchanged ()
+    {
+        return PushUsbDisplay.convertFrame (this.image.asIntBuffer (), WIDTH, HEIGHT, this.lineStore, this.sourceStore, this.frameStore, false);
+    }
+}
@@ -6,7 +6,10 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.bitwig.extension.controller.api.Clip;
 import com.bitwig.extension.controller.api.CursorTrack;
@@ -23,7 +26,10 @@ import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NoteOccurrenceType;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.StepIndex;
 import de.mossgrabers.framework.daw.clip.StepState;
+import de.mossgrabers.framework.daw.clip.StepStore;
+import de.mossgrabers.framework.daw.clip.StepStore.StepView;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
@@ -37,18 +43,28 @@ import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
 public class CursorClipImpl implements INoteClip
 {
     /** The range of the transpose attribute. */
-    private static final double      TRANSPOSE_RANGE = 96.0;
-
-    private final IHost              host;
-    private final IValueChanger      valueChanger;
-    private final int                numSteps;
-    private final int                numRows;
-
-    private final IStepInfo [] [] [] launcherData;
-    private final PinnableCursorClip launcherClip;
-    private int                      editPage        = 0;
-    private double                   stepLength;
-    private final List<NotePosition> editSteps       = new ArrayList<> ();
+    private static final double                        TRANSPOSE_RANGE            = 96.0;
+    /** The time to give Bitwig to create a note before its attributes can be set. */
+    private static final int                           UPDATE_DELAY               = 100;
+
+    private final IHost                                host;
+    private final IValueChanger                        valueChanger;
+    private final int                                  numSteps;
+    private final int                                  numRows;
+
+    private final StepStore                            launcherData;
+    private final StepIndex                            launcherIndex;
+    private final PinnableCursorClip                   launcherClip;
+    private int                                        editPage                   = 0;
+    private double                                     stepLength;
+    private final List<NotePosition>                   editSteps                  = new ArrayList<> ();
+    private final StepView                             discardedStep              = new StepStore (1, 1).getOrCreate (0, 0, 0);
+
+    private final Map<NotePosition, StepEdit>          transactionEdits           = new LinkedHashMap<> ();
+    private int                                        transactionDepth           = 0;
+    private final Map<NotePosition, PendingAttributes> pendingAttributes          = new LinkedHashMap<> ();
+    private boolean                                    isAttributeUpdateScheduled = false;
+    private boolean                                    isEditUpdateScheduled      = false;
 
 
     /**
@@ -69,7 +85,8 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherData = new StepStore (this.numSteps, this.numRows);
+        this.launcherIndex = new StepIndex (this.numSteps);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -406,15 +423,10 @@ public class CursorClipImpl implements INoteClip
     @Override
     public IStepInfo getStep (final NotePosition notePosition)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        final int channel = notePosition.getChannel ();
-        final int step = notePosition.getStep ();
-        final int row = notePosition.getNote ();
         try
         {
-            if (stepInfos[channel][step] == null || stepInfos[channel][step][row] == null)
-                return EmptyStepInfo.INSTANCE;
-            return stepInfos[channel][step][row];
+            final IStepInfo stepInfo = this.getStepInfos ().get (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ());
+            return stepInfo == null ? EmptyStepInfo.INSTANCE : stepInfo;
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -424,6 +436,38 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public StepState getStepState (final NotePosition notePosition)
+    {
+        try
+        {
+            return this.getStepInfos ().getState (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ());
+        }
+        catch (final ArrayIndexOutOfBoundsException ex)
+        {
+            this.host.error ("Illegal index accessing step info array.", ex);
+            return StepState.OFF;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getStepVelocity (final NotePosition notePosition)
+    {
+        try
+        {
+            return this.getStepInfos ().getVelocity (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ());
+        }
+        catch (final ArrayIndexOutOfBoundsException ex)
+        {
+            this.host.error ("Illegal index accessing step info array.", ex);
+            return 0;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void toggleStep (final NotePosition notePosition, final int velocity)
@@ -436,7 +480,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStep (final NotePosition notePosition, final int velocity, final double duration)
     {
-        this.getClip ().setStep (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote (), velocity, duration);
+        this.edit (notePosition, new StepEdit (false, velocity, duration, null));
     }
 
 
@@ -444,29 +488,46 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStep (final NotePosition notePosition, final IStepInfo noteStep)
     {
-        final NotePosition destinationPosition = new NotePosition (notePosition);
         final IStepInfo noteStepCopy = noteStep.createCopy ();
+        this.edit (notePosition, new StepEdit (false, (int) Math.round (noteStepCopy.getVelocity () * 127), noteStepCopy.getDuration (), noteStepCopy));
+    }
 
-        this.setStep (destinationPosition, (int) (noteStepCopy.getVelocity () * 127), noteStepCopy.getDuration ());
-        this.host.scheduleTask ( () -> {
 
-            this.updateStepVelocity (destinationPosition, noteStepCopy.getVelocity ());
-            this.updateStepGain (destinationPosition, noteStepCopy.getGain ());
-            this.updateStepPan (destinationPosition, noteStepCopy.getPan ());
-            this.updateStepPressure (destinationPosition, noteStepCopy.getPressure ());
-            this.updateStepReleaseVelocity (destinationPosition, noteStepCopy.getReleaseVelocity ());
-            this.updateStepTimbre (destinationPosition, noteStepCopy.getTimbre ());
-            this.updateStepTranspose (destinationPosition, noteStepCopy.getTranspose ());
+    /** {@inheritDoc} */
+    @Override
+    public void clearStep (final NotePosition notePosition)
+    {
+        this.edit (notePosition, new StepEdit (true, 0, 0, null));
+    }
 
-        }, 100);
+
+    /** {@inheritDoc} */
+    @Override
+    public void startStepTransaction ()
+    {
+        this.transactionDepth++;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void clearStep (final NotePosition notePosition)
+    public void endStepTransaction ()
     {
-        this.getClip ().clearStep (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ());
+        if (this.transactionDepth == 0)
+            return;
+        this.transactionDepth--;
+        if (this.transactionDepth > 0)
+            return;
+
+        try
+        {
+            for (final Map.Entry<NotePosition, StepEdit> entry: this.transactionEdits.entrySet ())
+                this.applyEdit (entry.getKey (), entry.getValue ());
+        }
+        finally
+        {
+            this.transactionEdits.clear ();
+        }
     }
 
 
@@ -492,7 +553,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepMuteState (final NotePosition notePosition, final boolean isMuted)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setMuted (isMuted);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setIsMuted (isMuted);
@@ -515,7 +576,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepDuration (final NotePosition notePosition, final double duration)
     {
         final double d = Math.max (0, duration);
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setDuration (d);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setDuration (d);
@@ -538,7 +599,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepVelocity (final NotePosition notePosition, final double velocity)
     {
         final double v = Math.min (1.0, Math.max (0, velocity));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setVelocity (v);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setVelocity (v);
@@ -560,7 +621,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepVelocitySpread (final NotePosition notePosition, final double velocitySpread)
     {
         final double v = Math.min (1.0, Math.max (0, velocitySpread));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setVelocitySpread (v);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setVelocitySpread (v);
@@ -582,7 +643,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepReleaseVelocity (final NotePosition notePosition, final double releaseVelocity)
     {
         final double rv = Math.min (1.0, Math.max (0, releaseVelocity));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setReleaseVelocity (rv);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setReleaseVelocity (rv);
@@ -604,7 +665,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepPressure (final NotePosition notePosition, final double pressure)
     {
         final double p = Math.min (1.0, Math.max (0, pressure));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setPressure (p);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setPressure (p);
@@ -626,7 +687,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepTimbre (final NotePosition notePosition, final double timbre)
     {
         final double t = Math.min (1.0, Math.max (-1.0, timbre));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setTimbre (t);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setTimbre (t);
@@ -648,7 +709,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepPan (final NotePosition notePosition, final double pan)
     {
         final double p = Math.min (1.0, Math.max (-1.0, pan));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setPan (p);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setPan (p);
@@ -674,7 +735,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepTranspose (final NotePosition notePosition, final double transpose)
     {
         final double t = Math.min (TRANSPOSE_RANGE, Math.max (-TRANSPOSE_RANGE, transpose));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setTranspose (t);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setTranspose (t);
@@ -704,7 +765,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepGain (final NotePosition notePosition, final double gain)
     {
         final double g = Math.min (1.0, Math.max (0, gain));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setGain (g);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setGain (g);
@@ -715,7 +776,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsChanceEnabled (final NotePosition notePosition, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsChanceEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setIsChanceEnabled (isEnabled);
@@ -737,7 +798,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepChance (final NotePosition notePosition, final double chance)
     {
         final double c = Math.min (1.0, Math.max (0, chance));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setChance (c);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setChance (c);
@@ -748,7 +809,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsOccurrenceEnabled (final NotePosition notePosition, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsOccurrenceEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setIsOccurrenceEnabled (isEnabled);
@@ -759,7 +820,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStepPrevNextOccurrence (final NotePosition notePosition, final boolean increase)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         final NoteOccurrenceType occurrenceType = stepInfo.getOccurrence ();
         final List<NoteOccurrenceType> types = Arrays.asList (NoteOccurrenceType.values ());
         final int typeIndex = Math.max (0, types.indexOf (occurrenceType));
@@ -775,7 +836,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStepOccurrence (final NotePosition notePosition, final NoteOccurrenceType occurrence)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setOccurrence (occurrence);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setOccurrence (NoteOccurrence.valueOf (occurrence.name ()));
@@ -786,7 +847,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsRecurrenceEnabled (final NotePosition notePosition, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsRecurrenceEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setIsRecurrenceEnabled (isEnabled);
@@ -808,7 +869,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRecurrenceLength (final NotePosition notePosition, final int recurrenceLength)
     {
         final int rl = Math.min (8, Math.max (1, recurrenceLength));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRecurrenceLength (rl);
         if (this.editSteps.isEmpty ())
         {
@@ -822,7 +883,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepRecurrenceMask (final NotePosition notePosition, final int mask)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRecurrenceMask (mask);
         if (this.editSteps.isEmpty ())
         {
@@ -836,7 +897,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsRepeatEnabled (final NotePosition notePosition, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsRepeatEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setIsRepeatEnabled (isEnabled);
@@ -858,7 +919,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatCount (final NotePosition notePosition, final int value)
     {
         final int v = Math.min (127, Math.max (-127, value));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatCount (v);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setRepeatCount (v);
@@ -880,7 +941,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatCurve (final NotePosition notePosition, final double value)
     {
         final double v = Math.min (1.0, Math.max (-1.0, value));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatCurve (v);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setRepeatCurve (v);
@@ -902,7 +963,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatVelocityCurve (final NotePosition notePosition, final double velocityCurve)
     {
         final double vc = Math.min (1.0, Math.max (-1.0, velocityCurve));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatVelocityCurve (vc);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setRepeatVelocityCurve (vc);
@@ -924,7 +985,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatVelocityEnd (final NotePosition notePosition, final double velocityEnd)
     {
         final double ve = Math.min (1.0, Math.max (-1.0, velocityEnd));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        final StepView stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatVelocityEnd (ve);
         if (this.editSteps.isEmpty ())
             this.getNoteStep (notePosition).setRepeatVelocityEnd (ve);
@@ -951,13 +1012,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return this.getStepIndex ().hasRowData (channel, row);
     }
 
 
@@ -965,14 +1020,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData ()
     {
-        int min = 128;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int lower = this.getLowestRowWithData (channel);
-            if (lower >= 0 && lower < min)
-                min = lower;
-        }
-        return min == 128 ? -1 : min;
+        return this.getStepIndex ().getLowestRowWithData ();
     }
 
 
@@ -980,14 +1028,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData ()
     {
-        int max = -1;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int upper = this.getHighestRowWithData (channel);
-            if (upper >= 0 && upper > max)
-                max = upper;
-        }
-        return max;
+        return this.getStepIndex ().getHighestRowWithData ();
     }
 
 
@@ -995,10 +1036,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getStepIndex ().getLowestRowWithData (channel);
     }
 
 
@@ -1006,10 +1044,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getStepIndex ().getHighestRowWithData (channel);
     }
 
 
@@ -1017,13 +1052,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRow (final int channel, final int step)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-        {
-            final IStepInfo [] [] [] data = this.getStepInfos ();
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return row;
-        }
-        return -1;
+        return this.getStepIndex ().getHighestRow (channel, step);
     }
 
 
@@ -1124,9 +1153,19 @@ public class CursorClipImpl implements INoteClip
         // Is there a previous edit, which is not stopped yet?
         this.stopEdit ();
 
-        this.editSteps.addAll (editSteps);
-        for (final NotePosition step: this.editSteps)
-            this.delayedUpdate (step);
+        for (final NotePosition editStep: editSteps)
+        {
+            final NotePosition step = new NotePosition (editStep);
+            this.editSteps.add (step);
+            this.sendClipData (step);
+        }
+
+        // One task sends all edited steps, a task might still be scheduled from a previous edit
+        if (!this.editSteps.isEmpty () && !this.isEditUpdateScheduled)
+        {
+            this.isEditUpdateScheduled = true;
+            this.host.scheduleTask (this::delayedUpdate, UPDATE_DELAY);
+        }
     }
 
 
@@ -1144,7 +1183,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public NotePosition getNextNote (final NotePosition activeNotePosition, final boolean ignoreChannel)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
+        final StepIndex index = this.getStepIndex ();
         final NotePosition pos = activeNotePosition == null ? new NotePosition (0, 0, 128) : activeNotePosition;
         final int channel = pos.getChannel ();
         final int channelStart = ignoreChannel ? 0 : channel;
@@ -1153,14 +1192,9 @@ public class CursorClipImpl implements INoteClip
         for (int step = pos.getStep (); step < this.numSteps; step++)
         {
             final int startNote = step == pos.getStep () ? pos.getNote () - 1 : 127;
-            for (int row = startNote; row >= 0; row--)
-            {
-                for (int chn = channelStart; chn < channelEnd; chn++)
-                {
-                    if (data[chn] != null && data[chn][step] != null && data[chn][step][row] != null && data[chn][step][row].getState () == StepState.START)
-                        return new NotePosition (channel, step, row);
-                }
-            }
+            final int row = index.getHighestStartRow (channelStart, channelEnd, step, startNote);
+            if (row >= 0)
+                return new NotePosition (channel, step, row);
         }
         return null;
     }
@@ -1170,7 +1204,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public NotePosition getPreviousNote (final NotePosition activeNotePosition, final boolean ignoreChannel)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
+        final StepIndex index = this.getStepIndex ();
         final NotePosition pos = activeNotePosition == null ? new NotePosition (0, this.numSteps - 1, -1) : activeNotePosition;
         final int channel = pos.getChannel ();
         final int channelStart = ignoreChannel ? 0 : channel;
@@ -1179,25 +1213,126 @@ public class CursorClipImpl implements INoteClip
         for (int step = pos.getStep (); step >= 0; step--)
         {
             final int startNote = step == pos.getStep () ? pos.getNote () + 1 : 0;
-            for (int row = startNote; row < 128; row++)
-            {
-                for (int chn = channelStart; chn < channelEnd; chn++)
-                {
-                    if (data[chn] != null && data[chn][step] != null && data[chn][step][row] != null && data[chn][step][row].getState () == StepState.START)
-                        return new NotePosition (channel, step, row);
-                }
-            }
+            final int row = index.getLowestStartRow (channelStart, channelEnd, step, startNote);
+            if (row >= 0)
+                return new NotePosition (channel, step, row);
         }
         return null;
     }
 
 
-    private void delayedUpdate (final NotePosition editStep)
+    /**
+     * Send the locally changed data of all edited steps to Bitwig as long as the edit is active.
+     */
+    private void delayedUpdate ()
     {
         if (this.editSteps.isEmpty ())
+        {
+            this.isEditUpdateScheduled = false;
             return;
-        this.sendClipData (editStep);
-        this.host.scheduleTask ( () -> this.delayedUpdate (new NotePosition (editStep.getChannel (), editStep.getStep (), editStep.getNote ())), 100);
+        }
+        for (final NotePosition editStep: this.editSteps)
+            this.sendClipData (editStep);
+        this.host.scheduleTask (this::delayedUpdate, UPDATE_DELAY);
+    }
+
+
+    /**
+     * Apply an edit of a step or collect it if a transaction is active.
+     *
+     * @param notePosition The position of the note
+     * @param edit The edit
+     */
+    private void edit (final NotePosition notePosition, final StepEdit edit)
+    {
+        final NotePosition position = new NotePosition (notePosition);
+        if (this.transactionDepth > 0)
+            this.transactionEdits.put (position, edit);
+        else
+            this.applyEdit (position, edit);
+    }
+
+
+    /**
+     * Set or clear the note of a step in Bitwig. The additional attributes of a set note are
+     * collected and set together with all other pending ones after Bitwig created the notes.
+     *
+     * @param position The position of the note
+     * @param edit The edit
+     */
+    private void applyEdit (final NotePosition position, final StepEdit edit)
+    {
+        final int channel = position.getChannel ();
+        final int step = position.getStep ();
+        final int note = position.getNote ();
+
+        // Remove first to keep the pending attributes ordered by their due time
+        this.pendingAttributes.remove (position);
+
+        if (edit.isClear ())
+        {
+            this.getClip ().clearStep (channel, step, note);
+            return;
+        }
+
+        this.getClip ().setStep (channel, step, note, edit.velocity (), edit.duration ());
+        if (edit.attributes () == null)
+            return;
+
+        this.pendingAttributes.put (position, new PendingAttributes (edit.attributes (), System.currentTimeMillis () + UPDATE_DELAY));
+        if (!this.isAttributeUpdateScheduled)
+        {
+            this.isAttributeUpdateScheduled = true;
+            this.host.scheduleTask (this::updatePendingAttributes, UPDATE_DELAY);
+        }
+    }
+
+
+    /**
+     * Set the attributes of all notes which were created at least UPDATE_DELAY ago. Attributes
+     * which already have the value (known from the received step data) are not sent again.
+     */
+    private void updatePendingAttributes ()
+    {
+        final long now = System.currentTimeMillis ();
+        final Iterator<Map.Entry<NotePosition, PendingAttributes>> iterator = this.pendingAttributes.entrySet ().iterator ();
+        while (iterator.hasNext ())
+        {
+            final Map.Entry<NotePosition, PendingAttributes> entry = iterator.next ();
+            final PendingAttributes pending = entry.getValue ();
+            if (pending.dueTime () > now)
+            {
+                this.host.scheduleTask (this::updatePendingAttributes, pending.dueTime () - now);
+                return;
+            }
+            iterator.remove ();
+
+            final NotePosition position = entry.getKey ();
+            final IStepInfo source = pending.stepInfo ();
+            final IStepInfo current = this.getStep (position);
+            final boolean isKnown = current.getState () != StepState.OFF;
+            if (!isKnown || isDifferent (current.getVelocity (), source.getVelocity ()))
+                this.updateStepVelocity (position, source.getVelocity ());
+            if (!isKnown || isDifferent (current.getGain (), source.getGain ()))
+                this.updateStepGain (position, source.getGain ());
+            if (!isKnown || isDifferent (current.getPan (), source.getPan ()))
+                this.updateStepPan (position, source.getPan ());
+            if (!isKnown || isDifferent (current.getPressure (), source.getPressure ()))
+                this.updateStepPressure (position, source.getPressure ());
+            if (!isKnown || isDifferent (current.getReleaseVelocity (), source.getReleaseVelocity ()))
+                this.updateStepReleaseVelocity (position, source.getReleaseVelocity ());
+            if (!isKnown || isDifferent (current.getTimbre (), source.getTimbre ()))
+                this.updateStepTimbre (position, source.getTimbre ());
+            if (!isKnown || isDifferent (current.getTranspose (), source.getTranspose ()))
+                this.updateStepTranspose (position, source.getTranspose ());
+        }
+        this.isAttributeUpdateScheduled = false;
+    }
+
+
+    private static boolean isDifferent (final double value1, final double value2)
+    {
+        return Math.abs (value1 - value2) > 0.000001;
     }
 
 
@@ -1260,45 +1395,91 @@ public class CursorClipImpl implements INoteClip
                 return;
         }
 
-        this.getUpdateableStep (new NotePosition (channel, step, note)).updateData (noteStep);
+        final StepView stepInfo = this.getUpdateableStep (new NotePosition (channel, step, note));
+        updateData (stepInfo, noteStep);
+
+        // Keep the index in sync with the step data, rows outside of the monitored range are not
+        // stored
+        if (channel >= 0 && channel < 16 && step >= 0 && step < this.numSteps && note >= 0 && note < this.numRows)
+            this.getStepIndex ().update (channel, step, note, stepInfo.getState ());
     }
 
 
     /**
-     * Get the step at the given position. If the position still contains the Empty Step Info object
-     * an updatable one is created.
+     * Set the given state and update all note data from the Bitwig step info.
+     *
+     * @param stepInfo The step to update
+     * @param noteStep The Bitwig step info
+     */
+    private static void updateData (final StepView stepInfo, final NoteStep noteStep)
+    {
+        switch (noteStep.state ())
+        {
+            case NoteOn:
+                stepInfo.setState (StepState.START);
+                break;
+            case NoteSustain:
+                stepInfo.setState (StepState.CONTINUE);
+                break;
+            case Empty:
+                stepInfo.setState (StepState.OFF);
+                break;
+        }
+
+        stepInfo.setSelected (noteStep.isIsSelected ());
+        stepInfo.setMuted (noteStep.isMuted ());
+        stepInfo.setDuration (noteStep.duration ());
+        stepInfo.setVelocity (noteStep.velocity ());
+        stepInfo.setReleaseVelocity (noteStep.releaseVelocity ());
+        stepInfo.setPressure (noteStep.pressure ());
+        stepInfo.setTimbre (noteStep.timbre ());
+        stepInfo.setPan (noteStep.pan ());
+        stepInfo.setTranspose (noteStep.transpose ());
+        stepInfo.setGain (noteStep.gain () / 2.0);
+
+        stepInfo.setIsChanceEnabled (noteStep.isChanceEnabled ());
+        stepInfo.setChance (noteStep.chance ());
+
+        stepInfo.setIsOccurrenceEnabled (noteStep.isOccurrenceEnabled ());
+        final NoteOccurrence noteOccurrence = noteStep.occurrence ();
+        stepInfo.setOccurrence (NoteOccurrenceType.lookup (noteOccurrence.name ()));
+
+        stepInfo.setIsRecurrenceEnabled (noteStep.isRecurrenceEnabled ());
+        stepInfo.setRecurrenceLength (noteStep.recurrenceLength ());
+        stepInfo.setRecurrenceMask (noteStep.recurrenceMask ());
+
+        stepInfo.setIsRepeatEnabled (noteStep.isRepeatEnabled ());
+        stepInfo.setRepeatCount (noteStep.repeatCount ());
+        stepInfo.setRepeatCurve (noteStep.repeatCurve ());
+        stepInfo.setRepeatVelocityCurve (noteStep.repeatVelocityCurve ());
+        stepInfo.setRepeatVelocityEnd (noteStep.repeatVelocityEnd ());
+    }
+
+
+    /**
+     * Get the step at the given position. If the position does not have stored data yet, it is
+     * created.
      *
      * @param notePosition The position of the note
      * @return The updatable step info
      */
-    private StepInfoImpl getUpdateableStep (final NotePosition notePosition)
+    private StepView getUpdateableStep (final NotePosition notePosition)
     {
-        final int channel = notePosition.getChannel ();
-        final int step = notePosition.getStep ();
         final int row = notePosition.getNote ();
+        if (row >= this.numRows)
+        {
+            this.host.error ("Requested row (" + row + " is outside of the range of the number of rows (" + this.numRows + ").");
+            return this.discardedStep;
+        }
 
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        synchronized (stepInfos)
+        try
         {
-            try
-            {
-                // Lazily create an updatable object and keep it
-                if (stepInfos[channel][step] == null)
-                    stepInfos[channel][step] = new IStepInfo [this.numRows];
-                if (row >= this.numRows)
-                {
-                    this.host.error ("Requested row (" + row + " is outside of the range of the number of rows (" + this.numRows + ").");
-                    return new StepInfoImpl ();
-                }
-                if (stepInfos[channel][step][row] == null)
-                    stepInfos[channel][step][row] = new StepInfoImpl ();
-                return (StepInfoImpl) stepInfos[channel][step][row];
-            }
-            catch (final ArrayIndexOutOfBoundsException ex)
-            {
-                this.host.error ("Illegal index accessing step info array.", ex);
-                return new StepInfoImpl ();
-            }
+            return this.getStepInfos ().getOrCreate (notePosition.getChannel (), notePosition.getStep (), row);
+        }
+        catch (final ArrayIndexOutOfBoundsException ex)
+        {
+            this.host.error ("Illegal index accessing step info array.", ex);
+            return this.discardedStep;
         }
     }
 
@@ -1331,9 +1512,46 @@ public class CursorClipImpl implements INoteClip
      *
      * @return The step information
      */
-    private IStepInfo [] [] [] getStepInfos ()
+    private StepStore getStepInfos ()
     {
         // Note: Keep this in a function in case the issue with arranger clips gets ever fixed
         return this.launcherData;
     }
+
+
+    /**
+     * Get the index of the launcher or arranger step information. Depending on which is active.
+     *
+     * @return The step index
+     */
+    private StepIndex getStepIndex ()
+    {
+        return this.launcherIndex;
+    }
+
+
+    /**
+     * An edit of a step.
+     *
+     * @param isClear True to clear the step otherwise the note is set
+     * @param velocity The velocity of the note
+     * @param duration The duration of the note
+     * @param attributes Further attributes to set after the note was created, might be null
+     */
+    private record StepEdit (boolean isClear, int velocity, double duration, IStepInfo attributes)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Attributes of a note, which need to be set after the note was created.
+     *
+     * @param stepInfo The attributes
+     * @param dueTime The time when the attributes can be set
+     */
+    private record PendingAttributes (IStepInfo stepInfo, long dueTime)
+    {
+        // Intentionally empty
+    }
 }
\ No newline at end of file
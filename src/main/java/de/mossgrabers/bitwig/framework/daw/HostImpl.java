@@ -15,6 +15,7 @@ import de.mossgrabers.bitwig.framework.usb.UsbDeviceImpl;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.VuMeterService;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
@@ -86,7 +87,8 @@ public class HostImpl implements IHost
     }
 
     private final ControllerHost   host;
-    private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final List<IUsbDevice> usbDevices     = new ArrayList<> ();
+    private final VuMeterService   vuMeterService = new VuMeterService ();
 
 
     /**
@@ -182,10 +184,10 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxPacketSize, final int maxBytesPerSecond)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        return new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()), maxPacketSize, maxBytesPerSecond);
     }
 
 
@@ -240,6 +242,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public VuMeterService getVuMeterService ()
+    {
+        return this.vuMeterService;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IUsbDevice getUsbDevice (final int index) throws UsbException
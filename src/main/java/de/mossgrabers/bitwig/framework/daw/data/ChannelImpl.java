@@ -16,6 +16,7 @@ import de.mossgrabers.bitwig.framework.daw.data.bank.SendBankImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.VuMeterService;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
@@ -33,9 +34,6 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements IChannel
 {
-    private static final int                    MAX_RESOLUTION = 16384;
-    private static final int                    CLIP_BORDER    = 16241;
-
     protected final IValueChanger               valueChanger;
 
     private final IHost                         host;
@@ -45,9 +43,9 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     private final IParameter                    muteParameter;
     private final IParameter                    soloParameter;
     private final ISendBank                     sendBank;
+    private final VuMeterService                vuMeterService;
+    private final int                           vuMeter;
 
-    private int                                 vuLeft;
-    private int                                 vuRight;
     private int                                 vuPeakLeft;
     private int                                 vuPeakRight;
     private int                                 vuPeakLastVolume;
@@ -72,9 +70,11 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         this.channelBankImpl = channelBank;
         this.deviceChain = channel;
         this.valueChanger = valueChanger;
+        this.vuMeterService = host.getVuMeterService ();
 
         if (channel == null)
         {
+            this.vuMeter = -1;
             this.volumeParameter = EmptyParameter.INSTANCE;
             this.panParameter = EmptyParameter.INSTANCE;
             this.muteParameter = EmptyParameter.INSTANCE;
@@ -94,8 +94,10 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         this.muteParameter = new MuteParameterImpl (valueChanger, channel, index);
         this.soloParameter = new SoloParameterImpl (valueChanger, channel, index);
 
-        channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
-        channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
+        final int meter = this.vuMeterService.register ();
+        this.vuMeter = meter;
+        channel.addVuMeterObserver (VuMeterService.MAX_RESOLUTION, 0, true, value -> this.vuMeterService.update (meter, false, value));
+        channel.addVuMeterObserver (VuMeterService.MAX_RESOLUTION, 1, true, value -> this.vuMeterService.update (meter, true, value));
 
         this.sendBank = new SendBankImpl (host, valueChanger, numSends == 0 ? null : channel.sendBank (), numSends);
     }
@@ -417,11 +419,19 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVuMeterIndex ()
+    {
+        return this.vuMeter;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getVu ()
     {
-        return (int) Math.round ((this.vuLeft + this.vuRight) * this.valueChanger.getUpperBound () / (double) MAX_RESOLUTION / 2.0);
+        return (int) Math.round ((this.getRawVuLeft () + this.getRawVuRight ()) * this.valueChanger.getUpperBound () / (double) VuMeterService.MAX_RESOLUTION / 2.0);
     }
 
 
@@ -437,7 +447,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuLeft ()
     {
-        return this.vuLeft * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.getRawVuLeft () * this.valueChanger.getUpperBound () / VuMeterService.MAX_RESOLUTION;
     }
 
 
@@ -445,7 +455,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public boolean getVuLeftClipState ()
     {
-        return this.vuLeft >= CLIP_BORDER;
+        return this.getRawVuLeft () >= VuMeterService.CLIP_BORDER;
     }
 
 
@@ -453,7 +463,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuRight ()
     {
-        return this.vuRight * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.getRawVuRight () * this.valueChanger.getUpperBound () / VuMeterService.MAX_RESOLUTION;
     }
 
 
@@ -461,7 +471,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public boolean getVuRightClipState ()
     {
-        return this.vuRight >= CLIP_BORDER;
+        return this.getRawVuRight () >= VuMeterService.CLIP_BORDER;
     }
 
 
@@ -608,18 +618,14 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
-    private void handleVULeftMeter (final int value)
+    private int getRawVuLeft ()
     {
-        // Limit value to this.configuration.getMaxParameterValue () due to
-        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        return this.vuMeter < 0 ? 0 : this.vuMeterService.getLeft (this.vuMeter);
     }
 
 
-    private void handleVURightMeter (final int value)
+    private int getRawVuRight ()
     {
-        // Limit value to this.configuration.getMaxParameterValue () due to
-        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        return this.vuMeter < 0 ? 0 : this.vuMeterService.getRight (this.vuMeter);
     }
 }
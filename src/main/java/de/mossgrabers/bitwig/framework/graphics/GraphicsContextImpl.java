@@ -50,6 +50,24 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void clip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.newPath ();
+        this.gc.rectangle (left, top, Math.max (0, width), Math.max (0, height));
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
@@ -191,7 +209,7 @@ public class GraphicsContextImpl implements IGraphicsContext
         this.setColor (color);
         this.gc.moveTo (posX, posY);
         this.gc.showText (txt);
-        this.gc.resetClip ();
+        // Restore also removes the clip but keeps a clip which was set before
         this.gc.restore ();
     }
 
@@ -17,8 +17,10 @@ import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiBinarySysExCallback;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.AbsoluteHardwareControl;
 import com.bitwig.extension.controller.api.AbsoluteHardwareValueMatcher;
@@ -42,6 +44,7 @@ public class MidiInputImpl implements IMidiInput
 {
     private final MidiIn  port;
     private NoteInputImpl defaultNoteInput;
+    private byte []       sysexBuffer = new byte [1024];
 
 
     /**
@@ -89,6 +92,20 @@ public class MidiInputImpl implements IMidiInput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setBinarySysexCallback (final MidiBinarySysExCallback callback)
+    {
+        this.port.setSysexCallback (data -> {
+            final int length = data.length () / 2;
+            if (length > this.sysexBuffer.length)
+                this.sysexBuffer = new byte [Math.max (length, this.sysexBuffer.length * 2)];
+            StringUtils.fromHexStr (data, this.sysexBuffer);
+            callback.handleMidi (this.sysexBuffer, length);
+        });
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendRawMidiEvent (final int status, final int data1, final int data2)
@@ -4,8 +4,13 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker;
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker.Packet;
+import de.mossgrabers.framework.osc.OpenSoundControlMessageQueue;
+import de.mossgrabers.framework.utils.TokenBucket;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
@@ -14,23 +19,44 @@ import java.util.List;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Bundles are split into datagrams which
+ * fit into the configured packet size. The messages are queued and sent with a limited rate, so
+ * that slow clients like Open Stage Control can keep up. Sending never blocks the calling thread,
+ * datagrams which exceed the rate are sent later from a scheduled task. Queued messages are
+ * replaced by newer ones with the same address and the queue is limited in size.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    /** The maximum number of messages waiting to be sent, the oldest are dropped. */
+    private static final int                   MAX_QUEUED_MESSAGES = 10000;
+
+    private final IHost                        host;
+    private final OscConnection                connection;
+    private final TokenBucket                  tokenBucket;
+    private final OpenSoundControlMessageQueue queue;
+    private boolean                            isScheduled         = false;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
+     * @param maxPacketSize The maximum size of a datagram in bytes
+     * @param maxBytesPerSecond The maximum number of bytes to send per second
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection, final int maxPacketSize, final int maxBytesPerSecond)
     {
+        this.host = host;
         this.connection = connection;
+        final OpenSoundControlBundlePacker packer = new OpenSoundControlBundlePacker (maxPacketSize);
+        this.queue = new OpenSoundControlMessageQueue (packer, MAX_QUEUED_MESSAGES);
+
+        // Allow a burst of at least one full packet
+        final int packetSize = packer.getMaxPacketSize ();
+        this.tokenBucket = new TokenBucket (Math.max (packetSize, maxBytesPerSecond), Math.max (packetSize, maxBytesPerSecond / 10.0));
     }
 
 
@@ -48,33 +74,72 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
-        for (final IOpenSoundControlMessage message: messages)
+        synchronized (this.queue)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
+            this.queue.addAll (messages);
+            this.sendQueuedPackets ();
+        }
+    }
+
+
+    /**
+     * Send as many queued packets as the rate limit allows. If packets are left, a task is
+     * scheduled which continues as soon as enough bytes are available.
+     *
+     * @throws IOException Could not send a packet
+     */
+    private void sendQueuedPackets () throws IOException
+    {
+        synchronized (this.queue)
+        {
+            while (!this.queue.isEmpty ())
             {
-                pos = 0;
-                this.connection.endBundle ();
+                final int size = this.queue.getNextPacketSize ();
+                if (!this.tokenBucket.tryConsume (size))
+                {
+                    this.scheduleSend (this.tokenBucket.getMillisUntilAvailable (size));
+                    return;
+                }
+                this.sendPacket (this.queue.removePacket ());
+            }
+        }
+    }
+
+
+    private void scheduleSend (final long delay)
+    {
+        if (this.isScheduled)
+            return;
+        this.isScheduled = true;
 
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
+        this.host.scheduleTask ( () -> {
+            synchronized (this.queue)
+            {
+                this.isScheduled = false;
                 try
                 {
-                    Thread.sleep (10);
+                    this.sendQueuedPackets ();
                 }
-                catch (final InterruptedException ex)
+                catch (final IOException ex)
                 {
-                    Thread.currentThread ().interrupt ();
+                    this.host.error ("Could not send UDP message.", ex);
                 }
-
-                this.connection.startBundle ();
             }
+        }, Math.max (1, delay));
+    }
+
+
+    private void sendPacket (final Packet packet) throws IOException
+    {
+        this.connection.startBundle ();
+        try
+        {
+            for (final IOpenSoundControlMessage message: packet.getMessages ())
+                this.sendMessage (message);
+        }
+        finally
+        {
+            this.connection.endBundle ();
         }
-        this.connection.endBundle ();
     }
 }
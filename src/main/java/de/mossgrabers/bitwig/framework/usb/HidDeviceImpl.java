@@ -25,8 +25,22 @@ import java.util.Optional;
  */
 public class HidDeviceImpl implements IHidDevice
 {
-    private HidDevice hidDevice;
-    private boolean   isOpen;
+    private static final boolean  IS_MAC_OS      = OperatingSystem.isMacOS ();
+
+    private HidDevice             hidDevice;
+    private boolean               isOpen;
+
+    /** The reusable buffers for the output and feature reports, indexed by the report ID. */
+    private final ReportBuffer [] outputBuffers  = new ReportBuffer [256];
+    private final ReportBuffer [] featureBuffers = new ReportBuffer [256];
+    private byte []               inputBuffer    = new byte [0];
+
+    private final Object          statisticsLock = new Object ();
+    private long                  windowStart    = System.currentTimeMillis ();
+    private int                   windowReports;
+    private int                   windowBytes;
+    private int                   reportsPerSecond;
+    private int                   bytesPerSecond;
 
 
     /**
@@ -74,21 +88,18 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.isMacOS ())
+        final ReportBuffer buffer = getReportBuffer (this.outputBuffers, reportID);
+        synchronized (buffer)
         {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
+            final int length = buffer.fill (memoryBlock, IS_MAC_OS ? 1 : 0);
+            if (IS_MAC_OS)
+                buffer.data[0] = reportID;
+            this.count (length);
+            return this.hidDevice.setOutputReport (reportID, buffer.data, length);
         }
-
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
     }
 
 
@@ -98,8 +109,38 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
-        return this.hidDevice.setFeatureReport (reportID, data, data.length);
+
+        final ReportBuffer buffer = getReportBuffer (this.featureBuffers, reportID);
+        synchronized (buffer)
+        {
+            final int length = buffer.fill (memoryBlock, 0);
+            this.count (length);
+            return this.hidDevice.setFeatureReport (reportID, buffer.data, length);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getReportsPerSecond ()
+    {
+        synchronized (this.statisticsLock)
+        {
+            this.updateStatistics ();
+            return this.reportsPerSecond;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getBytesPerSecond ()
+    {
+        synchronized (this.statisticsLock)
+        {
+            this.updateStatistics ();
+            return this.bytesPerSecond;
+        }
     }
 
 
@@ -111,18 +152,21 @@ public class HidDeviceImpl implements IHidDevice
             return;
         this.hidDevice.setInputReportListener ( (source, id, data, length) -> {
 
+            this.count (length);
+
             // purehid documentation says otherwise but MAC also contains the report ID in
             // data[0], therefore remove it
-            byte [] d = data;
-            int l = length;
-            if (OperatingSystem.isMacOS ())
+            if (!IS_MAC_OS || length <= 0)
             {
-                l--;
-                d = new byte [l];
-                System.arraycopy (data, 1, d, 0, l);
+                callback.process (id, data, length);
+                return;
             }
 
-            callback.process (id, d, l);
+            final int l = length - 1;
+            if (this.inputBuffer.length < l)
+                this.inputBuffer = new byte [l];
+            System.arraycopy (data, 1, this.inputBuffer, 0, l);
+            callback.process (id, this.inputBuffer, l);
         });
     }
 
@@ -138,13 +182,87 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    private static ReportBuffer getReportBuffer (final ReportBuffer [] buffers, final byte reportID)
+    {
+        final int index = Byte.toUnsignedInt (reportID);
+        synchronized (buffers)
+        {
+            if (buffers[index] == null)
+                buffers[index] = new ReportBuffer ();
+            return buffers[index];
+        }
+    }
+
+
+    private void count (final int bytes)
+    {
+        if (bytes <= 0)
+            return;
+        synchronized (this.statisticsLock)
+        {
+            this.updateStatistics ();
+            this.windowReports++;
+            this.windowBytes += bytes;
+        }
+    }
+
+
+    private void updateStatistics ()
+    {
+        final long now = System.currentTimeMillis ();
+        final long elapsed = now - this.windowStart;
+        if (elapsed < 1000)
+            return;
+
+        // Nothing was counted in the last second if the previous window ended before it
+        if (elapsed >= 2000)
+        {
+            this.reportsPerSecond = 0;
+            this.bytesPerSecond = 0;
+        }
+        else
+        {
+            this.reportsPerSecond = (int) (this.windowReports * 1000L / elapsed);
+            this.bytesPerSecond = (int) (this.windowBytes * 1000L / elapsed);
+        }
+        this.windowStart = now;
+        this.windowReports = 0;
+        this.windowBytes = 0;
+    }
+
+
+    /**
+     * A reusable buffer for the reports with a specific ID. The view on the memory block is kept as
+     * long as the same memory block is sent, which is the usual case.
+     */
+    private static class ReportBuffer
     {
-        final ByteBuffer buffer = memoryBlock.createByteBuffer ();
-        final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
-        buffer.rewind ();
-        buffer.get (data);
-        return data;
+        private byte []      data = new byte [0];
+        private IMemoryBlock memoryBlock;
+        private ByteBuffer   view;
+
+
+        /**
+         * Copy the content of the memory block into the buffer. The buffer grows if necessary.
+         *
+         * @param block The memory block
+         * @param offset The position in the buffer where to start with the content
+         * @return The number of valid bytes in the buffer (offset + size of the memory block)
+         */
+        int fill (final IMemoryBlock block, final int offset)
+        {
+            if (this.memoryBlock != block)
+            {
+                this.memoryBlock = block;
+                this.view = block.createByteBuffer ();
+            }
+
+            final int size = this.view.capacity ();
+            final int length = offset + size;
+            if (this.data.length != length)
+                this.data = new byte [length];
+            this.view.get (0, this.data, offset, size);
+            return length;
+        }
     }
 }
@@ -1582,6 +1582,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        this.activateDisplayFrameRateSetting (settingsUI, CATEGORY_HARDWARE_SETUP);
     }
 
 
@@ -58,7 +58,7 @@ public class Push2Display extends AbstractGraphicDisplay
     public void shutdown ()
     {
         this.setMessage (3, "Please start " + this.host.getName () + " to play...");
-        this.send ();
+        this.sendImmediately ();
 
         this.isShutdown = true;
 
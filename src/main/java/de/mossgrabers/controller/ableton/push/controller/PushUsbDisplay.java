@@ -10,26 +10,45 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TripleBuffer;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. The protocol of the Push 2 always requires a full
+ * frame. Therefore, only the lines which changed since the last frame are converted and unchanged
+ * frames are not sent at all, except for a regular refresh to keep the display on. The frames are
+ * handed over to the sending thread with a triple buffer, rendering never waits for a running USB
+ * transfer and the latest frame always wins.
  *
  * @author Jürgen Moßgraber
  */
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int               DATA_SZ          = 20 * 0x4000;
+    private static final int                 DATA_SZ          = 20 * 0x4000;
 
-    private static final int               TIMEOUT          = 1000;
+    /**
+     * The signal shaping pattern 0xFFE7F3E7 for the little-endian 32-bit words of the display data.
+     */
+    private static final int                 SHAPING_PATTERN  = 0xFFE7F3E7;
+
+    private static final int                 TIMEOUT          = 1000;
 
-    private static final byte []           DISPLAY_HEADER   =
+    /** The display turns off if it does not receive a frame for 2 seconds. */
+    private static final long                KEEP_ALIVE       = TimeUnit.MILLISECONDS.toNanos (1000);
+
+    private static final byte []             DISPLAY_HEADER   =
     {
         // (byte) 0xef,
         // (byte) 0xcd,
@@ -53,16 +72,25 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice                     usbDevice;
-    private IUsbEndpoint                   usbEndpoint;
-    private final IHost                    host;
-    private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private volatile IUsbDevice              usbDevice;
+    private volatile IUsbEndpoint            usbEndpoint;
+    private final IHost                      host;
+    private final IMemoryBlock               headerBlock;
+    private final TripleBuffer<IMemoryBlock> imageBlocks;
+    private final int []                     frameStore       = new int [DATA_SZ / 4];
+    private int []                           lineStore        = new int [0];
+    private int []                           sourceStore      = new int [0];
+    private boolean                          isSourceValid    = false;
+    private int                              changedLines;
+    private long                             lastFrameTime;
+
+    private final AtomicLong                 framesSent       = new AtomicLong ();
+    private final AtomicLong                 framesSkipped    = new AtomicLong ();
+    private final AtomicLong                 bytesConverted   = new AtomicLong ();
 
-    private final Object                   sendLock         = new Object ();
-    private final Object                   bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final Object                     bufferUpdateLock = new Object ();
+    private final AtomicBoolean              isSendScheduled  = new AtomicBoolean ();
+    private final ExecutorService            sendExecutor     = Executors.newSingleThreadExecutor ();
 
 
     /**
@@ -88,7 +116,7 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+        this.imageBlocks = new TripleBuffer<> ( () -> host.createMemoryBlock (DATA_SZ));
     }
 
 
@@ -104,87 +132,123 @@ public class PushUsbDisplay
         {
             image.encode ( (imageBuffer, width, height) -> {
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
-
-                for (int y = 0; y < height; y++)
+                if (this.sourceStore.length != width * height)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
+                    this.lineStore = new int [width];
+                    this.sourceStore = new int [width * height];
+                    this.isSourceValid = false;
                 }
+                // The pixels are stored as BGRA bytes, which is ARGB when read as little-endian
+                // integers
+                final IntBuffer pixels = imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+                this.changedLines = convertFrame (pixels, width, height, this.lineStore, this.sourceStore, this.frameStore, !this.isSourceValid);
+                this.isSourceValid = true;
+                this.bytesConverted.addAndGet ((long) this.changedLines * (DATA_SZ / height));
+            });
 
-                this.signalShaping ();
+            final long now = System.nanoTime ();
+            if (this.changedLines == 0 && now - this.lastFrameTime < KEEP_ALIVE)
+            {
+                this.framesSkipped.incrementAndGet ();
+                return;
+            }
+            this.lastFrameTime = now;
 
-                imageBuffer.rewind ();
-            });
+            // Copy the data to the USB block and hand it over to the send thread
+            final ByteBuffer buffer = this.imageBlocks.getRenderBuffer ().createByteBuffer ();
+            buffer.clear ();
+            buffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ().put (this.frameStore);
+            this.imageBlocks.publish ();
         }
 
-        synchronized (this.sendLock)
+        // Only schedule a send task if none is already pending, a pending task picks up the latest
+        // frame
+        if (this.sendExecutor.isShutdown () || !this.isSendScheduled.compareAndSet (false, true))
+            return;
+        try
+        {
+            this.sendExecutor.execute (this::sendData);
+        }
+        catch (final RejectedExecutionException ex)
         {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
+            this.isSendScheduled.set (false);
         }
     }
 
 
     /**
+     * Converts the changed lines of a frame to the format of the display. A line is only converted
+     * if it differs from the same line in the source store, which is then updated. Two BGR565
+     * pixels are packed into one integer and the signal shaping is applied to the whole word at
+     * once. Each line is padded to the line size of the display.
+     *
      * Before sending a line buffer, it must be XORED with the 32 bit signal shaping pattern
      * 0xFFE7F3E7 (i.e. the pixel data bits at positions which are 1 in the pattern must be
      * inverted).
      *
+     * @param pixels The ARGB pixels of the image
+     * @param width The width of the image, must be even
+     * @param height The height of the image
+     * @param lineStore A buffer for one line of pixels, must be at least of size width
+     * @param sourceStore The pixels of the previous frame, must be of size width * height
+     * @param frameStore Where to store the converted frame as little-endian words, must be of size
+     *            DATA_SZ / 4
+     * @param convertAll Convert all lines, e.g. if the source store does not contain a frame yet
+     * @return The number of converted lines
      * @see <a href=
      *      "https://github.com/Ableton/push-interface/blob/master/doc/AbletonPush2MIDIDisplayInterface.asc#324-xoring-pixel-data">XORing
      *      Pixel Data</a>
      */
-    private void signalShaping ()
+    static int convertFrame (final IntBuffer pixels, final int width, final int height, final int [] lineStore, final int [] sourceStore, final int [] frameStore, final boolean convertAll)
     {
-        for (int pos = 0; pos < this.byteStore.length; pos += 4)
+        final int lineWords = frameStore.length / height;
+        final int pixelWords = width / 2;
+
+        int converted = 0;
+        for (int y = 0; y < height; y++)
         {
-            this.byteStore[pos] ^= 0xE7;
-            this.byteStore[pos + 1] ^= 0xF3;
-            this.byteStore[pos + 2] ^= 0xE7;
-            this.byteStore[pos + 3] ^= 0xFF;
+            pixels.get (lineStore, 0, width);
+
+            final int lineStart = y * width;
+            if (!convertAll && Arrays.equals (lineStore, 0, width, sourceStore, lineStart, lineStart + width))
+                continue;
+            System.arraycopy (lineStore, 0, sourceStore, lineStart, width);
+            converted++;
+
+            int counter = y * lineWords;
+            for (int x = 0; x < width; x += 2)
+                frameStore[counter++] = (sPixelFromARGB (lineStore[x]) | sPixelFromARGB (lineStore[x + 1]) << 16) ^ SHAPING_PATTERN;
+
+            // The padding is zero, therefore only contains the pattern
+            for (int x = pixelWords; x < lineWords; x++)
+                frameStore[counter++] = SHAPING_PATTERN;
         }
+        return converted;
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
-        synchronized (this.bufferUpdateLock)
+        while (true)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
-        }
+            final IMemoryBlock imageBlock = this.imageBlocks.acquire ();
+            if (imageBlock == null)
+            {
+                // Stop if there is no new frame or another task has been scheduled in the meantime
+                this.isSendScheduled.set (false);
+                if (!this.imageBlocks.hasFrame () || !this.isSendScheduled.compareAndSet (false, true))
+                    return;
+                continue;
+            }
 
-        // Send the data
-        synchronized (this.sendLock)
-        {
-            if (this.usbDevice == null || this.usbEndpoint == null)
-                return;
+            final IUsbEndpoint endpoint = this.usbEndpoint;
+            if (this.usbDevice == null || endpoint == null)
+                continue;
+
+            endpoint.send (this.headerBlock, TIMEOUT);
+            endpoint.send (imageBlock, TIMEOUT);
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            this.framesSent.incrementAndGet ();
         }
     }
 
@@ -194,23 +258,21 @@ public class PushUsbDisplay
      */
     public void shutdown ()
     {
-        synchronized (this.sendLock)
+        // Let a pending transfer of the last frame finish
+        this.sendExecutor.shutdown ();
+        try
         {
-            this.usbDevice = null;
-            this.usbEndpoint = null;
-
-            this.sendExecutor.shutdown ();
-            try
-            {
-                if (!this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("USB Send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("USB Send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
+            if (!this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("USB Send executor did not end in 5 seconds.");
         }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("USB Send executor interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+
+        this.usbDevice = null;
+        this.usbEndpoint = null;
     }
 
 
@@ -225,13 +287,62 @@ public class PushUsbDisplay
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Get the number of frames which were sent to the display.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSent ()
+    {
+        return this.framesSent.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were not sent since they did not change.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSkipped ()
+    {
+        return this.framesSkipped.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were replaced by a newer frame before they could be sent.
+     *
+     * @return The number of frames
+     */
+    public long getFramesDropped ()
+    {
+        synchronized (this.bufferUpdateLock)
+        {
+            return this.imageBlocks.getDroppedFrames ();
+        }
+    }
+
+
+    /**
+     * Get the number of bytes of display data which were converted from changed lines.
+     *
+     * @return The number of bytes
+     */
+    public long getBytesConverted ()
+    {
+        return this.bytesConverted.get ();
+    }
+
+
+    /**
+     * Converts an ARGB pixel to the BGR565 format of the display.
+     *
+     * @param argb The pixel
+     * @return The 16-bit pixel
+     */
+    private static int sPixelFromARGB (final int argb)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        // Blue to bits 11-15, green to bits 5-10, red to bits 0-4
+        return argb << 8 & 0xF800 | argb >> 5 & 0x07E0 | argb >> 19 & 0x001F;
     }
 }
@@ -58,7 +58,7 @@ public class PolySequencerView extends AbstractPolySequencerView<PushControlSurf
         for (int row = 0; row < 128; row++)
         {
             notePosition.setNote (row);
-            if (clip.getStep (notePosition).getState () == StepState.START)
+            if (clip.getStepState (notePosition) == StepState.START)
                 this.editNote (clip, notePosition, true);
         }
     }
@@ -77,7 +77,7 @@ public class PolySequencerView extends AbstractPolySequencerView<PushControlSurf
             for (int row = 0; row < 128; row++)
             {
                 notePosition.setNote (row);
-                if (clip.getStep (notePosition).getState () == StepState.START)
+                if (clip.getStepState (notePosition) == StepState.START)
                     this.handleSequencerAreaRepeatOperator (clip, notePosition, 127, !isSelectPressed);
             }
             return true;
@@ -90,7 +90,7 @@ public class PolySequencerView extends AbstractPolySequencerView<PushControlSurf
             for (int row = 0; row < 128; row++)
             {
                 notePosition.setNote (row);
-                if (clip.getStep (notePosition).getState () == StepState.START)
+                if (clip.getStepState (notePosition) == StepState.START)
                     this.editNote (clip, notePosition, true);
             }
             return true;
@@ -65,7 +65,7 @@ public class DrumView extends AbstractDrumExView<APCControlSurface, APCConfigura
             final INoteClip cursorClip = this.getClip ();
             final int step = this.numColumns * (this.allRows - 1 - y) + x;
             final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), step, offsetY + this.selectedPad);
-            final StepState state = cursorClip.getStep (notePosition).getState ();
+            final StepState state = cursorClip.getStepState (notePosition);
             if (state == StepState.START)
             {
                 final NoteMode noteMode = (NoteMode) modeManager.get (Modes.NOTE);
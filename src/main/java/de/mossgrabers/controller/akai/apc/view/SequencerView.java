@@ -55,7 +55,7 @@ public class SequencerView extends AbstractNoteSequencerView<APCControlSurface,
             // Turn on Note mode if an existing note is pressed
             final INoteClip cursorClip = this.getClip ();
             final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), x, this.keyManager.map (y));
-            final StepState state = cursorClip.getStep (notePosition).getState ();
+            final StepState state = cursorClip.getStepState (notePosition);
             if (state == StepState.START)
             {
                 final NoteMode noteMode = (NoteMode) modeManager.get (Modes.NOTE);
@@ -137,6 +137,8 @@ public class FireConfiguration extends AbstractConfiguration
             this.notifyObservers (PAD_SATURATION);
         });
         this.isSettingActive.add (PAD_SATURATION);
+
+        this.activateDisplayFrameRateSetting (globalSettings, CATEGORY_HARDWARE_SETUP);
     }
 
 
@@ -121,7 +121,7 @@ public class FireControlSurface extends AbstractControlSurface<FireConfiguration
     {
         final IGraphicDisplay display = this.getGraphicsDisplay ();
         display.addElement (new LabelComponent ("Goodbye", null, ColorEx.BLACK, false, false, LabelLayout.PLAIN));
-        display.send ();
+        display.sendImmediately ();
 
         for (int i = 4; i < 8; i++)
             this.getLight (OutputID.get (OutputID.LED1, i)).turnOff ();
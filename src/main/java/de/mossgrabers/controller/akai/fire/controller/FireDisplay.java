@@ -4,7 +4,8 @@
 
 package de.mossgrabers.controller.akai.fire.controller;
 
-import java.util.Arrays;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 
 import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
@@ -35,13 +36,35 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
+    private static final int       NUM_STRIPES   = 8;
+    private static final int       STRIPE_PIXELS = 8 * 128;
     private static final int       STRIPE_SIZE   = 147;
     private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    private static final int       STRIPE_START  = 11;
+
+    /** The index of the byte in the stripe data for each pixel of a stripe. */
+    private static final short []  PIXEL_INDEX   = new short [STRIPE_PIXELS];
+    /** The bit in the byte of the stripe data for each pixel of a stripe. */
+    private static final byte []   PIXEL_MASK    = new byte [STRIPE_PIXELS];
+
+    static
+    {
+        // Re-map by tiling 7x8 block of translated pixels
+        for (int y = 0; y < 8; y++)
+        {
+            for (int x = 0; x < 128; x++)
+            {
+                final int remapBit = BIT_MUTATE[y][x % 7];
+                PIXEL_INDEX[y * 128 + x] = (short) (x / 7 * 8 + remapBit / 7);
+                PIXEL_MASK[y * 128 + x] = (byte) (1 << remapBit % 7);
+            }
+        }
+    }
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    /** The system exclusive messages of the stripes, which also store the last sent content. */
+    private final byte [] []       packets       = new byte [NUM_STRIPES] [12 + STRIPE_SIZE];
+    private final boolean []       dirtyStripes  = new boolean [NUM_STRIPES];
 
     private long                   lastSend      = System.currentTimeMillis ();
 
@@ -60,23 +83,33 @@ public class FireDisplay extends AbstractGraphicDisplay
 
         this.output = output;
 
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Pay-load length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Pay-load length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start column of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
+        for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
+        {
+            final byte [] data = this.packets[stripe];
+
+            data[0] = (byte) 0xF0;
+            data[1] = 0x47; // AKAI
+            data[2] = 0x7F; // All-Call
+            data[3] = 0x43; // Fire
+            data[4] = 0x0E; // WRITE OLED
+
+            // Pay-load length high
+            data[5] = (byte) (PACKET_SIZE / 128);
+            // Pay-load length low
+            data[6] = (byte) (PACKET_SIZE % 128);
+
+            // Start 8-pixel band of update
+            data[7] = (byte) stripe;
+            // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
+            data[8] = (byte) stripe;
+
+            // Start column of update
+            data[9] = 0x00;
+            // End column of update
+            data[10] = 0x7f;
+
+            data[data.length - 1] = (byte) 0xF7;
+        }
     }
 
 
@@ -95,59 +128,54 @@ public class FireDisplay extends AbstractGraphicDisplay
     @Override
     protected void send (final IBitmap image)
     {
-        synchronized (this.data)
+        synchronized (this.packets)
         {
             image.encode ( (imageBuffer, width, height) -> {
 
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
+                // Each pixel is one word (blue, green, red, alpha), get the position of the colors
+                final boolean isBigEndian = imageBuffer.order () == ByteOrder.BIG_ENDIAN;
+                final int blueShift = isBigEndian ? 24 : 0;
+                final int greenShift = isBigEndian ? 16 : 8;
+                final int redShift = isBigEndian ? 8 : 16;
+                final IntBuffer pixels = imageBuffer.asIntBuffer ();
+
+                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels and update only
+                // the bits which changed since the last frame
+                int pos = 0;
+                for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
                 {
-                    for (int y = 0; y < height / 8; y++)
+                    final byte [] data = this.packets[stripe];
+                    boolean isDirty = false;
+                    for (int pixel = 0; pixel < STRIPE_PIXELS; pixel++)
                     {
-                        for (int x = 0; x < width; x++)
+                        final int word = pixels.get (pos++);
+                        final boolean isOn = (byte) (word >> blueShift) + (byte) (word >> greenShift) + (byte) (word >> redShift) < 0;
+                        final int idx = STRIPE_START + PIXEL_INDEX[pixel];
+                        final byte mask = PIXEL_MASK[pixel];
+                        if ((data[idx] & mask) != 0 != isOn)
                         {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Re-map by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
+                            data[idx] ^= mask;
+                            isDirty = true;
                         }
                     }
+                    this.dirtyStripes[stripe] |= isDirty;
                 }
             });
 
-            // Convert to system exclusive and send to device
-            for (int stripe = 0; stripe < 8; stripe++)
+            // Send the system exclusive of the stripes to the device
+            for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
                 // Slow down display updates to not flood the device controller
                 // Send if content has change or every 3 seconds if there was no change to keep
                 // the display from going into sleep mode
                 final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
+                if (!this.dirtyStripes[stripe] && now - this.lastSend < 3000)
                     continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
+                this.dirtyStripes[stripe] = false;
                 this.lastSend = now;
 
-                this.output.sendSysex (this.data);
+                this.output.sendSysex (this.packets[stripe]);
             }
         }
     }
-}
\ No newline at end of file
+}
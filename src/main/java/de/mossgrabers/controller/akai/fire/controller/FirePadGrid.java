@@ -8,13 +8,11 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -41,8 +39,13 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private static final byte [] SYSEX_HEADER  = SysexBuilder.fromHex ("F0 47 7F 43 65");
+    private static final int     OFFSET_LENGTH = SYSEX_HEADER.length;
+    private static final int     OFFSET_DATA   = OFFSET_LENGTH + 2;
+
+    private final SysexBuilder   sysex         = new SysexBuilder (512);
+    private double               padBrightness = 1.0;
+    private double               padSaturation = 1.0;
 
 
     /**
@@ -82,64 +85,46 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
+        // The length is filled in when the content is complete
+        this.sysex.start (SYSEX_HEADER).add (0).add (0);
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = this.padInfos.next (0); note >= 0; note = this.padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
             final int index = note - 54;
             // Note: The exact PADx is not needed for getting the color
-            ColorEx color = this.colorManager.getColor (info.getColor (), ButtonID.PAD1);
+            ColorEx color = this.colorManager.getColor (this.padInfos.getColor (note), ButtonID.PAD1);
             // Do not scale black!
             if (!color.equals (ColorEx.BLACK))
                 color = color.scale (this.padBrightness, this.padSaturation);
             final int [] c = color.toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
+            this.sysex.add (index).add (c[0]).add (c[1]).add (c[2]);
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
+            if (this.padInfos.getBlinkColor (note) > 0)
+                this.blinkingLights.put (index, this.padInfos.get (note));
             else
-                this.blinkingLights.remove (key);
+                this.blinkingLights.remove (index);
         }
 
-        int length = this.padInfos.size ();
-
         // Toggle blink colors every 600ms
         if (this.checkBlinking ())
         {
-            length += this.blinkingLights.size ();
-
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+            for (int index = this.blinkingLights.next (0); index >= 0; index = this.blinkingLights.next (index + 1))
             {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
+                final int colorIndex = this.isBlink ? this.blinkingLights.getBlinkColor (index) : this.blinkingLights.getColor (index);
                 final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                this.sysex.add (index).add (c[0]).add (c[1]).add (c[2]);
             }
         }
 
         // No update necessary
-        if (sb.length () == 0)
+        final int length = this.sysex.getLength () - OFFSET_DATA;
+        if (length == 0)
             return;
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
-
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+        this.sysex.set (OFFSET_LENGTH, length / 128).set (OFFSET_LENGTH + 1, length % 128);
+        this.sysex.end ().send (this.output);
     }
 
 
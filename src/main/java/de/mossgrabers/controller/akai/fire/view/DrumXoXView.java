@@ -272,7 +272,7 @@ public class DrumXoXView extends AbstractDrumXoXView<FireControlSurface, FireCon
                 final int step = this.numColumns * (this.allRows - 1 - y) + x;
                 final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), step, sound);
                 final INoteClip clip = this.getClip ();
-                final StepState state = clip.getStep (notePosition).getState ();
+                final StepState state = clip.getStepState (notePosition);
                 if (state == StepState.START)
                 {
                     this.editNote (clip, notePosition, true);
@@ -160,7 +160,7 @@ public class PolySequencerView extends AbstractPolySequencerView<FireControlSurf
             for (int row = 0; row < 128; row++)
             {
                 notePosition.setNote (row);
-                if (clip.getStep (notePosition).getState () == StepState.START)
+                if (clip.getStepState (notePosition) == StepState.START)
                     this.editNote (clip, notePosition, true);
             }
             if (noteMode.getNoteEditor ().getNotes ().isEmpty ())
@@ -58,7 +58,7 @@ public class SequencerView extends AbstractNoteSequencerView<FireControlSurface,
                 final INoteClip clip = this.getClip ();
                 final int mappedY = this.keyManager.map (y);
                 final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), x, mappedY);
-                final StepState state = clip.getStep (notePosition).getState ();
+                final StepState state = clip.getStepState (notePosition);
                 if (state == StepState.START)
                 {
                     this.editNote (clip, notePosition, true);
@@ -165,7 +165,7 @@ public class DrumView extends BaseSequencerView
         for (int col = 0; col < DrumView.NUM_DISPLAY_COLS; col++)
         {
             notePosition.setStep (col);
-            final StepState stepState = clip.getStep (notePosition).getState ();
+            final StepState stepState = clip.getStepState (notePosition);
             final boolean hilite = col == hiStep;
             final int x = col % 8;
             final int y = col / 8;
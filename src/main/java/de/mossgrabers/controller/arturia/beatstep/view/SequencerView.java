@@ -163,7 +163,7 @@ public class SequencerView extends BaseSequencerView
             {
                 notePosition.setStep (col);
                 notePosition.setNote (this.scales.getNoteMatrix ()[this.offsetY + this.selectedPad]);
-                final StepState stepState = clip.getStep (notePosition).getState ();
+                final StepState stepState = clip.getStepState (notePosition);
                 padGrid.lightEx (col % 8, 1 - col / 8, getSequencerColor (stepState, col == hiStep));
             }
         }
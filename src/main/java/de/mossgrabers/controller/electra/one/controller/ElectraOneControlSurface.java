@@ -7,6 +7,7 @@ package de.mossgrabers.controller.electra.one.controller;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -32,6 +33,7 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExChunkBuffer;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -96,14 +98,6 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         0x45
     };
 
-    private static final int []          SYSEX_HDR_INT                      =
-    {
-        0xF0,
-        0x00,
-        0x21,
-        0x45
-    };
-
     // @formatter:off
 
     private static final byte []         SYSEX_INFO_DEVICE                 = { 0x02, 0x7F };
@@ -200,8 +194,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         TOUCH_PATTERN_TRIANGLE_5_10_12
     };
 
-    private static final int             CMD_START_POS                      = SYSEX_HDR_INT.length;
-    private static final int             SUB_CMD_START_POS                  = SYSEX_HDR_INT.length + 1;
+    private static final int             CMD_START_POS                      = SYSEX_HDR_BYTE.length;
+    private static final int             SUB_CMD_START_POS                  = SYSEX_HDR_BYTE.length + 1;
 
     // Command categories
     private static final int             CMD_INFO                           = 0x01;
@@ -228,7 +222,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
     private static final String                        SET_GROUP_TITLE              = "sgt(%s,\"%s\")";
 
-    private final List<int []>                         sysexChunks                  = new ArrayList<> ();
+    private final SysExChunkBuffer                     sysexChunks                  = new SysExChunkBuffer (1024);
     private final IMidiInput                           ctrlInput;
     private final IMidiOutput                          ctrlOutput;
     private final ObjectMapper                         mapper                       = new ObjectMapper ();
@@ -264,7 +258,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         this.ctrlInput = ctrlInput;
         this.ctrlOutput = ctrlOutput;
 
-        this.ctrlInput.setSysexCallback (this::handleSysEx);
+        this.ctrlInput.setBinarySysexCallback (this::handleSysEx);
     }
 
 
@@ -552,63 +546,31 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * method concatenates and stores the parts until the full message is received and then hands it
      * to the processing.
      *
-     * @param dataStr The data
+     * @param data The data
+     * @param length The length of the data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final byte [] data, final int length)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
-
-        int [] fullData = null;
+        if (length == 0)
+            return;
 
         synchronized (this.sysexChunks)
         {
-            if (data[0] == 0xF0 && !this.sysexChunks.isEmpty ())
-            {
+            if (data[0] == (byte) 0xF0 && !this.sysexChunks.isEmpty ())
                 this.host.error ("Unsound sysex message without ending F7 received.");
-                this.sysexChunks.clear ();
-            }
-            this.sysexChunks.add (data);
 
-            if (data[data.length - 1] == 0xF7)
+            if (this.sysexChunks.append (data, length))
             {
-                fullData = this.concatChunks ();
+                this.processSysEx (this.sysexChunks.getData (), this.sysexChunks.getLength ());
                 this.sysexChunks.clear ();
             }
         }
-
-        if (fullData != null)
-            this.processSysEx (fullData);
-    }
-
-
-    private int [] concatChunks ()
-    {
-        if (this.sysexChunks.size () == 1)
-            return this.sysexChunks.get (0);
-
-        // Determine the total length of the resulting array
-        int totalLength = 0;
-        for (final int [] array: this.sysexChunks)
-            totalLength += array.length;
-
-        // Create a new array to hold the concatenated arrays
-        final int [] result = new int [totalLength];
-
-        // Copy the arrays into the result array
-        int offset = 0;
-        for (final int [] array: this.sysexChunks)
-        {
-            System.arraycopy (array, 0, result, offset, array.length);
-            offset += array.length;
-        }
-
-        return result;
     }
 
 
-    private void processSysEx (final int [] data)
+    private void processSysEx (final byte [] data, final int length)
     {
-        if (Arrays.compareUnsigned (SYSEX_HDR_INT, 0, SYSEX_HDR_INT.length, data, 0, SYSEX_HDR_INT.length) != 0)
+        if (length <= SUB_CMD_START_POS || Arrays.compareUnsigned (SYSEX_HDR_BYTE, 0, SYSEX_HDR_BYTE.length, data, 0, SYSEX_HDR_BYTE.length) != 0)
             return;
 
         final int subCmdID = data[SUB_CMD_START_POS];
@@ -616,7 +578,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         switch (data[CMD_START_POS])
         {
             case CMD_INFO:
-                this.handleSysexCommandsInfo (subCmdID, data);
+                this.handleSysexCommandsInfo (subCmdID, data, length);
                 break;
 
             case CMD_CONTROLLER:
@@ -625,7 +587,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
             case CMD_SYSTEM_CALL:
                 if (subCmdID == SYSTEM_CALL_LOGGING)
-                    this.logMessage (data, 6);
+                    this.logMessage (data, length, 6);
                 break;
 
             default:
@@ -641,7 +603,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * @param commandID The information command ID
      * @param data The information data
      */
-    private void handleSysexCommandsController (final int commandID, final int [] data)
+    private void handleSysexCommandsController (final int commandID, final byte [] data)
     {
         switch (commandID)
         {
@@ -801,10 +763,11 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      *
      * @param commandID The information command ID
      * @param data The information data
+     * @param length The length of the data
      */
-    private void handleSysexCommandsInfo (final int commandID, final int [] data)
+    private void handleSysexCommandsInfo (final int commandID, final byte [] data, final int length)
     {
-        final JsonNode content = this.getContent (data);
+        final JsonNode content = this.getContent (data, length);
         switch (commandID)
         {
             case INFO_DEVICE:
@@ -923,12 +886,13 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * Log an information message to the console if logging is enabled.
      *
      * @param data The data to log
+     * @param length The length of the data
      * @param contentStart The start of the text message to log
      */
-    private void logMessage (final int [] data, final int contentStart)
+    private void logMessage (final byte [] data, final int length, final int contentStart)
     {
         if (this.configuration.isLogToConsoleEnabled ())
-            this.host.println (new String (data, contentStart, data.length - contentStart - 1));
+            this.host.println (new String (data, contentStart, length - contentStart - 1, StandardCharsets.ISO_8859_1));
     }
 
 
@@ -936,11 +900,12 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * Get and parse the JSON content of an information message
      *
      * @param data The data of the information message
+     * @param length The length of the data
      * @return The root node of the JSON structure
      */
-    private JsonNode getContent (final int [] data)
+    private JsonNode getContent (final byte [] data, final int length)
     {
-        final String content = StringUtils.integerArrayToString (SUB_CMD_START_POS + 1, data.length - SUB_CMD_START_POS - 2, data);
+        final String content = new String (data, SUB_CMD_START_POS + 1, length - SUB_CMD_START_POS - 2, StandardCharsets.ISO_8859_1);
         try
         {
             return this.mapper.readValue (content, JsonNode.class);
@@ -83,7 +83,7 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
     {
         super (host, configuration, colorManager, output, input, null, 430, 930);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setBinarySysexCallback (this::handleSysEx);
     }
 
 
@@ -132,25 +132,19 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
 
 
     /**
-     * Handle incoming system exclusive data. Messages are split up in chunks of 1024 bytes! This
-     * method concatenates and stores the parts until the full message is received and then hands it
-     * to the processing.
+     * Handle incoming system exclusive data.
      *
-     * @param dataStr The data
+     * @param data The data
+     * @param length The length of the data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final byte [] data, final int length)
     {
         // Check if it is an EC-4 message
-        final byte [] data = StringUtils.asBytes (StringUtils.fromHexStr (dataStr));
-        if (Arrays.compareUnsigned (SYSEX_HEADER, 0, SYSEX_HEADER.length, data, 0, SYSEX_HEADER.length) != 0 || data[data.length - 1] != (byte) 0xF7)
+        if (length <= SYSEX_HEADER.length || Arrays.compareUnsigned (SYSEX_HEADER, 0, SYSEX_HEADER.length, data, 0, SYSEX_HEADER.length) != 0 || data[length - 1] != (byte) 0xF7)
             return;
 
-        // Extract the content of the message
-        final int contentLength = data.length - SYSEX_HEADER.length - 1;
-        final byte [] content = new byte [contentLength];
-        System.arraycopy (data, SYSEX_HEADER.length, content, 0, contentLength);
-
-        this.handleSysexCommandsController (content);
+        // The content of the message is between the header and the closing F7
+        this.handleSysexCommandsController (data, SYSEX_HEADER.length, length - 1);
     }
 
 
@@ -158,13 +152,15 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
      * Handle all system exclusive messages for controller commands.
      *
      * @param data The information data
+     * @param start The index of the first byte of the content
+     * @param end The index after the last byte of the content
      */
-    private void handleSysexCommandsController (final byte [] data)
+    private void handleSysexCommandsController (final byte [] data, final int start, final int end)
     {
         int specialKey = -1;
         int shiftedKey = -1;
 
-        for (int offset = 0; offset < data.length; offset += 3)
+        for (int offset = start; offset + 2 < end; offset += 3)
         {
             if (data[offset] != CMD_APP_FUNC)
                 return;
@@ -253,6 +253,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
 
+    private static final int                         NUM_TYPES                    = CommandSlot.TYPE_MMC + 1;
+    private static final CommandSlot []              NO_SLOTS                     = new CommandSlot [0];
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -277,6 +280,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    /** The matching slots for each type, MIDI channel (16 = omni) and number. */
+    private CommandSlot [][][][]                     slotIndex;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
@@ -564,6 +569,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.clearNoteMap ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -620,26 +626,96 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Get all matching configured slot commands, if any.
+     * Get all matching configured slot commands, if any. The result is looked up in an index which
+     * is rebuilt only after the slots have changed.
      *
      * @param type The type
      * @param number The number
      * @param midiChannel The MIDI channel
-     * @return The list with all matching slot command, might be empty
+     * @return The matching slot commands in the order of the slots, might be empty, do not modify
+     */
+    public CommandSlot [] getSlotCommands (final int type, final int number, final int midiChannel)
+    {
+        final int num = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        if (type < 0 || type >= NUM_TYPES || num < 0 || num >= 128 || midiChannel < 0 || midiChannel > 16)
+            return NO_SLOTS;
+
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.slotIndex == null)
+                this.slotIndex = this.createSlotIndex ();
+            return this.slotIndex[type][midiChannel][num];
+        }
+    }
+
+
+    /**
+     * Create the index of the slots with a command for all types, MIDI channels and numbers. Slots
+     * on the omni channel are added to the entries of all MIDI channels. Pitch-bend slots are
+     * stored with number 0.
+     *
+     * @return The index
      */
-    public List<CommandSlot> getSlotCommands (final int type, final int number, final int midiChannel)
+    private CommandSlot [][][][] createSlotIndex ()
     {
-        final List<CommandSlot> results = new ArrayList<> ();
+        final int [][][] counts = new int [NUM_TYPES][17][128];
         for (final CommandSlot slot: this.commandSlots)
         {
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (!isIndexed (slot))
+                continue;
+            final int type = slot.getType ();
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            final int channel = slot.getMidiChannel ();
+            if (channel == 16)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    results.add (slot);
+                for (int c = 0; c <= 16; c++)
+                    counts[type][c][number]++;
             }
+            else
+                counts[type][channel][number]++;
         }
-        return results;
+
+        final CommandSlot [][][][] index = new CommandSlot [NUM_TYPES][17][128][];
+        for (int type = 0; type < NUM_TYPES; type++)
+        {
+            for (int channel = 0; channel <= 16; channel++)
+            {
+                for (int number = 0; number < 128; number++)
+                {
+                    final int count = counts[type][channel][number];
+                    index[type][channel][number] = count == 0 ? NO_SLOTS : new CommandSlot [count];
+                    counts[type][channel][number] = 0;
+                }
+            }
+        }
+
+        for (final CommandSlot slot: this.commandSlots)
+        {
+            if (!isIndexed (slot))
+                continue;
+            final int type = slot.getType ();
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            final int channel = slot.getMidiChannel ();
+            if (channel == 16)
+            {
+                for (int c = 0; c <= 16; c++)
+                    index[type][c][number][counts[type][c][number]++] = slot;
+            }
+            else
+                index[type][channel][number][counts[type][channel][number]++] = slot;
+        }
+        return index;
+    }
+
+
+    private static boolean isIndexed (final CommandSlot slot)
+    {
+        final int type = slot.getType ();
+        if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type >= NUM_TYPES)
+            return false;
+        final int number = slot.getNumber ();
+        final int channel = slot.getMidiChannel ();
+        return (type == CommandSlot.TYPE_PITCH_BEND || number >= 0 && number < 128) && channel >= 0 && channel <= 16;
     }
 
 
@@ -671,13 +747,15 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Clear the note map.
+     * Clear the note map and the index of the slot commands. Needs to be called whenever a slot
+     * changes.
      */
     public void clearNoteMap ()
     {
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotIndex = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
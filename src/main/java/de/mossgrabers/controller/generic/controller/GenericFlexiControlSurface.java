@@ -6,10 +6,8 @@ package de.mossgrabers.controller.generic.controller;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -25,7 +23,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogsFactory;
@@ -52,6 +49,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     private long                                          lastReceived          = 0;
     private int                                           lastCCReceived        = -1;
     private final int []                                  lastCCValues          = new int [128];
+    private final CommandSlot []                          matchedCommandSlots   = new CommandSlot [1];
 
     private boolean                                       isShiftPressed        = false;
     private boolean                                       isUpdatingValue       = false;
@@ -86,7 +84,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_SAVE, this::saveFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_LOAD, this::loadAndSelectFile);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setBinarySysexCallback (this::handleSysEx);
     }
 
 
@@ -218,7 +216,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
-    private CommandSlot processFunctionLayer (final List<CommandSlot> commandSlots, final MidiValue value)
+    private CommandSlot processFunctionLayer (final CommandSlot [] commandSlots, final MidiValue value)
     {
         // Check for layer switcher command
         for (final CommandSlot commandSlot: commandSlots)
@@ -303,17 +301,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
 
         // No Hi-Res
-        final List<CommandSlot> commandSlots = new ArrayList<> ();
+        final CommandSlot [] commandSlots;
         if (matchedCommandSlot == null)
         {
-            for (final CommandSlot commandSlot: this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel))
-            {
-                commandSlots.add (commandSlot);
+            commandSlots = this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel);
+            if (commandSlots.length > 0)
                 value = data2;
-            }
         }
         else
-            commandSlots.add (matchedCommandSlot);
+        {
+            commandSlots = this.matchedCommandSlots;
+            commandSlots[0] = matchedCommandSlot;
+        }
 
         final MidiValue midiValue = MidiValue.get (value, isHighResValue);
         this.handleCommand (this.processFunctionLayer (commandSlots, midiValue), midiValue);
@@ -349,12 +348,12 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     /**
      * Handle system exclusive for MMC commands.
      *
-     * @param dataStr The system exclusive data
+     * @param data The system exclusive data
+     * @param length The length of the data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final byte [] data, final int length)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        if (data.length != 6 || data[0] != 0xF0 || data[1] != 0x7F || data[3] != 0x06 || data[5] != 0xF7)
+        if (length != 6 || data[0] != (byte) 0xF0 || data[1] != 0x7F || data[3] != 0x06 || data[5] != (byte) 0xF7)
             return;
 
         // This is not (fully) correct but at least supports 16 device IDs (and 7F for ignore)
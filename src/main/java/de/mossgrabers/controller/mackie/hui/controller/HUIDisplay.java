@@ -4,15 +4,14 @@
 
 package de.mossgrabers.controller.mackie.hui.controller;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.LatestTaskScheduler;
+import de.mossgrabers.framework.utils.LatestTaskScheduler.Lane;
 
 
 /**
@@ -24,9 +23,10 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final byte [] SYSEX_DISPLAY_HEADER = SysexBuilder.fromHex ("F0 00 00 66 05 00 10");
 
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final Lane           lane                 = LatestTaskScheduler.getInstance ().createLane ();
+    private final SysexBuilder   sysex                = new SysexBuilder ();
 
 
     /**
@@ -48,9 +48,9 @@ public class HUIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text, final String previousText)
     {
-        if (this.executor.isShutdown ())
+        if (this.lane.isShutdown ())
             return;
-        this.executor.execute ( () -> {
+        this.lane.execute ( () -> {
             try
             {
                 this.sendDisplayLine (text);
@@ -70,15 +70,10 @@ public class HUIDisplay extends AbstractTextDisplay
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            final int start = cell * 4;
+            this.sysex.start (SYSEX_DISPLAY_HEADER).add (cell).addAscii (text, start, start + 4).end ().send (this.output);
         }
     }
 
@@ -89,32 +84,16 @@ public class HUIDisplay extends AbstractTextDisplay
     {
         this.notifyOnDisplay ("Please start " + this.host.getName () + "...");
 
-        final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
-        shutdownExecutor.execute ( () -> {
-
-            // Prevent further sends
-            this.executor.shutdown ();
-            try
-            {
-                if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("HUI display send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("HUI display send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
-
-        });
-        shutdownExecutor.shutdown ();
+        // Prevent further sends
+        this.lane.shutdown ();
         try
         {
-            if (!shutdownExecutor.awaitTermination (10, TimeUnit.SECONDS))
-                this.host.error ("HUI display shutdown executor did not end in 10 seconds.");
+            if (!this.lane.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("HUI display send did not end in 5 seconds.");
         }
         catch (final InterruptedException ex)
         {
-            this.host.error ("Display shutdown interrupted.", ex);
+            this.host.error ("HUI display send interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
     }
@@ -90,6 +90,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IProject;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterService.Reader;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.IChannel;
@@ -161,11 +162,16 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         MODE_ACRONYMS.put (Modes.USER, "US");
     }
 
+    private static final long       VU_INTERVAL      = 50;
+
     private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS, Modes.EQ_DEVICE_PARAMS, Modes.INSTRUMENT_DEVICE_PARAMS, Modes.USER);
 
     private final int []            vuValues         = new int [32];
     private final int []            vuValuesRight    = new int [32];
     private final int []            masterVuValues   = new int [2];
+    /** The subscribed VU meter for each channel of each device, followed by the master. */
+    private final int []            vuMeterIndices   = new int [4 * 8 + 2];
+    private final Reader            vuMeterReader;
     private final int []            faderValues      = new int [32];
     private int                     masterFaderValue = -1;
     private final int               numMCUDevices;
@@ -192,6 +198,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new SignedBit2RelativeValueChanger (16241 + 1, 10);
+        Arrays.fill (this.vuMeterIndices, -1);
+        this.vuMeterReader = host.getVuMeterService ().createReader (VU_INTERVAL, this.valueChanger.getUpperBound ());
         this.configuration = new MCUConfiguration (host, this.valueChanger, numMCUDevices, factory.getArpeggiatorModes ());
     }
 
@@ -825,6 +833,14 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     private void updateVUMeters ()
     {
         if (!this.configuration.isEnableVUMeters ())
+        {
+            this.vuMeterReader.unsubscribeAll ();
+            Arrays.fill (this.vuMeterIndices, -1);
+            return;
+        }
+
+        // Only send the VU meters with the refresh rate of the device
+        if (!this.vuMeterReader.sample ())
             return;
 
         final Modes activeMode = this.getSurface ().getModeManager ().getActiveID ();
@@ -853,33 +869,34 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             for (int i = 0; i < 8; i++)
             {
                 final int channel = extenderOffset + i;
-                final IChannel track = channelBank.getItem (channel);
+                final int meter = channelBank.getItem (channel).getVuMeterIndex ();
+                this.subscribeVuMeter (index * 8 + i, meter);
 
                 if (vuMeterStyle == VUMeterStyle.ASPARION)
                 {
-                    final int vuLeft = track.getVuLeft ();
+                    final int vuLeft = this.vuMeterReader.getLeft (meter);
                     final int scaledVuLeft = this.scaleVU (vuLeft);
                     if (this.vuValues[channel] != scaledVuLeft || alwaysSendVuMeters)
                     {
                         this.vuValues[channel] = scaledVuLeft;
-                        this.sendVUValue (output, i, scaledVuLeft, track.getVuLeftClipState (), false);
+                        this.sendVUValue (output, i, scaledVuLeft, this.vuMeterReader.isLeftClipping (meter), false);
                     }
-                    final int vuRight = track.getVuRight ();
+                    final int vuRight = this.vuMeterReader.getRight (meter);
                     final int scaledVuRight = this.scaleVU (vuRight);
                     if (this.vuValuesRight[channel] != scaledVuRight || alwaysSendVuMeters)
                     {
                         this.vuValuesRight[channel] = scaledVuRight;
-                        this.sendVUValue (output, i, scaledVuRight, track.getVuRightClipState (), true);
+                        this.sendVUValue (output, i, scaledVuRight, this.vuMeterReader.isRightClipping (meter), true);
                     }
                 }
                 else
                 {
-                    final int vu = track.getVu ();
+                    final int vu = this.vuMeterReader.getMono (meter);
                     final int scaledVu = this.scaleVU (vu);
                     if (this.vuValues[channel] != scaledVu || alwaysSendVuMeters)
                     {
                         this.vuValues[channel] = scaledVu;
-                        this.sendVUValue (output, i, scaledVu, track.getVuClipState (), false);
+                        this.sendVUValue (output, i, scaledVu, this.vuMeterReader.isClipping (meter), false);
                     }
                 }
             }
@@ -887,9 +904,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             // Stereo VUs of master channel, only available on iCON devices
             if (vuMeterStyle == VUMeterStyle.ICON && this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
             {
-                final IMasterTrack masterTrack = this.model.getMasterTrack ();
+                final int meter = this.model.getMasterTrack ().getVuMeterIndex ();
+                this.subscribeVuMeter (this.vuMeterIndices.length - 1, meter);
 
-                int vu = masterTrack.getVuLeft ();
+                int vu = this.vuMeterReader.getLeft (meter);
                 int scaledVu = this.scaleVU (vu);
                 if (this.masterVuValues[0] != scaledVu)
                 {
@@ -897,7 +915,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                     this.sendVUValue (output, 0, scaledVu, false, true);
                 }
 
-                vu = masterTrack.getVuRight ();
+                vu = this.vuMeterReader.getRight (meter);
                 scaledVu = this.scaleVU (vu);
                 if (this.masterVuValues[1] != scaledVu)
                 {
@@ -909,6 +927,29 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    /**
+     * Subscribe to the VU meter which is displayed at the given position. Unsubscribes the meter
+     * which was previously displayed there, if it is not displayed at another position.
+     *
+     * @param position The position of the channel on all devices
+     * @param meter The index of the VU meter
+     */
+    private void subscribeVuMeter (final int position, final int meter)
+    {
+        final int previous = this.vuMeterIndices[position];
+        if (previous == meter)
+            return;
+        this.vuMeterIndices[position] = meter;
+        this.vuMeterReader.subscribe (meter);
+        for (final int index: this.vuMeterIndices)
+        {
+            if (index == previous)
+                return;
+        }
+        this.vuMeterReader.unsubscribe (previous);
+    }
+
+
     private int scaleVU (final int vu)
     {
         final int range = this.configuration.getVuMeterStyle () == VUMeterStyle.MACKIE ? 12 : 13;
@@ -4,8 +4,6 @@
 
 package de.mossgrabers.controller.mackie.mcu.controller;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import de.mossgrabers.controller.mackie.mcu.MCUConfiguration;
@@ -16,7 +14,9 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.LatestTaskScheduler;
+import de.mossgrabers.framework.utils.LatestTaskScheduler.Lane;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -27,20 +27,20 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER           = "F0 00 00 66 ";
-    private static final String         SYSEX_DISPLAY_HEADER_MAIN      = SYSEX_DISPLAY_HEADER + "14 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = SYSEX_DISPLAY_HEADER_MAIN + "12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = SYSEX_DISPLAY_HEADER + "15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final byte []  SYSEX_DISPLAY_HEADER_MAIN      = SysexBuilder.fromHex ("F0 00 00 66 14");
+    private static final byte []  SYSEX_DISPLAY_HEADER1_MAIN     = SysexBuilder.fromHex ("F0 00 00 66 14 12");
+    private static final byte []  SYSEX_DISPLAY_HEADER1_EXTENDER = SysexBuilder.fromHex ("F0 00 00 66 15 12");
+    private static final byte []  SYSEX_DISPLAY_HEADER2          = SysexBuilder.fromHex ("F0 00 00 67 15 13");
 
-    private final boolean               isFirstDisplay;
-    private final boolean               isExtender;
-    private final boolean               isMainDevice;
-    private final Configuration         configuration;
+    private final boolean         isFirstDisplay;
+    private final boolean         isExtender;
+    private final boolean         isMainDevice;
+    private final Configuration   configuration;
 
-    private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
-    private boolean                     isShutdown                     = false;
-    private boolean                     insertSpace                    = true;
+    private final Lane []         lanes                          = new Lane [4];
+    private final SysexBuilder [] sysexBuilders                  = new SysexBuilder [4];
+    private boolean               isShutdown                     = false;
+    private boolean               insertSpace                    = true;
 
 
     /**
@@ -65,8 +65,12 @@ public class MCUDisplay extends AbstractTextDisplay
 
         this.centerNotification = false;
 
-        for (int i = 0; i < this.executors.length; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        final LatestTaskScheduler scheduler = LatestTaskScheduler.getInstance ();
+        for (int i = 0; i < this.lanes.length; i++)
+        {
+            this.lanes[i] = scheduler.createLane ();
+            this.sysexBuilders[i] = new SysexBuilder ();
+        }
     }
 
 
@@ -147,12 +151,12 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        executor.execute ( () -> {
+        final int index = row + (this.isFirstDisplay ? 0 : 2);
+        this.lanes[index].execute ( () -> {
             try
             {
                 int offset = 0;
-                String t = text;
+                int end = text.length ();
                 if (this.isAsparion () && previousText != null && text.length () == previousText.length ())
                 {
                     for (int i = 0; i < text.length (); i++)
@@ -163,20 +167,21 @@ public class MCUDisplay extends AbstractTextDisplay
                             break;
                         }
                     }
-                    int end = offset + 1;
+                    int last = offset + 1;
                     for (int i = previousText.length () - 1; i > offset; i--)
                     {
                         if (text.charAt (i) != previousText.charAt (i))
                         {
-                            end = i;
+                            last = i;
                             break;
                         }
                     }
-                    t = text.substring (offset, end + 1);
+                    end = Math.min (last + 1, text.length ());
                 }
 
-                final String hexStr = StringUtils.toHexStr (t.getBytes ());
-                this.output.sendSysex (new StringBuilder (this.getHeader (row, offset)).append (hexStr).append ("F7").toString ());
+                final SysexBuilder sysex = this.sysexBuilders[index];
+                this.startMessage (sysex, row, offset);
+                sysex.addAscii (text, offset, end).end ().send (this.output);
             }
             catch (final RuntimeException ex)
             {
@@ -186,29 +191,27 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader (final int row, final int offset)
+    private void startMessage (final SysexBuilder sysex, final int row, final int offset)
     {
-        final StringBuilder header = new StringBuilder ();
         final boolean isAsparion = this.isAsparion ();
 
         if (this.isFirstDisplay)
         {
             if (isAsparion)
-                header.append (SYSEX_DISPLAY_HEADER_MAIN).append ("1A ").append (StringUtils.toHexStr (offset)).append (' ').append (row == 0 ? "01 " : "02 ");
+                sysex.start (SYSEX_DISPLAY_HEADER_MAIN).add (0x1A).add (offset).add (row == 0 ? 0x01 : 0x02);
             else
-                header.append (this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN);
+                sysex.start (this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN);
         }
         else
         {
             if (isAsparion)
-                header.append (SYSEX_DISPLAY_HEADER_MAIN).append ("19 ").append (StringUtils.toHexStr (offset)).append (' ');
+                sysex.start (SYSEX_DISPLAY_HEADER_MAIN).add (0x19).add (offset);
             else
-                header.append (SYSEX_DISPLAY_HEADER2);
+                sysex.start (SYSEX_DISPLAY_HEADER2);
         }
 
         if (!isAsparion)
-            header.append (row == 0 ? "00 " : "38 ");
-        return header.toString ();
+            sysex.add (row == 0 ? 0x00 : 0x38);
     }
 
 
@@ -225,35 +228,20 @@ public class MCUDisplay extends AbstractTextDisplay
         // Prevent further sends
         this.isShutdown = true;
 
-        final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
-        shutdownExecutor.execute ( () -> {
-
-            for (final LatestTaskExecutor executor: this.executors)
+        for (final Lane lane: this.lanes)
+        {
+            lane.shutdown ();
+            try
             {
-                executor.shutdown ();
-                try
-                {
-                    if (!executor.awaitTermination (5, TimeUnit.SECONDS))
-                        this.host.error ("MCU display send executor did not end in 5 seconds.");
-                }
-                catch (final InterruptedException ex)
-                {
-                    this.host.error ("MCU display send executor interrupted.", ex);
-                    Thread.currentThread ().interrupt ();
-                }
+                if (!lane.awaitTermination (5, TimeUnit.SECONDS))
+                    this.host.error ("MCU display send did not end in 5 seconds.");
+            }
+            catch (final InterruptedException ex)
+            {
+                this.host.error ("MCU display send interrupted.", ex);
+                Thread.currentThread ().interrupt ();
+                return;
             }
-
-        });
-        shutdownExecutor.shutdown ();
-        try
-        {
-            if (!shutdownExecutor.awaitTermination (10, TimeUnit.SECONDS))
-                this.host.error ("MCU display shutdown executor did not end in 10 seconds.");
-        }
-        catch (final InterruptedException ex)
-        {
-            this.host.error ("Display shutdown interrupted.", ex);
-            Thread.currentThread ().interrupt ();
         }
     }
 
@@ -477,7 +477,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
                 button.setConsumed ();
                 final int length = step - s + 1;
                 final double duration = length * Resolution.getValueAt (this.drumView.getResolutionIndex ());
-                final StepState state = note < 0 ? StepState.OFF : clip.getStep (np).getState ();
+                final StepState state = note < 0 ? StepState.OFF : clip.getStepState (np);
                 if (state == StepState.START)
                     clip.updateStepDuration (np, duration);
                 else
@@ -528,7 +528,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
      */
     protected void editNote (final INoteClip clip, final NotePosition notePosition, final boolean addNote)
     {
-        final StepState state = clip.getStep (notePosition).getState ();
+        final StepState state = clip.getStepState (notePosition);
         if (state != StepState.START)
             return;
 
@@ -23,7 +23,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -101,7 +100,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         for (int i = 0; i < this.virtualFaders.length; i++)
             this.virtualFaders[i] = new VirtualFaderImpl (host, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setBinarySysexCallback (this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -308,11 +307,9 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final byte [] data, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data, length);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
@@ -6,13 +6,13 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadStateSet;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -44,7 +44,8 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final PadStateSet                    padInfos = new PadStateSet ();
+    private final SysexBuilder                   sysex    = new SysexBuilder (256);
 
 
     /**
@@ -93,8 +94,7 @@ public class LaunchpadPadGrid extends PadGridImpl
         {
             if (this.padInfos.isEmpty ())
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
+            this.definition.sendLEDUpdate (this.padInfos, this.sysex, this.output);
             this.padInfos.clear ();
         }
     }
@@ -106,7 +106,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.padInfos.setColor (note, color);
         }
     }
 
@@ -117,9 +117,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.padInfos.setBlink (note, blinkColor, fast);
         }
     }
 }
\ No newline at end of file
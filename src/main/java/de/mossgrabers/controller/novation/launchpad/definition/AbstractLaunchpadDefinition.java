@@ -8,13 +8,10 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.controller.grid.PadStateSet;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +25,8 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 {
     protected final ButtonSetup buttonSetup = new ButtonSetup ();
 
+    private byte []             sysExHeaderBytes;
+
 
     /**
      * Constructor.
@@ -111,36 +110,49 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final PadStateSet padInfos, final SysexBuilder sysex, final IMidiOutput output)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        sysex.start (this.getSysExHeaderBytes ()).add (0x03);
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int color = padInfos.getColor (note);
+            final int blinkColor = padInfos.getBlinkColor (note);
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                sysex.add (0x00).add (note).add (color);
             }
             else
             {
-                if (info.isFast ())
+                if (padInfos.isFast (note))
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysex.add (0x01).add (note).add (blinkColor).add (color);
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysex.add (0x02).add (note).add (color);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        sysex.end ().send (output);
+    }
+
+
+    /**
+     * Get the system exclusive header as bytes. The header is converted only once.
+     *
+     * @return The header bytes
+     */
+    protected byte [] getSysExHeaderBytes ()
+    {
+        if (this.sysExHeaderBytes == null)
+            this.sysExHeaderBytes = SysexBuilder.fromHex (this.getSysExHeader ());
+        return this.sysExHeaderBytes;
     }
 
 
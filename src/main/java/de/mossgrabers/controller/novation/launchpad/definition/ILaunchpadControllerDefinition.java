@@ -6,10 +6,10 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateSet;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 
@@ -94,12 +94,13 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Create and send the update system exclusive messages for all given pads.
      *
      * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param sysex The builder to use for creating the messages
+     * @param output The output to send the messages to
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (PadStateSet padInfos, SysexBuilder sysex, IMidiOutput output);
 
 
     /**
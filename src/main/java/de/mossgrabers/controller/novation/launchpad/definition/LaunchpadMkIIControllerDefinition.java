@@ -6,15 +6,13 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateSet;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -109,37 +107,44 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final PadStateSet padInfos, final SysexBuilder sysex, final IMidiOutput output)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        if (!padInfos.isEmpty ())
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            sysex.start (this.getSysExHeaderBytes ()).add (0x0A);
+            for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
+                sysex.add (note).add (padInfos.getColor (note));
+            sysex.end ().send (output);
+        }
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+        this.sendBlinkUpdate (padInfos, sysex, output, 0x23, true);
+        this.sendBlinkUpdate (padInfos, sysex, output, 0x28, false);
+    }
 
-            if (info.getBlinkColor () > 0)
+
+    /**
+     * Send the blink colors of all flashing or pulsing pads.
+     *
+     * @param padInfos The info how to update the pads
+     * @param sysex The builder to use for creating the message
+     * @param output The output to send the message to
+     * @param command The command for flashing (23h) or pulsing (28h)
+     * @param fast True to send the flashing pads, false to send the pulsing pads
+     */
+    private void sendBlinkUpdate (final PadStateSet padInfos, final SysexBuilder sysex, final IMidiOutput output, final int command, final boolean fast)
+    {
+        final int headerLength = sysex.start (this.getSysExHeaderBytes ()).add (command).getLength ();
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
+        {
+            final int blinkColor = padInfos.getBlinkColor (note);
+            if (blinkColor > 0 && padInfos.isFast (note) == fast)
             {
                 // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                sysex.add (0x00);
+                sysex.add (note).add (blinkColor);
             }
         }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        if (sysex.getLength () > headerLength)
+            sysex.end ().send (output);
     }
 }
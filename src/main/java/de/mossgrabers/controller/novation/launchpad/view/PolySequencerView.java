@@ -55,7 +55,7 @@ public class PolySequencerView extends AbstractPolySequencerView<LaunchpadContro
             for (int row = 0; row < 128; row++)
             {
                 notePosition.setNote (row);
-                if (clip.getStep (notePosition).getState () != StepState.OFF)
+                if (clip.getStepState (notePosition) != StepState.OFF)
                     this.handleSequencerAreaRepeatOperator (clip, notePosition, 127, isUpPressed);
             }
             return true;
@@ -85,7 +85,7 @@ public class PolySequencerView extends AbstractPolySequencerView<LaunchpadContro
             for (int row = 0; row < 128; row++)
             {
                 this.noteEditPosition.setNote (row);
-                if (clip.getStep (this.noteEditPosition).getState () == StepState.START)
+                if (clip.getStepState (this.noteEditPosition) == StepState.START)
                     this.editNote (clip, this.noteEditPosition, true);
             }
             return;
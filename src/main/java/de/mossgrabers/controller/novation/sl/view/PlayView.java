@@ -364,7 +364,7 @@ public class PlayView extends AbstractSequencerView<SLControlSurface, SLConfigur
             return SLControlSurface.MKII_BUTTON_STATE_OFF;
 
         final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), col, offsetY + this.selectedPad);
-        final StepState isSet = clip.getStep (notePosition).getState ();
+        final StepState isSet = clip.getStepState (notePosition);
         final boolean hilite = col == hiStep;
         return exists && (isSet != StepState.OFF || hilite) ? SLControlSurface.MKII_BUTTON_STATE_ON : SLControlSurface.MKII_BUTTON_STATE_OFF;
     }
@@ -12,7 +12,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -120,7 +119,7 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
 
         this.addTextDisplay (new SLMkIIIDisplay (host, output));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setBinarySysexCallback (this::handleSysEx);
 
         ((SLMkIIILightGuide) this.lightGuide).setActive (true);
     }
@@ -130,11 +129,11 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
      * Handle incoming system exclusive data.
      *
      * @param data The data
+     * @param length The length of the data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final byte [] data, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data, length);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
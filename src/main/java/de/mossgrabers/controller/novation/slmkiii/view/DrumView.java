@@ -154,7 +154,7 @@ public class DrumView extends AbstractDrumView<SLMkIIIControlSurface, SLMkIIICon
             final int y = col / GRID_COLUMNS;
 
             final Optional<ColorEx> rowColor = this.getPadColor (primary, this.selectedPad);
-            padGrid.lightEx (x, y, this.getStepColor (stepInfo, hilite, rowColor, channel, col, noteRow, editNotes));
+            padGrid.lightEx (x, y, this.getStepColorHandle (stepInfo, hilite, rowColor, channel, col, noteRow, editNotes));
         }
     }
 
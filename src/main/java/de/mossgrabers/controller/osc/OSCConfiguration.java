@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.osc;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -34,6 +35,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
 
     /** The number of assignable actions. */
     public static final int     NUM_ASSIGNABLE_ACTIONS = 20;
+    /** The maximum number of clients which can subscribe to address patterns. */
+    public static final int     MAX_SUBSCRIBERS        = 16;
 
 
     /** The resolution for values. */
@@ -60,9 +63,13 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private int                    maxPacketSize             = 1472;
+    private int                    maxSendRate               = 512;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private final String []        assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
+    private final List<String>     subscriberHosts           = new ArrayList<> ();
+    private final List<Integer>    subscriberPorts           = new ArrayList<> ();
 
 
     /**
@@ -100,6 +107,15 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IIntegerSetting maxPacketSizeSetting = globalSettings.getRangeSetting ("Max. UDP packet size (requires restart)", CATEGORY_SETUP, 512, 65507, 1, "Bytes", 1472);
+        this.maxPacketSize = maxPacketSizeSetting.get ().intValue ();
+
+        final IIntegerSetting maxSendRateSetting = globalSettings.getRangeSetting ("Max. send rate (requires restart)", CATEGORY_SETUP, 16, 65536, 16, "KB/s", 512);
+        this.maxSendRate = maxSendRateSetting.get ().intValue ();
+
+        final IStringSetting subscribersSetting = globalSettings.getStringSetting ("Clients which can subscribe, e.g. 192.168.0.5:9001 (requires restart)", CATEGORY_SETUP, 200, "");
+        this.parseSubscribers (subscribersSetting.get ());
+
         ///////////////////////////
         // Protocol
 
@@ -190,6 +206,63 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the maximum size of an UDP datagram which is sent to the OSC host.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Get the maximum rate with which data is sent to the OSC host.
+     *
+     * @return The rate in kilobytes per second
+     */
+    public int getMaxSendRate ()
+    {
+        return this.maxSendRate;
+    }
+
+
+    /**
+     * Get the number of clients which are configured to subscribe to address patterns.
+     *
+     * @return The number of clients
+     */
+    public int getNumberOfSubscribers ()
+    {
+        return this.subscriberHosts.size ();
+    }
+
+
+    /**
+     * Get the host of a client which is configured to subscribe to address patterns.
+     *
+     * @param index The index of the client
+     * @return The host name or IP
+     */
+    public String getSubscriberHost (final int index)
+    {
+        return this.subscriberHosts.get (index);
+    }
+
+
+    /**
+     * Get the port of a client which is configured to subscribe to address patterns.
+     *
+     * @param index The index of the client
+     * @return The port
+     */
+    public int getSubscriberPort (final int index)
+    {
+        return this.subscriberPorts.get (index).intValue ();
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -222,4 +295,51 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.assignableFunctionActions[index];
     }
+
+
+    /**
+     * Parse the clients which can subscribe to address patterns. The clients are separated by
+     * commas, each in the format host:port.
+     *
+     * @param value The value of the setting
+     */
+    private void parseSubscribers (final String value)
+    {
+        for (final String entry: value.split (","))
+        {
+            final String subscriber = entry.trim ();
+            if (subscriber.isEmpty ())
+                continue;
+
+            if (this.subscriberHosts.size () >= MAX_SUBSCRIBERS)
+            {
+                this.host.error ("Only " + MAX_SUBSCRIBERS + " OSC clients can subscribe. Ignoring: " + subscriber);
+                continue;
+            }
+
+            final int pos = subscriber.lastIndexOf (':');
+            final int port = pos > 0 ? parsePort (subscriber.substring (pos + 1).trim ()) : -1;
+            if (port < 1 || port > 65535)
+            {
+                this.host.error ("Subscribing OSC client must be in the format host:port: " + subscriber);
+                continue;
+            }
+
+            this.subscriberHosts.add (subscriber.substring (0, pos).trim ());
+            this.subscriberPorts.add (Integer.valueOf (port));
+        }
+    }
+
+
+    private static int parsePort (final String value)
+    {
+        try
+        {
+            return Integer.parseInt (value);
+        }
+        catch (final NumberFormatException ex)
+        {
+            return -1;
+        }
+    }
 }
@@ -19,6 +19,7 @@ import de.mossgrabers.controller.osc.module.MarkerModule;
 import de.mossgrabers.controller.osc.module.MidiModule;
 import de.mossgrabers.controller.osc.module.ProjectModule;
 import de.mossgrabers.controller.osc.module.SceneModule;
+import de.mossgrabers.controller.osc.module.SubscriptionModule;
 import de.mossgrabers.controller.osc.module.TrackModule;
 import de.mossgrabers.controller.osc.module.TransportModule;
 import de.mossgrabers.controller.osc.protocol.OSCParser;
@@ -191,7 +192,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort, this.configuration.getMaxPacketSize (), this.configuration.getMaxSendRate () * 1024);
         this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
 
         // Receive OSC messages
@@ -210,6 +211,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         modules.add (new MidiModule (this.host, this.model, surface, this.writer, this.keyManager));
         modules.add (new ActionModule (this.host, this.model, this.writer, this.configuration));
         modules.add (new ClipModule (this.host, this.model, this.writer));
+        modules.add (new SubscriptionModule (this.host, this.model, this.writer));
 
         modules.forEach (module -> {
             this.writer.registerModule (module);
@@ -4,19 +4,20 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.IClip;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddressBlock;
 import de.mossgrabers.framework.parameter.IParameter;
 
 
@@ -47,6 +48,33 @@ public abstract class AbstractModule implements IModule
     protected static final String     TAG_PREROLL       = "preroll";
     protected static final String     TAG_RESET         = "reset";
 
+    private static final int          PARAM_EXISTS      = 0;
+    private static final int          PARAM_NAME        = 1;
+    private static final int          PARAM_VALUE_STR   = 2;
+    private static final int          PARAM_VALUE       = 3;
+    private static final int          PARAM_MODULATED   = 4;
+    private static final int          PARAM_ACTIVATED   = 5;
+
+    private static final String []    PARAM_SUFFIXES    =
+    {
+        TAG_EXISTS,
+        TAG_NAME,
+        "valueStr",
+        "value",
+        "modulatedValue",
+        TAG_ACTIVATED
+    };
+
+    private static final String []    SEND_SUFFIXES     =
+    {
+        TAG_EXISTS,
+        TAG_NAME,
+        "volumeStr",
+        TAG_VOLUME,
+        "modulatedValue",
+        TAG_ACTIVATED
+    };
+
     protected final IHost             host;
     protected final IModel            model;
     protected IOpenSoundControlWriter writer;
@@ -169,7 +197,7 @@ public abstract class AbstractModule implements IModule
      * @return The sub-command
      * @throws MissingCommandException If the path is empty
      */
-    protected static String getSubCommand (final LinkedList<String> path) throws MissingCommandException
+    protected static String getSubCommand (final OSCPath path) throws MissingCommandException
     {
         if (path.isEmpty ())
             throw new MissingCommandException ();
@@ -177,6 +205,22 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Get the next sub-command from the path as an integer number and removes it from the path.
+     * The number is parsed in place without creating a string.
+     *
+     * @param path The path
+     * @return The number
+     * @throws MissingCommandException If the path is empty
+     */
+    protected static int getSubCommandInteger (final OSCPath path) throws MissingCommandException
+    {
+        if (path.isEmpty ())
+            throw new MissingCommandException ();
+        return path.removeFirstInteger ();
+    }
+
+
     /**
      * Flush all data of a parameter.
      *
@@ -187,15 +231,59 @@ public abstract class AbstractModule implements IModule
      */
     protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
     {
-        final boolean isSend = fxParam instanceof ISend;
-        if (isSend)
-            writer.sendOSC (fxAddress + TAG_ACTIVATED, ((ISend) fxParam).isEnabled (), dump);
+        this.flushParameterData (writer, this.createParameterAddresses (fxAddress, fxParam instanceof ISend), fxParam, dump);
+    }
+
 
-        writer.sendOSC (fxAddress + TAG_EXISTS, fxParam.doesExist (), dump);
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+    /**
+     * Flush all data of a parameter.
+     *
+     * @param writer Where to send the messages to
+     * @param addresses The addresses created with createParameterAddresses
+     * @param fxParam The parameter
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final OpenSoundControlAddressBlock addresses, final IParameter fxParam, final boolean dump)
+    {
+        if (fxParam instanceof final ISend send)
+            writer.sendOSC (addresses.get (PARAM_ACTIVATED), send.isEnabled (), dump);
+
+        writer.sendOSC (addresses.get (PARAM_EXISTS), fxParam.doesExist (), dump);
+        writer.sendOSC (addresses.get (PARAM_NAME), fxParam.getName (), dump);
+        writer.sendOSC (addresses.get (PARAM_VALUE_STR), fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (addresses.get (PARAM_VALUE), fxParam.getValue (), dump);
+        writer.sendOSC (addresses.get (PARAM_MODULATED), fxParam.getModulatedValue (), dump);
+    }
+
+
+    /**
+     * Register the addresses of a parameter at the writer.
+     *
+     * @param fxAddress The start address for the parameter
+     * @param isSend True if the parameter is a send
+     * @return The registered addresses
+     */
+    protected OpenSoundControlAddressBlock createParameterAddresses (final String fxAddress, final boolean isSend)
+    {
+        return new OpenSoundControlAddressBlock (this.writer, fxAddress, isSend ? SEND_SUFFIXES : PARAM_SUFFIXES);
+    }
+
+
+    /**
+     * Register the addresses of several numbered parameters, e.g. /device/param/1/ to
+     * /device/param/8/.
+     *
+     * @param address The start address for the parameters, e.g. /device/param/
+     * @param count The number of parameters
+     * @param isSend True if the parameters are sends
+     * @return The registered addresses
+     */
+    protected OpenSoundControlAddressBlock [] createParameterAddresses (final String address, final int count, final boolean isSend)
+    {
+        final OpenSoundControlAddressBlock [] addresses = new OpenSoundControlAddressBlock [count];
+        for (int i = 0; i < count; i++)
+            addresses[i] = this.createParameterAddresses (address + (i + 1) + "/", isSend);
+        return addresses;
     }
 
 
@@ -4,11 +4,11 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -50,7 +50,7 @@ public class BrowserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"browser".equals (command))
             throw new UnknownCommandException (command);
@@ -90,8 +90,7 @@ public class BrowserModule extends AbstractModule
                 break;
 
             case "filter":
-                final String indexCmd = getSubCommand (path);
-                int column = Integer.parseInt (indexCmd);
+                int column = getSubCommandInteger (path);
                 if (column < 1 || column > 6)
                     return;
                 column = column - 1;
@@ -4,12 +4,12 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -53,7 +53,7 @@ public class ClipModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"clip".equals (command))
             throw new UnknownCommandException (command);
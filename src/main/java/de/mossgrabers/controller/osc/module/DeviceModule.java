@@ -4,13 +4,13 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -32,6 +32,7 @@ import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddressBlock;
 import de.mossgrabers.framework.parameter.IParameter;
 
 
@@ -42,7 +43,55 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class DeviceModule extends AbstractModule
 {
+    private static final int       DEVICE_EXISTS             = 0;
+    private static final int       DEVICE_NAME               = 1;
+    private static final int       DEVICE_BYPASS             = 2;
+    private static final int       DEVICE_EXPAND             = 3;
+    private static final int       DEVICE_PARAMETERS         = 4;
+    private static final int       DEVICE_WINDOW             = 5;
+    private static final int       DEVICE_SELECTED_PAGE_NAME = 6;
+
+    private static final String [] DEVICE_SUFFIXES           =
+    {
+        TAG_EXISTS,
+        TAG_NAME,
+        TAG_BYPASS,
+        "expand",
+        "parameters",
+        "window",
+        "page/selected/" + TAG_NAME
+    };
+
+    private static final int       SIBLING_EXISTS            = 0;
+    private static final int       SIBLING_NAME              = 1;
+    private static final int       SIBLING_BYPASS            = 2;
+    private static final int       SIBLING_SELECTED          = 3;
+
+    private static final String [] SIBLING_SUFFIXES          =
+    {
+        TAG_EXISTS,
+        TAG_NAME,
+        TAG_BYPASS,
+        TAG_SELECTED
+    };
+
+    private static final int       PAGE_EXISTS               = 0;
+    private static final int       PAGE                      = 1;
+    private static final int       PAGE_NAME                 = 2;
+    private static final int       PAGE_SELECTED             = 3;
+
+    private static final String [] PAGE_SUFFIXES             =
+    {
+        TAG_EXISTS,
+        "",
+        TAG_NAME,
+        TAG_SELECTED
+    };
+
     private final OSCConfiguration configuration;
+    private DeviceAddresses        cursorDeviceAddresses;
+    private DeviceAddresses        primaryDeviceAddresses;
+    private DeviceAddresses        eqDeviceAddresses;
 
 
     /**
@@ -76,7 +125,7 @@ public class DeviceModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -105,7 +154,16 @@ public class DeviceModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
+        final ISpecificDevice primaryDevice = this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT);
+        final ISpecificDevice eqDevice = this.model.getSpecificDevice (DeviceID.EQ);
+        if (this.cursorDeviceAddresses == null)
+        {
+            this.cursorDeviceAddresses = new DeviceAddresses ("/device/", cd);
+            this.primaryDeviceAddresses = new DeviceAddresses ("/primary/", primaryDevice);
+            this.eqDeviceAddresses = new DeviceAddresses ("/eq/", eqDevice);
+        }
+
+        this.flushDevice (this.writer, this.cursorDeviceAddresses, cd, dump);
         this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
         if (cd.hasDrumPads ())
         {
@@ -119,8 +177,8 @@ public class DeviceModule extends AbstractModule
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
         this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDevice (this.writer, this.primaryDeviceAddresses, primaryDevice, dump);
+        this.flushDevice (this.writer, this.eqDeviceAddresses, eqDevice, dump);
     }
 
 
@@ -128,21 +186,23 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final DeviceAddresses addresses, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + TAG_BYPASS, !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        final OpenSoundControlAddressBlock deviceAddresses = addresses.device;
+        writer.sendOSC (deviceAddresses.get (DEVICE_EXISTS), device.doesExist (), dump);
+        writer.sendOSC (deviceAddresses.get (DEVICE_NAME), device.getName (), dump);
+        writer.sendOSC (deviceAddresses.get (DEVICE_BYPASS), !device.isEnabled (), dump);
+        writer.sendOSC (deviceAddresses.get (DEVICE_EXPAND), device.isExpanded (), dump);
+        writer.sendOSC (deviceAddresses.get (DEVICE_PARAMETERS), device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (deviceAddresses.get (DEVICE_WINDOW), device.isWindowOpen (), dump);
 
         if (device instanceof final IEqualizerDevice equalizer)
         {
+            final String deviceAddress = addresses.deviceAddress;
             for (int i = 0; i < equalizer.getBandCount (); i++)
             {
                 final int oneplus = i + 1;
@@ -161,37 +221,32 @@ public class DeviceModule extends AbstractModule
             final IDeviceBank deviceBank = cursorDevice.getDeviceBank ();
             for (int i = 0; i < deviceBank.getPageSize (); i++)
             {
-                final int oneplus = i + 1;
                 final IDevice siblingDevice = deviceBank.getItem (i);
-                final String siblingAddress = deviceAddress + "sibling/" + oneplus + "/";
-                writer.sendOSC (siblingAddress + TAG_EXISTS, siblingDevice.doesExist (), dump);
-                writer.sendOSC (siblingAddress + TAG_NAME, siblingDevice.getName (), dump);
-                writer.sendOSC (siblingAddress + TAG_BYPASS, !siblingDevice.isEnabled (), dump);
-                writer.sendOSC (siblingAddress + TAG_SELECTED, i == positionInBank, dump);
+                final OpenSoundControlAddressBlock siblingAddresses = addresses.siblings[i];
+                writer.sendOSC (siblingAddresses.get (SIBLING_EXISTS), siblingDevice.doesExist (), dump);
+                writer.sendOSC (siblingAddresses.get (SIBLING_NAME), siblingDevice.getName (), dump);
+                writer.sendOSC (siblingAddresses.get (SIBLING_BYPASS), !siblingDevice.isEnabled (), dump);
+                writer.sendOSC (siblingAddresses.get (SIBLING_SELECTED), i == positionInBank, dump);
             }
         }
 
         final IParameterBank parameterBank = device.getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (writer, addresses.parameters[i], parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterBank ().getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            final OpenSoundControlAddressBlock pageAddresses = addresses.pages[i];
+            writer.sendOSC (pageAddresses.get (PAGE_EXISTS), !pageName.isBlank (), dump);
+            writer.sendOSC (pageAddresses.get (PAGE), pageName, dump);
+            writer.sendOSC (pageAddresses.get (PAGE_NAME), pageName, dump);
+            writer.sendOSC (pageAddresses.get (PAGE_SELECTED), selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (deviceAddresses.get (DEVICE_SELECTED_PAGE_NAME), selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -231,14 +286,13 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "sibling":
-                final String siblingIndex = getSubCommand (path);
-                final int siblingNo = Integer.parseInt (siblingIndex);
+                final int siblingNo = getSubCommandInteger (path);
                 final String subCommand2 = getSubCommand (path);
                 switch (subCommand2)
                 {
@@ -287,14 +341,14 @@ public class DeviceModule extends AbstractModule
                 break;
 
             default:
-                path.add (0, command);
+                path.rewind ();
                 this.parseDeviceValue (cursorDevice, path, value);
                 break;
         }
     }
 
 
-    private void parseDeviceValue (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseDeviceValue (final ISpecificDevice device, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = device.getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -303,6 +357,11 @@ public class DeviceModule extends AbstractModule
         switch (command)
         {
             case TAG_PAGE:
+                if (path.isFirstInteger ())
+                {
+                    parameterPageBank.selectPage (path.removeFirstInteger () - 1);
+                    break;
+                }
                 final String subCommand = getSubCommand (path);
                 switch (subCommand)
                 {
@@ -311,16 +370,7 @@ public class DeviceModule extends AbstractModule
                         break;
 
                     default:
-                        try
-                        {
-                            final int index = Integer.parseInt (subCommand) - 1;
-                            parameterPageBank.selectPage (index);
-                        }
-                        catch (final NumberFormatException ex)
-                        {
-                            throw new UnknownCommandException (subCommand);
-                        }
-                        break;
+                        throw new UnknownCommandException (subCommand);
                 }
                 break;
 
@@ -360,42 +410,40 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case TAG_PARAM:
-                final String subCommand5 = getSubCommand (path);
-                try
+                if (path.isFirstInteger ())
                 {
-                    final int paramNo = Integer.parseInt (subCommand5) - 1;
+                    final int paramNo = path.removeFirstInteger () - 1;
                     parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+                    break;
                 }
-                catch (final NumberFormatException ex)
+                final String subCommand5 = getSubCommand (path);
+                if (isTrigger (value))
                 {
-                    if (isTrigger (value))
+                    switch (subCommand5)
                     {
-                        switch (subCommand5)
-                        {
-                            case "+":
-                                parameterPageBank.scrollForwards ();
-                                break;
-                            case "-":
-                                parameterPageBank.scrollBackwards ();
-                                break;
-
-                            case "bank":
-                                final String subCommand6 = getSubCommand (path);
-                                if (TAG_PAGE.equals (subCommand6))
-                                {
-                                    final String subCommand7 = getSubCommand (path);
-                                    if ("+".equals (subCommand7))
-                                        parameterPageBank.selectNextPage ();
-                                    else // "-"
-                                        parameterPageBank.selectPreviousPage ();
-                                }
-                                else
-                                    throw new UnknownCommandException (subCommand6);
-                                break;
-
-                            default:
-                                throw new UnknownCommandException (subCommand5);
-                        }
+                        case "+":
+                            parameterPageBank.scrollForwards ();
+                            break;
+                        case "-":
+                            parameterPageBank.scrollBackwards ();
+                            break;
+
+                        case "bank":
+                            final String subCommand6 = getSubCommand (path);
+                            if (TAG_PAGE.equals (subCommand6))
+                            {
+                                final String subCommand7 = getSubCommand (path);
+                                if ("+".equals (subCommand7))
+                                    parameterPageBank.selectNextPage ();
+                                else // "-"
+                                    parameterPageBank.selectPreviousPage ();
+                            }
+                            else
+                                throw new UnknownCommandException (subCommand6);
+                            break;
+
+                        default:
+                            throw new UnknownCommandException (subCommand5);
                     }
                 }
                 break;
@@ -416,61 +464,29 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "type":
-                final String subCommand1 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand1) - 1;
-                    equalizerDevice.setType (bandNo, EqualizerBandType.valueOf (toString (value).toUpperCase ()));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand1);
-                }
+                final int bandNo1 = getSubCommandInteger (path) - 1;
+                equalizerDevice.setType (bandNo1, EqualizerBandType.valueOf (toString (value).toUpperCase ()));
                 return true;
 
             case "gain":
-                final String subCommand2 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand2) - 1;
-                    equalizerDevice.getGainParameter (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand2);
-                }
+                final int bandNo2 = getSubCommandInteger (path) - 1;
+                equalizerDevice.getGainParameter (bandNo2).setValue (toInteger (value));
                 return true;
 
             case "freq":
-                final String subCommand3 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand3) - 1;
-                    equalizerDevice.getFrequencyParameter (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand3);
-                }
+                final int bandNo3 = getSubCommandInteger (path) - 1;
+                equalizerDevice.getFrequencyParameter (bandNo3).setValue (toInteger (value));
                 return true;
 
             case "q":
-                final String subCommand4 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand4) - 1;
-                    equalizerDevice.getQParameter (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand4);
-                }
+                final int bandNo4 = getSubCommandInteger (path) - 1;
+                equalizerDevice.getQParameter (bandNo4).setValue (toInteger (value));
                 return true;
 
             case "add":
@@ -481,71 +497,67 @@ public class DeviceModule extends AbstractModule
 
             default:
                 // Let this be handled by the normal device parser
-                path.add (0, command);
+                path.rewind ();
                 return false;
         }
     }
 
 
-    private void parseLayerOrDrumpad (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseLayerOrDrumpad (final ISpecificDevice device, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final ILayerBank layerBank = device.getLayerBank ();
 
+        if (path.isFirstInteger ())
+        {
+            this.parseDeviceLayerValue (device, path.removeFirstInteger () - 1, path, value);
+            return;
+        }
+
         final String command = getSubCommand (path);
-        try
+        if (TAG_SELECTED.equals (command) || TAG_SELECT.equals (command))
         {
-            final int layerNo;
-            if (TAG_SELECTED.equals (command) || TAG_SELECT.equals (command))
-            {
-                final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-                layerNo = selectedLayer.isEmpty () ? -1 : selectedLayer.get ().getIndex ();
-            }
-            else
-            {
-                layerNo = Integer.parseInt (command) - 1;
-            }
-            this.parseDeviceLayerValue (device, layerNo, path, value);
+            final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
+            this.parseDeviceLayerValue (device, selectedLayer.isEmpty () ? -1 : selectedLayer.get ().getIndex (), path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        switch (command)
         {
-            switch (command)
-            {
-                case "parent":
-                    if (device.doesExist () && device instanceof final ICursorDevice cursorDevice)
-                    {
-                        cursorDevice.selectParent ();
-                        cursorDevice.selectChannel ();
-                    }
-                    break;
+            case "parent":
+                if (device.doesExist () && device instanceof final ICursorDevice cursorDevice)
+                {
+                    cursorDevice.selectParent ();
+                    cursorDevice.selectChannel ();
+                }
+                break;
 
-                case "+":
-                    layerBank.selectNextItem ();
-                    break;
+            case "+":
+                layerBank.selectNextItem ();
+                break;
 
-                case "-":
-                    layerBank.selectPreviousItem ();
-                    break;
+            case "-":
+                layerBank.selectPreviousItem ();
+                break;
 
-                case TAG_PAGE:
-                    if (path.isEmpty ())
-                    {
-                        this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
-                        return;
-                    }
-                    if ("+".equals (path.get (0)))
-                        layerBank.selectNextPage ();
-                    else
-                        layerBank.selectPreviousPage ();
-                    break;
+            case TAG_PAGE:
+                if (path.isEmpty ())
+                {
+                    this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
+                    return;
+                }
+                if ("+".equals (path.getFirst ()))
+                    layerBank.selectNextPage ();
+                else
+                    layerBank.selectPreviousPage ();
+                break;
 
-                default:
-                    throw new UnknownCommandException (command);
-            }
+            default:
+                throw new UnknownCommandException (command);
         }
     }
 
 
-    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
+    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final OSCPath path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
     {
         final String command = getSubCommand (path);
         final ILayerBank layerBank = cursorDevice.getLayerBank ();
@@ -574,22 +586,22 @@ public class DeviceModule extends AbstractModule
             case TAG_VOLUME:
                 if (path.isEmpty ())
                     layer.setVolume (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.getFirst ()))
                     layer.setVolumeIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.getFirst ()))
                     layer.resetVolume ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
                     layer.touchVolume (isTrigger (value));
                 break;
 
             case "pan":
                 if (path.isEmpty ())
                     layer.setPan (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.getFirst ()))
                     layer.setPanIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.getFirst ()))
                     layer.resetPan ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
                     layer.touchPan (isTrigger (value));
                 break;
 
@@ -608,7 +620,7 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeFirstInteger () - 1;
                 if (path.isEmpty ())
                     return;
 
@@ -618,9 +630,9 @@ public class DeviceModule extends AbstractModule
                 {
                     if (path.isEmpty ())
                         send.setValue (toInteger (value));
-                    else if (TAG_INDICATE.equals (path.get (0)))
+                    else if (TAG_INDICATE.equals (path.getFirst ()))
                         send.setIndication (isTrigger (value));
-                    else if (TAG_TOUCHED.equals (path.get (0)))
+                    else if (TAG_TOUCHED.equals (path.getFirst ()))
                         send.touchValue (isTrigger (value));
                 }
                 else if (TAG_ACTIVATED.equals (cmd))
@@ -642,7 +654,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -667,4 +679,42 @@ public class DeviceModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
-}
+
+
+    /** The registered addresses of a device, its siblings, parameters and parameter pages. */
+    private class DeviceAddresses
+    {
+        private final String                          deviceAddress;
+        private final OpenSoundControlAddressBlock    device;
+        private final OpenSoundControlAddressBlock [] siblings;
+        private final OpenSoundControlAddressBlock [] parameters;
+        private final OpenSoundControlAddressBlock [] pages;
+
+
+        /**
+         * Constructor.
+         *
+         * @param deviceAddress The start address of the device
+         * @param device The device, to get the number of siblings, parameters and pages
+         */
+        DeviceAddresses (final String deviceAddress, final ISpecificDevice device)
+        {
+            final IOpenSoundControlWriter writer = DeviceModule.this.writer;
+
+            this.deviceAddress = deviceAddress;
+            this.device = new OpenSoundControlAddressBlock (writer, deviceAddress, DEVICE_SUFFIXES);
+
+            final int numSiblings = device instanceof final ICursorDevice cursorDevice ? cursorDevice.getDeviceBank ().getPageSize () : 0;
+            this.siblings = new OpenSoundControlAddressBlock [numSiblings];
+            for (int i = 0; i < numSiblings; i++)
+                this.siblings[i] = new OpenSoundControlAddressBlock (writer, deviceAddress + "sibling/" + (i + 1) + "/", SIBLING_SUFFIXES);
+
+            final IParameterBank parameterBank = device.getParameterBank ();
+            this.parameters = DeviceModule.this.createParameterAddresses (deviceAddress + "param/", parameterBank.getPageSize (), false);
+
+            this.pages = new OpenSoundControlAddressBlock [parameterBank.getPageBank ().getPageSize ()];
+            for (int i = 0; i < this.pages.length; i++)
+                this.pages[i] = new OpenSoundControlAddressBlock (writer, deviceAddress + "page/" + (i + 1) + "/", PAGE_SUFFIXES);
+        }
+    }
+}
\ No newline at end of file
@@ -7,8 +7,8 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 
-import java.util.LinkedList;
 
 
 /**
@@ -36,7 +36,7 @@ public interface IModule
      * @throws UnknownCommandException Unknown command
      * @throws MissingCommandException Missing sub-command
      */
-    void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    void execute (String command, OSCPath path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
     /**
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -14,7 +15,6 @@ import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
 
 
 /**
@@ -50,42 +50,41 @@ public class MarkerModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"marker".equals (command))
             throw new UnknownCommandException (command);
 
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isFirstInteger ())
         {
-            final int markerNo = Integer.parseInt (subCommand) - 1;
+            final int markerNo = path.removeFirstInteger () - 1;
             final String subCommand2 = getSubCommand (path);
             if ("launch".equals (subCommand2))
                 this.model.getMarkerBank ().getItem (markerNo).launch (true);
             else
                 throw new UnknownCommandException (subCommand2);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        final IMarkerBank markerBank = this.model.getMarkerBank ();
+        if ("bank".equals (subCommand))
         {
-            final IMarkerBank markerBank = this.model.getMarkerBank ();
-            if ("bank".equals (subCommand))
+            final String subCommand2 = getSubCommand (path);
+            switch (subCommand2)
             {
-                final String subCommand2 = getSubCommand (path);
-                switch (subCommand2)
-                {
-                    case "+":
-                        markerBank.selectNextPage ();
-                        break;
-                    case "-":
-                        markerBank.selectPreviousPage ();
-                        break;
-                    default:
-                        throw new UnknownCommandException (subCommand2);
-                }
+                case "+":
+                    markerBank.selectNextPage ();
+                    break;
+                case "-":
+                    markerBank.selectPreviousPage ();
+                    break;
+                default:
+                    throw new UnknownCommandException (subCommand2);
             }
-            else
-                throw new UnknownCommandException (subCommand);
         }
+        else
+            throw new UnknownCommandException (subCommand);
     }
 
 
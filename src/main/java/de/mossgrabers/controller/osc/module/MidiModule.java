@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
@@ -24,7 +25,6 @@ import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.LinkedList;
 
 
 /**
@@ -71,7 +71,7 @@ public class MidiModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("vkb_midi".equals (command))
             this.parseMidi (path, value);
@@ -113,39 +113,18 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseMidi (final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    private void parseMidi (final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final OSCConfiguration conf = this.surface.getConfiguration ();
 
-        final String command = getSubCommand (path);
-
-        switch (command)
+        // The MIDI channel is parsed in place, all other segments are commands
+        if (!path.isFirstInteger ())
         {
-            case "velocity":
-                final int numValue = toInteger (value);
-                conf.setAccentEnabled (numValue > 0);
-                if (numValue > 0)
-                    conf.setFixedAccentValue (numValue);
-                return;
-
-            case "noterepeat":
-                this.parseNoteRepeat (path, value);
-                return;
-
-            default:
-                // Fall through
-                break;
+            this.parseMidiCommand (conf, path, value);
+            return;
         }
 
-        int midiChannel;
-        try
-        {
-            midiChannel = Math.min (Math.max (0, Integer.parseInt (command) - 1), 15);
-        }
-        catch (final NumberFormatException ex)
-        {
-            throw new UnknownCommandException (command);
-        }
+        final int midiChannel = Math.min (Math.max (0, path.removeFirstInteger () - 1), 15);
 
         final String subCommand = getSubCommand (path);
         final IMidiInput input = this.surface.getMidiInput ();
@@ -162,6 +141,12 @@ public class MidiModule extends AbstractModule
                     return;
                 }
 
+                if (path.isFirstInteger ())
+                {
+                    this.sendNote (conf, midiChannel, input, path.removeFirstInteger (), toInteger (value));
+                    break;
+                }
+
                 final String n = getSubCommand (path);
                 switch (n)
                 {
@@ -182,12 +167,17 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        this.sendNote (conf, midiChannel, input, Integer.parseInt (n), toInteger (value));
-                        break;
+                        throw new UnknownCommandException (n);
                 }
                 break;
 
             case "drum":
+                if (path.isFirstInteger ())
+                {
+                    this.sendDrumNote (conf, midiChannel, input, path.removeFirstInteger (), toInteger (value));
+                    break;
+                }
+
                 final String n2 = getSubCommand (path);
                 switch (n2)
                 {
@@ -208,14 +198,7 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        final int note = Integer.parseInt (n2);
-                        int numValue = toInteger (value);
-                        if (numValue > 0)
-                            numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
-                        final int data0 = this.model.getScales ().getDrumMatrix ()[note];
-                        if (data0 >= 0)
-                            input.sendRawMidiEvent (MidiConstants.CMD_NOTE_ON + midiChannel, data0, numValue);
-                        break;
+                        throw new UnknownCommandException (n2);
                 }
                 break;
 
@@ -225,7 +208,7 @@ public class MidiModule extends AbstractModule
                     this.host.println ("Missing MIDI CC value.");
                     return;
                 }
-                final int cc = Integer.parseInt (path.removeFirst ());
+                final int cc = path.removeFirstInteger ();
                 input.sendRawMidiEvent (MidiConstants.CMD_CC + midiChannel, cc, toInteger (value));
                 break;
 
@@ -236,7 +219,7 @@ public class MidiModule extends AbstractModule
                     input.sendRawMidiEvent (MidiConstants.CMD_CHANNEL_AFTERTOUCH + midiChannel, 0, numValue);
                     return;
                 }
-                final int note = Integer.parseInt (path.removeFirst ());
+                final int note = path.removeFirstInteger ();
                 input.sendRawMidiEvent (MidiConstants.CMD_POLY_AFTERTOUCH + midiChannel, this.surface.getKeyTranslationTable ()[note], numValue);
                 break;
 
@@ -245,7 +228,7 @@ public class MidiModule extends AbstractModule
                 break;
 
             default:
-                throw new UnknownCommandException (command);
+                throw new UnknownCommandException (subCommand);
         }
     }
 
@@ -267,6 +250,38 @@ public class MidiModule extends AbstractModule
     }
 
 
+    /**
+     * Parse the virtual MIDI commands which are not specific to a MIDI channel.
+     *
+     * @param conf The configuration
+     * @param path The rest of the path
+     * @param value The value
+     * @throws MissingCommandException Could not find the sub-command
+     * @throws UnknownCommandException Unknown sub-command
+     * @throws IllegalParameterException Added an illegal parameter
+     */
+    private void parseMidiCommand (final OSCConfiguration conf, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        final String command = getSubCommand (path);
+        switch (command)
+        {
+            case "velocity":
+                final int numValue = toInteger (value);
+                conf.setAccentEnabled (numValue > 0);
+                if (numValue > 0)
+                    conf.setFixedAccentValue (numValue);
+                return;
+
+            case "noterepeat":
+                this.parseNoteRepeat (path, value);
+                return;
+
+            default:
+                throw new UnknownCommandException (command);
+        }
+    }
+
+
     /**
      * Send the note.
      *
@@ -293,6 +308,24 @@ public class MidiModule extends AbstractModule
     }
 
 
+    /**
+     * Send a note of the drum matrix.
+     *
+     * @param conf The configuration
+     * @param midiChannel The MIDI channel
+     * @param input Where to send
+     * @param note The index of the note in the drum matrix
+     * @param numValue The note velocity
+     */
+    private void sendDrumNote (final OSCConfiguration conf, final int midiChannel, final IMidiInput input, final int note, final int numValue)
+    {
+        final int value = numValue > 0 && conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
+        final int data0 = this.model.getScales ().getDrumMatrix ()[note];
+        if (data0 >= 0)
+            input.sendRawMidiEvent (MidiConstants.CMD_NOTE_ON + midiChannel, data0, value);
+    }
+
+
     /**
      * Parse note repeat parameters.
      *
@@ -302,7 +335,7 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseNoteRepeat (final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseNoteRepeat (final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final INoteInput noteInput = this.surface.getMidiInput ().getDefaultNoteInput ();
         if (noteInput == null)
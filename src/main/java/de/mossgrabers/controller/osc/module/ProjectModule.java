@@ -4,12 +4,12 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -53,7 +53,7 @@ public class ProjectModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"project".equals (command))
             throw new UnknownCommandException (command);
@@ -96,76 +96,68 @@ public class ProjectModule extends AbstractModule
     }
 
 
-    private void parseParamValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseParamValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isFirstInteger ())
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
+            final int paramNo = path.removeFirstInteger () - 1;
             parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
         {
-            switch (subCommand)
-            {
-                case "+":
-                    if (isTrigger (value))
-                        parameterBank.selectNextItem ();
-                    break;
-
-                case "-":
-                    if (isTrigger (value))
-                        parameterBank.selectPreviousItem ();
-                    break;
-
-                case "bank":
-                    final String subCommand2 = getSubCommand (path);
-                    if (TAG_PAGE.equals (subCommand2))
-                    {
-                        final IParameterPageBank pageBank = parameterBank.getPageBank ();
-                        final String directionCommand = getSubCommand (path);
-                        if ("+".equals (directionCommand))
-                            pageBank.selectNextPage ();
-                        else // "-"
-                            pageBank.selectPreviousPage ();
-                    }
-                    else
-                        throw new UnknownCommandException (subCommand2);
-                    break;
-
-                default:
-                    throw new UnknownCommandException (subCommand);
-            }
+            case "+":
+                if (isTrigger (value))
+                    parameterBank.selectNextItem ();
+                break;
+
+            case "-":
+                if (isTrigger (value))
+                    parameterBank.selectPreviousItem ();
+                break;
+
+            case "bank":
+                final String subCommand2 = getSubCommand (path);
+                if (TAG_PAGE.equals (subCommand2))
+                {
+                    final IParameterPageBank pageBank = parameterBank.getPageBank ();
+                    final String directionCommand = getSubCommand (path);
+                    if ("+".equals (directionCommand))
+                        pageBank.selectNextPage ();
+                    else // "-"
+                        pageBank.selectPreviousPage ();
+                }
+                else
+                    throw new UnknownCommandException (subCommand2);
+                break;
+
+            default:
+                throw new UnknownCommandException (subCommand);
         }
     }
 
 
-    private void parsePageValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parsePageValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
-        final String subCommand = getSubCommand (path);
-        if ("select".equals (subCommand) || "selected".equals (subCommand))
+        if (path.isFirstInteger ())
         {
-            parameterPageBank.selectPage (toInteger (value) - 1);
-        }
-        else
-        {
-            try
-            {
-                final int index = Integer.parseInt (subCommand) - 1;
-                parameterPageBank.selectPage (index);
-            }
-            catch (final NumberFormatException ex2)
-            {
-                throw new UnknownCommandException (subCommand);
-            }
+            parameterPageBank.selectPage (path.removeFirstInteger () - 1);
+            return;
         }
+
+        final String subCommand = getSubCommand (path);
+        if (!"select".equals (subCommand) && !"selected".equals (subCommand))
+            throw new UnknownCommandException (subCommand);
+        parameterPageBank.selectPage (toInteger (value) - 1);
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -4,12 +4,12 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -51,13 +51,19 @@ public class SceneModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"scene".equals (command))
             throw new UnknownCommandException (command);
 
-        final String sceneCommand = getSubCommand (path);
         final ISceneBank sceneBank = this.model.getCurrentTrackBank ().getSceneBank ();
+        if (path.isFirstInteger ())
+        {
+            parseSceneValue (sceneBank.getItem (path.removeFirstInteger () - 1), path, value);
+            return;
+        }
+
+        final String sceneCommand = getSubCommand (path);
         switch (sceneCommand)
         {
             case "bank":
@@ -98,47 +104,50 @@ public class SceneModule extends AbstractModule
                 break;
 
             default:
-                final int sceneIndex = Integer.parseInt (sceneCommand);
-                final IScene scene = sceneBank.getItem (sceneIndex - 1);
-                final String sceneCommand2 = getSubCommand (path);
-                switch (sceneCommand2)
-                {
-                    case TAG_SELECT:
-                        if (isTrigger (value))
-                            scene.select ();
-                        break;
+                throw new UnknownCommandException (sceneCommand);
+        }
+    }
 
-                    case "launch":
-                        scene.launch (isTrigger (value), false);
-                        break;
 
-                    case "launchAlt":
-                        scene.launch (isTrigger (value), false);
-                        break;
+    private static void parseSceneValue (final IScene scene, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException
+    {
+        final String sceneCommand2 = getSubCommand (path);
+        switch (sceneCommand2)
+        {
+            case TAG_SELECT:
+                if (isTrigger (value))
+                    scene.select ();
+                break;
 
-                    case TAG_DUPLICATE:
-                        scene.duplicate ();
-                        break;
+            case "launch":
+                scene.launch (isTrigger (value), false);
+                break;
 
-                    case TAG_REMOVE:
-                        scene.remove ();
-                        break;
+            case "launchAlt":
+                scene.launch (isTrigger (value), false);
+                break;
 
-                    case TAG_NAME:
-                        if (value != null && scene.doesExist ())
-                            scene.setName (value.toString ());
-                        break;
+            case TAG_DUPLICATE:
+                scene.duplicate ();
+                break;
 
-                    case TAG_COLOR:
-                        final Optional<ColorEx> color = matchColor (toString (value));
-                        if (color.isPresent () && scene.doesExist ())
-                            scene.setColor (color.get ());
-                        break;
+            case TAG_REMOVE:
+                scene.remove ();
+                break;
 
-                    default:
-                        throw new UnknownCommandException (sceneCommand2);
-                }
+            case TAG_NAME:
+                if (value != null && scene.doesExist ())
+                    scene.setName (value.toString ());
                 break;
+
+            case TAG_COLOR:
+                final Optional<ColorEx> color = matchColor (toString (value));
+                if (color.isPresent () && scene.doesExist ())
+                    scene.setColor (color.get ());
+                break;
+
+            default:
+                throw new UnknownCommandException (sceneCommand2);
         }
     }
 
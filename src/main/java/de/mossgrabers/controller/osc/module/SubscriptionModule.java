@@ -0,0 +1,89 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Commands to subscribe additional clients to address patterns, e.g. /subscribe "192.168.0.5" 9000
+ * "/track/*&#47;volume" "/transport". The first two parameters are the host and port of the client,
+ * followed by any number of patterns. The client must be configured in the settings. /unsubscribe
+ * with the same parameters removes patterns, without patterns all patterns of the client are
+ * removed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SubscriptionModule extends AbstractModule
+{
+    private final OSCWriter oscWriter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param model The model
+     * @param writer The writer
+     */
+    public SubscriptionModule (final IHost host, final IModel model, final OSCWriter writer)
+    {
+        super (host, model, writer);
+
+        this.oscWriter = writer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSupportedCommands ()
+    {
+        return new String []
+        {
+            "subscribe",
+            "unsubscribe"
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        if (!(value instanceof final Object [] values) || values.length < 2)
+            throw new IllegalParameterException ("Host and port parameters missing");
+
+        final String clientHost = toString (values[0]);
+        final int clientPort = toInteger (values[1]);
+        final List<String> patterns = new ArrayList<> (values.length - 2);
+        for (int i = 2; i < values.length; i++)
+            patterns.add (toString (values[i]));
+
+        switch (command)
+        {
+            case "subscribe":
+                if (patterns.isEmpty ())
+                    throw new IllegalParameterException ("Address pattern missing");
+                this.oscWriter.subscribe (clientHost, clientPort, patterns);
+                break;
+
+            case "unsubscribe":
+                this.oscWriter.unsubscribe (clientHost, clientPort, patterns);
+                break;
+
+            default:
+                throw new UnknownCommandException (command);
+        }
+    }
+}
@@ -4,7 +4,6 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -12,10 +11,12 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterService.Reader;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -28,6 +29,7 @@ import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddressBlock;
 import de.mossgrabers.framework.parameter.IParameter;
 
 
@@ -38,7 +40,93 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final int                TRACK_EXISTS              = 0;
+    private static final int                TRACK_TYPE                = 1;
+    private static final int                TRACK_ACTIVATED           = 2;
+    private static final int                TRACK_SELECTED            = 3;
+    private static final int                TRACK_IS_GROUP            = 4;
+    private static final int                TRACK_NAME                = 5;
+    private static final int                TRACK_VOLUME_STR          = 6;
+    private static final int                TRACK_VOLUME              = 7;
+    private static final int                TRACK_PAN_STR             = 8;
+    private static final int                TRACK_PAN                 = 9;
+    private static final int                TRACK_MUTE                = 10;
+    private static final int                TRACK_SOLO                = 11;
+    private static final int                TRACK_RECARM              = 12;
+    private static final int                TRACK_MONITOR             = 13;
+    private static final int                TRACK_AUTO_MONITOR        = 14;
+    private static final int                TRACK_CAN_HOLD_NOTES      = 15;
+    private static final int                TRACK_CAN_HOLD_AUDIO      = 16;
+    private static final int                TRACK_POSITION            = 17;
+    private static final int                TRACK_PINNED              = 18;
+    private static final int                TRACK_COLOR               = 19;
+    private static final int                TRACK_CROSSFADE_A         = 20;
+    private static final int                TRACK_CROSSFADE_B         = 21;
+    private static final int                TRACK_CROSSFADE_AB        = 22;
+    private static final int                TRACK_RECORD_QUANTIZATION = 23;
+    private static final int                TRACK_VU                  = 24;
+
+    private static final String []          TRACK_SUFFIXES            =
+    {
+        TAG_EXISTS,
+        "type",
+        TAG_ACTIVATED,
+        TAG_SELECTED,
+        "isGroup",
+        TAG_NAME,
+        "volumeStr",
+        TAG_VOLUME,
+        "panStr",
+        "pan",
+        "mute",
+        "solo",
+        "recarm",
+        "monitor",
+        "autoMonitor",
+        "canHoldNotes",
+        "canHoldAudioData",
+        "position",
+        "pinned",
+        TAG_COLOR,
+        "crossfadeMode/A",
+        "crossfadeMode/B",
+        "crossfadeMode/AB",
+        "recordQuantization",
+        "vu"
+    };
+
+    private static final int                CLIP_NAME                 = 0;
+    private static final int                CLIP_IS_SELECTED          = 1;
+    private static final int                CLIP_HAS_CONTENT          = 2;
+    private static final int                CLIP_IS_PLAYING           = 3;
+    private static final int                CLIP_IS_RECORDING         = 4;
+    private static final int                CLIP_IS_PLAYING_QUEUED    = 5;
+    private static final int                CLIP_IS_RECORDING_QUEUED  = 6;
+    private static final int                CLIP_IS_STOP_QUEUED       = 7;
+    private static final int                CLIP_COLOR                = 8;
+
+    private static final String []          CLIP_SUFFIXES             =
+    {
+        TAG_NAME,
+        "isSelected",
+        "hasContent",
+        "isPlaying",
+        "isRecording",
+        "isPlayingQueued",
+        "isRecordingQueued",
+        "isStopQueued",
+        TAG_COLOR
+    };
+
+    private static final long               VU_INTERVAL               = 100;
+
+    private final OSCConfiguration          configuration;
+    private final Reader                    vuMeterReader;
+
+    private TrackAddresses []               trackAddresses            = new TrackAddresses [0];
+    private TrackAddresses                  masterAddresses;
+    private TrackAddresses                  selectedTrackAddresses;
+    private OpenSoundControlAddressBlock [] parameterAddresses;
 
 
     /**
@@ -54,6 +142,7 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+        this.vuMeterReader = host.getVuMeterService ().createReader (VU_INTERVAL, model.getValueChanger ().getUpperBound ());
     }
 
 
@@ -71,21 +160,18 @@ public class TrackModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
             case "track":
-                final String subCommand = getSubCommand (path);
-                try
+                if (path.isFirstInteger ())
                 {
-                    final int trackNo = Integer.parseInt (subCommand) - 1;
+                    final int trackNo = path.removeFirstInteger () - 1;
                     this.parseTrackValue (this.model.getCurrentTrackBank ().getItem (trackNo), path, value);
                 }
-                catch (final NumberFormatException ex)
-                {
-                    this.parseTrackCommands (subCommand, path, value);
-                }
+                else
+                    this.parseTrackCommands (getSubCommand (path), path, value);
                 break;
 
             case "master":
@@ -103,22 +189,22 @@ public class TrackModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+        final int pageSize = trackBank.getPageSize ();
+        if (this.trackAddresses.length < pageSize)
+            this.createTrackAddresses (trackBank);
+        this.vuMeterReader.sample ();
+        for (int i = 0; i < pageSize; i++)
+            this.flushTrack (this.writer, this.trackAddresses[i], trackBank.getItem (i), dump);
+        this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
+        this.flushTrack (this.writer, this.selectedTrackAddresses, cursorTrack, dump);
         this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
         this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
 
         // Flush track parameters
-        final String paramAddress = "/track/param/";
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (this.writer, this.parameterAddresses[i], parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
@@ -141,72 +227,115 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses for the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        final OpenSoundControlAddressBlock trackAddresses = addresses.track;
+
+        writer.sendOSC (trackAddresses.get (TRACK_EXISTS), track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_TYPE), type == null ? null : type.name ().toLowerCase (Locale.US), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_ACTIVATED), track.isActivated (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_SELECTED), track.isSelected (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_IS_GROUP), track.isGroup (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_NAME), track.getName (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_VOLUME_STR), track.getVolumeStr (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_VOLUME), track.getVolume (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_PAN_STR), track.getPanStr (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_PAN), track.getPan (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_MUTE), track.isMute (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_SOLO), track.isSolo (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_RECARM), track.isRecArm (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_MONITOR), track.isMonitor (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_AUTO_MONITOR), track.isAutoMonitor (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_CAN_HOLD_NOTES), track.canHoldNotes (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_CAN_HOLD_AUDIO), track.canHoldAudioData (), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_POSITION), track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (trackAddresses.get (TRACK_PINNED), cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, addresses.sends[i], sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final OpenSoundControlAddressBlock clipAddresses = addresses.clips[i];
+            writer.sendOSC (clipAddresses.get (CLIP_NAME), slot.getName (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_IS_SELECTED), slot.isSelected (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_HAS_CONTENT), slot.hasContent (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_IS_PLAYING), slot.isPlaying (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_IS_RECORDING), slot.isRecording (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_IS_PLAYING_QUEUED), slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_IS_RECORDING_QUEUED), slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddresses.get (CLIP_IS_STOP_QUEUED), slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddresses.get (CLIP_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackAddresses.get (TRACK_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_CROSSFADE_A), "A".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_CROSSFADE_B), "B".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddresses.get (TRACK_CROSSFADE_AB), "AB".equals (crossfadeMode), dump);
+
+        writer.sendOSC (trackAddresses.get (TRACK_RECORD_QUANTIZATION), track.getRecordQuantizationGrid ().getValue (), dump);
+
+        writer.sendOSC (trackAddresses.get (TRACK_VU), this.getVu (addresses, track), dump);
+    }
 
-        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    /**
+     * Get the VU value of a track, sampled with the refresh interval of the OSC VU meters.
+     * Subscribes the VU meter of the track and unsubscribes the meter of the track which was
+     * previously flushed to the addresses.
+     *
+     * @param addresses The addresses for the track
+     * @param track The track
+     * @return The VU value, 0 if VU meters are disabled
+     */
+    private int getVu (final TrackAddresses addresses, final ITrack track)
+    {
+        final int meter = this.configuration.isEnableVUMeters () ? track.getVuMeterIndex () : -1;
+        if (addresses.vuMeter != meter)
+        {
+            this.vuMeterReader.unsubscribe (addresses.vuMeter);
+            this.vuMeterReader.subscribe (meter);
+            addresses.vuMeter = meter;
+        }
+        return this.vuMeterReader.getMono (meter);
     }
 
 
-    private void parseTrackCommands (final String command, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    /**
+     * Register the addresses of all flushed tracks and the track parameters at the writer.
+     *
+     * @param trackBank The track bank
+     */
+    private void createTrackAddresses (final ITrackBank trackBank)
+    {
+        // The new addresses start without VU meter subscriptions
+        this.vuMeterReader.unsubscribeAll ();
+        this.trackAddresses = new TrackAddresses [trackBank.getPageSize ()];
+        for (int i = 0; i < this.trackAddresses.length; i++)
+            this.trackAddresses[i] = new TrackAddresses ("/track/" + (i + 1) + "/", trackBank.getItem (i));
+        this.masterAddresses = new TrackAddresses ("/master/", this.model.getMasterTrack ());
+        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
+        this.selectedTrackAddresses = new TrackAddresses ("/track/selected/", cursorTrack);
+        this.parameterAddresses = this.createParameterAddresses ("/track/param/", cursorTrack.getParameterBank ().getPageSize (), false);
+    }
+
+
+    private void parseTrackCommands (final String command, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         switch (command)
@@ -225,7 +354,7 @@ public class TrackModule extends AbstractModule
                             tb.getItem (i).setPanIndication (isTrue);
                         break;
                     case "send":
-                        final int sendIndex = Integer.parseInt (path.get (0)) - 1;
+                        final int sendIndex = getSubCommandInteger (path) - 1;
                         for (int i = 0; i < tb.getPageSize (); i++)
                             tb.getItem (i).getSendBank ().getItem (sendIndex).setIndication (isTrue);
                         break;
@@ -351,7 +480,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
+    private void parseTrackValue (final ITrack track, final OSCPath path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -400,22 +529,22 @@ public class TrackModule extends AbstractModule
             case TAG_VOLUME:
                 if (path.isEmpty ())
                     track.setVolume (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.getFirst ()))
                     track.setVolumeIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.getFirst ()))
                     track.resetVolume ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
                     track.touchVolume (isTrigger (value));
                 break;
 
             case "pan":
                 if (path.isEmpty ())
                     track.setPan (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.getFirst ()))
                     track.setPanIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.getFirst ()))
                     track.resetPan ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
                     track.touchPan (isTrigger (value));
                 break;
 
@@ -455,7 +584,7 @@ public class TrackModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeFirstInteger () - 1;
                 parseSendValue (track, sendNo, path, value);
                 break;
 
@@ -498,49 +627,11 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseClipValue (final ITrack track, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseClipValue (final ITrack track, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
-        final String command = getSubCommand (path);
-
-        try
-        {
-            final int clipNo = Integer.parseInt (command) - 1;
-            final String clipCommand = getSubCommand (path);
-            final ISlot slot = track.getSlotBank ().getItem (clipNo);
-            switch (clipCommand)
-            {
-                case TAG_SELECT, TAG_SELECTED:
-                    slot.select ();
-                    break;
-                case "launch":
-                    slot.launch (toInteger (value) > 0, false);
-                    break;
-                case "launchAlt":
-                    slot.launch (toInteger (value) > 0, true);
-                    return;
-                case "record":
-                    this.model.recordNoteClip (track, slot);
-                    break;
-                case "create":
-                    this.model.createNoteClip (track, slot, toInteger (value), true);
-                    break;
-                case TAG_DUPLICATE:
-                    slot.duplicate ();
-                    break;
-                case TAG_REMOVE:
-                    slot.remove ();
-                    break;
-                case TAG_COLOR:
-                    final Optional<ColorEx> color = matchColor (toString (value));
-                    if (color.isPresent ())
-                        slot.setColor (color.get ());
-                    break;
-                default:
-                    throw new UnknownCommandException (clipCommand);
-            }
-        }
-        catch (final NumberFormatException ex)
+        if (!path.isFirstInteger ())
         {
+            final String command = getSubCommand (path);
             switch (command)
             {
                 case "stop":
@@ -552,11 +643,47 @@ public class TrackModule extends AbstractModule
                 default:
                     throw new UnknownCommandException (command);
             }
+            return;
+        }
+
+        final int clipNo = path.removeFirstInteger () - 1;
+        final String clipCommand = getSubCommand (path);
+        final ISlot slot = track.getSlotBank ().getItem (clipNo);
+        switch (clipCommand)
+        {
+            case TAG_SELECT, TAG_SELECTED:
+                slot.select ();
+                break;
+            case "launch":
+                slot.launch (toInteger (value) > 0, false);
+                break;
+            case "launchAlt":
+                slot.launch (toInteger (value) > 0, true);
+                return;
+            case "record":
+                this.model.recordNoteClip (track, slot);
+                break;
+            case "create":
+                this.model.createNoteClip (track, slot, toInteger (value), true);
+                break;
+            case TAG_DUPLICATE:
+                slot.duplicate ();
+                break;
+            case TAG_REMOVE:
+                slot.remove ();
+                break;
+            case TAG_COLOR:
+                final Optional<ColorEx> color = matchColor (toString (value));
+                if (color.isPresent ())
+                    slot.setColor (color.get ());
+                break;
+            default:
+                throw new UnknownCommandException (clipCommand);
         }
     }
 
 
-    private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseSendValue (final ITrack track, final int sendIndex, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ISend send = track.getSendBank ().getItem (sendIndex);
         if (send == null)
@@ -572,11 +699,11 @@ public class TrackModule extends AbstractModule
             case TAG_VOLUME:
                 if (path.isEmpty ())
                     send.setValue (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.getFirst ()))
                     send.setIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.getFirst ()))
                     send.resetValue ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
                     send.touchValue (isTrigger (value));
                 break;
             default:
@@ -585,76 +712,68 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseParamValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseParamValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isFirstInteger ())
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
+            final int paramNo = path.removeFirstInteger () - 1;
             parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
         {
-            switch (subCommand)
-            {
-                case "+":
-                    if (isTrigger (value))
-                        parameterBank.selectNextItem ();
-                    break;
+            case "+":
+                if (isTrigger (value))
+                    parameterBank.selectNextItem ();
+                break;
 
-                case "-":
-                    if (isTrigger (value))
-                        parameterBank.selectPreviousItem ();
-                    break;
+            case "-":
+                if (isTrigger (value))
+                    parameterBank.selectPreviousItem ();
+                break;
 
-                case "bank":
-                    final String subCommand2 = getSubCommand (path);
-                    if (TAG_PAGE.equals (subCommand2))
-                    {
-                        final IParameterPageBank pageBank = parameterBank.getPageBank ();
-                        final String directionCommand = getSubCommand (path);
-                        if ("+".equals (directionCommand))
-                            pageBank.selectNextPage ();
-                        else // "-"
-                            pageBank.selectPreviousPage ();
-                    }
-                    else
-                        throw new UnknownCommandException (subCommand2);
-                    break;
+            case "bank":
+                final String subCommand2 = getSubCommand (path);
+                if (TAG_PAGE.equals (subCommand2))
+                {
+                    final IParameterPageBank pageBank = parameterBank.getPageBank ();
+                    final String directionCommand = getSubCommand (path);
+                    if ("+".equals (directionCommand))
+                        pageBank.selectNextPage ();
+                    else // "-"
+                        pageBank.selectPreviousPage ();
+                }
+                else
+                    throw new UnknownCommandException (subCommand2);
+                break;
 
-                default:
-                    throw new UnknownCommandException (subCommand);
-            }
+            default:
+                throw new UnknownCommandException (subCommand);
         }
     }
 
 
-    private void parsePageValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parsePageValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
-        final String subCommand = getSubCommand (path);
-        if ("select".equals (subCommand) || "selected".equals (subCommand))
+        if (path.isFirstInteger ())
         {
-            parameterPageBank.selectPage (toInteger (value) - 1);
-        }
-        else
-        {
-            try
-            {
-                final int index = Integer.parseInt (subCommand) - 1;
-                parameterPageBank.selectPage (index);
-            }
-            catch (final NumberFormatException ex2)
-            {
-                throw new UnknownCommandException (subCommand);
-            }
+            parameterPageBank.selectPage (path.removeFirstInteger () - 1);
+            return;
         }
+
+        final String subCommand = getSubCommand (path);
+        if (!"select".equals (subCommand) && !"selected".equals (subCommand))
+            throw new UnknownCommandException (subCommand);
+        parameterPageBank.selectPage (toInteger (value) - 1);
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -679,4 +798,31 @@ public class TrackModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
-}
+
+
+    /** The registered addresses of a track, its sends and clips. */
+    private class TrackAddresses
+    {
+        private final OpenSoundControlAddressBlock    track;
+        private final OpenSoundControlAddressBlock [] sends;
+        private final OpenSoundControlAddressBlock [] clips;
+        private int                                   vuMeter = -1;
+
+
+        /**
+         * Constructor.
+         *
+         * @param trackAddress The start address of the track
+         * @param track The track, to get the number of sends and clips
+         */
+        TrackAddresses (final String trackAddress, final ITrack track)
+        {
+            final IOpenSoundControlWriter writer = TrackModule.this.writer;
+            this.track = new OpenSoundControlAddressBlock (writer, trackAddress, TRACK_SUFFIXES);
+            this.sends = TrackModule.this.createParameterAddresses (trackAddress + "send/", track.getSendBank ().getPageSize (), true);
+            this.clips = new OpenSoundControlAddressBlock [track.getSlotBank ().getPageSize ()];
+            for (int i = 0; i < this.clips.length; i++)
+                this.clips[i] = new OpenSoundControlAddressBlock (writer, trackAddress + "clip/" + (i + 1) + "/", CLIP_SUFFIXES);
+        }
+    }
+}
\ No newline at end of file
@@ -4,7 +4,6 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Locale;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
@@ -12,6 +11,7 @@ import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.command.trigger.transport.PlayCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -21,6 +21,7 @@ import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.LaunchQuantization;
 import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddressBlock;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -31,10 +32,64 @@ import de.mossgrabers.framework.utils.ButtonEvent;
  */
 public class TransportModule extends AbstractModule
 {
-    private static final String                                    TAG_LAUNCHER = "launcher";
+    private static final String                                    TAG_LAUNCHER                             = "launcher";
+
+    private static final int                                       ADDR_PLAY                                = 0;
+    private static final int                                       ADDR_RECORD                              = 1;
+    private static final int                                       ADDR_OVERDUB                             = 2;
+    private static final int                                       ADDR_OVERDUB_LAUNCHER                    = 3;
+    private static final int                                       ADDR_REPEAT                              = 4;
+    private static final int                                       ADDR_PUNCH_IN                            = 5;
+    private static final int                                       ADDR_PUNCH_OUT                           = 6;
+    private static final int                                       ADDR_CLICK                               = 7;
+    private static final int                                       ADDR_CLICK_TICKS                         = 8;
+    private static final int                                       ADDR_CLICK_VOLUME                        = 9;
+    private static final int                                       ADDR_CLICK_VOLUME_STR                    = 10;
+    private static final int                                       ADDR_CLICK_PREROLL                       = 11;
+    private static final int                                       ADDR_PREROLL                             = 12;
+    private static final int                                       ADDR_TEMPO_RAW                           = 13;
+    private static final int                                       ADDR_CROSSFADE                           = 14;
+    private static final int                                       ADDR_AUTOWRITE                           = 15;
+    private static final int                                       ADDR_AUTOWRITE_LAUNCHER                  = 16;
+    private static final int                                       ADDR_AUTOMATION_WRITE_MODE               = 17;
+    private static final int                                       ADDR_TIME_STR                            = 18;
+    private static final int                                       ADDR_TIME_SIGNATURE                      = 19;
+    private static final int                                       ADDR_BEAT_STR                            = 20;
+    private static final int                                       ADDR_LAUNCHER_POST_RECORDING_ACTION      = 21;
+    private static final int                                       ADDR_LAUNCHER_POST_RECORDING_TIME_OFFSET = 22;
+    private static final int                                       ADDR_LAUNCHER_DEFAULT_QUANTIZATION       = 23;
+
+    private static final String []                                 ADDRESSES                                =
+    {
+        "/play",
+        "/record",
+        "/overdub",
+        "/overdub/launcher",
+        "/repeat",
+        "/punchIn",
+        "/punchOut",
+        "/click",
+        "/click/ticks",
+        "/click/volume",
+        "/click/volumeStr",
+        "/click/preroll",
+        "/preroll",
+        "/tempo/raw",
+        "/crossfade",
+        "/autowrite",
+        "/autowrite/launcher",
+        "/automationWriteMode",
+        "/time/str",
+        "/time/signature",
+        "/beat/str",
+        "/launcher/postRecordingAction",
+        "/launcher/postRecordingTimeOffset",
+        "/launcher/defaultQuantization"
+    };
 
     private final ITransport                                       transport;
     private final PlayCommand<OSCControlSurface, OSCConfiguration> playCommand;
+    private final OpenSoundControlAddressBlock                     addresses;
 
 
     /**
@@ -51,6 +106,7 @@ public class TransportModule extends AbstractModule
 
         this.transport = model.getTransport ();
         this.playCommand = new PlayCommand<> (model, surface);
+        this.addresses = new OpenSoundControlAddressBlock (writer, "", ADDRESSES);
     }
 
 
@@ -85,7 +141,7 @@ public class TransportModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final boolean isTrigger = isTrigger (value);
 
@@ -119,7 +175,7 @@ public class TransportModule extends AbstractModule
                 break;
 
             case "overdub":
-                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.get (0)))
+                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.getFirst ()))
                     this.transport.toggleLauncherOverdub ();
                 else
                     this.transport.toggleOverdub ();
@@ -215,7 +271,7 @@ public class TransportModule extends AbstractModule
                     this.transport.changePosition (numValue >= 0, Math.abs (numValue) <= 1);
                     break;
                 }
-                final String positionCommand = path.get (0);
+                final String positionCommand = path.getFirst ();
                 switch (positionCommand)
                 {
                     case "+":
@@ -241,12 +297,12 @@ public class TransportModule extends AbstractModule
             case "crossfade":
                 if (path.isEmpty ())
                     this.transport.setCrossfade (toInteger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.getFirst ()))
                     this.transport.getCrossfadeParameter ().resetValue ();
                 break;
 
             case "autowrite":
-                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.get (0)))
+                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.getFirst ()))
                     this.transport.toggleWriteClipLauncherAutomation ();
                 else
                     this.transport.toggleWriteArrangerAutomation ();
@@ -262,7 +318,7 @@ public class TransportModule extends AbstractModule
                 break;
 
             case TAG_LAUNCHER:
-                final String launcherCommand = path.get (0);
+                final String launcherCommand = path.getFirst ();
                 switch (launcherCommand)
                 {
                     case "postRecordingAction":
@@ -290,29 +346,29 @@ public class TransportModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        this.writer.sendOSC ("/play", this.transport.isPlaying (), dump);
-        this.writer.sendOSC ("/record", this.transport.isRecording (), dump);
-        this.writer.sendOSC ("/overdub", this.transport.isArrangerOverdub (), dump);
-        this.writer.sendOSC ("/overdub/launcher", this.transport.isLauncherOverdub (), dump);
-        this.writer.sendOSC ("/repeat", this.transport.isLoop (), dump);
-        this.writer.sendOSC ("/punchIn", this.transport.isPunchInEnabled (), dump);
-        this.writer.sendOSC ("/punchOut", this.transport.isPunchOutEnabled (), dump);
-        this.writer.sendOSC ("/click", this.transport.isMetronomeOn (), dump);
-        this.writer.sendOSC ("/click/ticks", this.transport.isMetronomeTicksOn (), dump);
-        this.writer.sendOSC ("/click/volume", this.transport.getMetronomeVolume (), dump);
-        this.writer.sendOSC ("/click/volumeStr", this.transport.getMetronomeVolumeStr (), dump);
-        this.writer.sendOSC ("/click/preroll", this.transport.isPrerollMetronomeEnabled (), dump);
-        this.writer.sendOSC ("/preroll", this.transport.getPrerollMeasures (), dump);
-        this.writer.sendOSC ("/tempo/raw", this.transport.getTempo (), dump);
-        this.writer.sendOSC ("/crossfade", this.transport.getCrossfade (), dump);
-        this.writer.sendOSC ("/autowrite", this.transport.isWritingArrangerAutomation (), dump);
-        this.writer.sendOSC ("/autowrite/launcher", this.transport.isWritingClipLauncherAutomation (), dump);
-        this.writer.sendOSC ("/automationWriteMode", this.transport.getAutomationWriteMode ().getIdentifier (), dump);
-        this.writer.sendOSC ("/time/str", this.transport.getPositionText (), dump);
-        this.writer.sendOSC ("/time/signature", this.transport.getNumerator () + " / " + this.transport.getDenominator (), dump);
-        this.writer.sendOSC ("/beat/str", this.transport.getBeatText (), dump);
-        this.writer.sendOSC ("/launcher/postRecordingAction", this.transport.getClipLauncherPostRecordingAction ().getIdentifier (), dump);
-        this.writer.sendOSC ("/launcher/postRecordingTimeOffset", this.transport.getClipLauncherPostRecordingTimeOffset (), dump);
-        this.writer.sendOSC ("/launcher/defaultQuantization", this.transport.getDefaultLaunchQuantization ().getValue (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_PLAY), this.transport.isPlaying (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_RECORD), this.transport.isRecording (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_OVERDUB), this.transport.isArrangerOverdub (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_OVERDUB_LAUNCHER), this.transport.isLauncherOverdub (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_REPEAT), this.transport.isLoop (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_PUNCH_IN), this.transport.isPunchInEnabled (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_PUNCH_OUT), this.transport.isPunchOutEnabled (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_CLICK), this.transport.isMetronomeOn (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_CLICK_TICKS), this.transport.isMetronomeTicksOn (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_CLICK_VOLUME), this.transport.getMetronomeVolume (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_CLICK_VOLUME_STR), this.transport.getMetronomeVolumeStr (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_CLICK_PREROLL), this.transport.isPrerollMetronomeEnabled (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_PREROLL), this.transport.getPrerollMeasures (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_TEMPO_RAW), this.transport.getTempo (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_CROSSFADE), this.transport.getCrossfade (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_AUTOWRITE), this.transport.isWritingArrangerAutomation (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_AUTOWRITE_LAUNCHER), this.transport.isWritingClipLauncherAutomation (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_AUTOMATION_WRITE_MODE), this.transport.getAutomationWriteMode ().getIdentifier (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_TIME_STR), this.transport.getPositionText (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_TIME_SIGNATURE), this.transport.getNumerator () + " / " + this.transport.getDenominator (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_BEAT_STR), this.transport.getBeatText (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_LAUNCHER_POST_RECORDING_ACTION), this.transport.getClipLauncherPostRecordingAction ().getIdentifier (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_LAUNCHER_POST_RECORDING_TIME_OFFSET), this.transport.getClipLauncherPostRecordingTimeOffset (), dump);
+        this.writer.sendOSC (this.addresses.get (ADDR_LAUNCHER_DEFAULT_QUANTIZATION), this.transport.getDefaultLaunchQuantization ().getValue (), dump);
     }
 }
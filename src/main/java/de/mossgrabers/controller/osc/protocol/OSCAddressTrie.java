@@ -0,0 +1,121 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import java.util.Arrays;
+
+
+/**
+ * A character trie which maps OSC address segments to values. The lookup works directly on a range
+ * of the address string, therefore no sub-strings need to be created to find a value.
+ *
+ * @param <V> The type of the mapped values
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCAddressTrie<V>
+{
+    private final Node root = new Node ();
+    private int        size;
+
+
+    /**
+     * Add a value to the trie. An already existing value for the same key is replaced.
+     *
+     * @param key The key, e.g. an address segment like 'track'
+     * @param value The value to store for the key, must not be null
+     */
+    public void put (final String key, final V value)
+    {
+        Node node = this.root;
+        for (int i = 0; i < key.length (); i++)
+            node = node.getOrAddChild (key.charAt (i));
+        if (node.value == null)
+            this.size++;
+        node.value = value;
+    }
+
+
+    /**
+     * Lookup the value which is stored for the given range of a text.
+     *
+     * @param text The text which contains the key
+     * @param start The index of the first character of the key
+     * @param end The index after the last character of the key
+     * @return The value or null if there is no value stored for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V get (final String text, final int start, final int end)
+    {
+        Node node = this.root;
+        for (int i = start; i < end; i++)
+        {
+            node = node.getChild (text.charAt (i));
+            if (node == null)
+                return null;
+        }
+        return (V) node.value;
+    }
+
+
+    /**
+     * Lookup the value which is stored for the given key.
+     *
+     * @param key The key
+     * @return The value or null if there is no value stored for the key
+     */
+    public V get (final String key)
+    {
+        return this.get (key, 0, key.length ());
+    }
+
+
+    /**
+     * Get the number of stored values.
+     *
+     * @return The number of values
+     */
+    public int size ()
+    {
+        return this.size;
+    }
+
+
+    /** A node of the trie. The children are stored in parallel arrays since they are few. */
+    private static final class Node
+    {
+        private char [] characters = new char [0];
+        private Node [] children   = new Node [0];
+        private Object  value;
+
+
+        Node getChild (final char c)
+        {
+            final char [] chars = this.characters;
+            for (int i = 0; i < chars.length; i++)
+            {
+                if (chars[i] == c)
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node getOrAddChild (final char c)
+        {
+            final Node child = this.getChild (c);
+            if (child != null)
+                return child;
+
+            final int length = this.characters.length;
+            this.characters = Arrays.copyOf (this.characters, length + 1);
+            this.children = Arrays.copyOf (this.children, length + 1);
+            final Node node = new Node ();
+            this.characters[length] = c;
+            this.children[length] = node;
+            return node;
+        }
+    }
+}
@@ -18,12 +18,6 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-
 
 /**
  * Parser for OSC messages.
@@ -32,8 +26,11 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private static final String           COMMAND_REFRESH = "refresh";
+
+    private final OSCControlSurface       surface;
+    private final OSCAddressTrie<IModule> modules         = new OSCAddressTrie<> ();
+    private final OSCPath                 path            = new OSCPath ();
 
 
     /**
@@ -55,6 +52,8 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
+
+        this.path.addKnownSegment (COMMAND_REFRESH);
     }
 
 
@@ -64,12 +63,11 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
+        this.path.reset (message.getAddress ());
+        if (this.path.isEmpty ())
             return;
 
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
+        if (this.path.firstEquals (COMMAND_REFRESH))
         {
             this.writer.flush (true);
             return;
@@ -78,13 +76,14 @@ public class OSCParser extends AbstractOpenSoundControlParser
         final Object [] values = message.getValues ();
         try
         {
-            final IModule module = this.modules.get (command);
+            final IModule module = this.path.lookupFirst (this.modules);
+            final String command = this.path.removeFirst ();
             if (module == null)
                 throw new UnknownCommandException (command);
             if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
+                module.execute (command, this.path, values);
             else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+                module.execute (command, this.path, values == null || values.length == 0 ? null : values[0]);
         }
         catch (final IllegalParameterException ex)
         {
@@ -98,23 +97,10 @@ public class OSCParser extends AbstractOpenSoundControlParser
         {
             this.host.println ("Missing command: " + message.getAddress ());
         }
-    }
-
-
-    /**
-     * Parses the OSC message into separate parts.
-     *
-     * @param message The message
-     * @return The split parts
-     */
-    private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
-    {
-        final LinkedList<String> oscParts = new LinkedList<> ();
-        Collections.addAll (oscParts, message.getAddress ().split ("/"));
-
-        // Remove first empty element
-        oscParts.removeFirst ();
-        return oscParts;
+        catch (final NumberFormatException ex)
+        {
+            this.host.println ("Illegal number: " + message.getAddress () + " " + ex.getMessage ());
+        }
     }
 
 
@@ -125,6 +111,10 @@ public class OSCParser extends AbstractOpenSoundControlParser
      */
     public void registerModule (final IModule module)
     {
-        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        for (final String command: module.getSupportedCommands ())
+        {
+            this.modules.put (command, module);
+            this.path.addKnownSegment (command);
+        }
     }
 }
\ No newline at end of file
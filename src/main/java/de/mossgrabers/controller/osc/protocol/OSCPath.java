@@ -0,0 +1,257 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+
+/**
+ * A re-usable cursor over the segments of an OSC address (e.g. /track/1/volume). The address is not
+ * split, only the positions of the segments are stored. Segments are returned as interned strings
+ * and integer segments are parsed in place, therefore walking a path does not allocate once all
+ * segments have been seen. Not thread-safe, one instance is used per parser.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCPath
+{
+    /** Limits the number of interned segments to protect against arbitrary input. */
+    private static final int             MAX_INTERNED_SEGMENTS = 2048;
+
+    private final OSCAddressTrie<String> segments              = new OSCAddressTrie<> ();
+
+    private String                       address               = "";
+    private int []                       starts                = new int [8];
+    private int []                       ends                  = new int [8];
+    private int                          size;
+    private int                          position;
+
+
+    /**
+     * Set a new address to walk. The part before the first slash is ignored as well as trailing
+     * empty segments.
+     *
+     * @param address The OSC address
+     */
+    public void reset (final String address)
+    {
+        this.address = address;
+        this.size = 0;
+        this.position = 0;
+
+        final int length = address.length ();
+        int start = address.indexOf ('/');
+        if (start < 0)
+            return;
+        start++;
+
+        int lastNonEmpty = 0;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            this.addSegment (start, end);
+            if (end > start)
+                lastNonEmpty = this.size;
+            start = end + 1;
+        }
+        this.size = lastNonEmpty;
+    }
+
+
+    /**
+     * Check if there are no more segments.
+     *
+     * @return True if all segments have been consumed
+     */
+    public boolean isEmpty ()
+    {
+        return this.position >= this.size;
+    }
+
+
+    /**
+     * Get the next segment without consuming it.
+     *
+     * @return The segment
+     * @throws NoSuchElementException If there are no more segments
+     */
+    public String getFirst ()
+    {
+        if (this.isEmpty ())
+            throw new NoSuchElementException ();
+        return this.intern (this.starts[this.position], this.ends[this.position]);
+    }
+
+
+    /**
+     * Get and consume the next segment.
+     *
+     * @return The segment
+     * @throws NoSuchElementException If there are no more segments
+     */
+    public String removeFirst ()
+    {
+        final String segment = this.getFirst ();
+        this.position++;
+        return segment;
+    }
+
+
+    /**
+     * Un-consume the last consumed segment.
+     */
+    public void rewind ()
+    {
+        if (this.position > 0)
+            this.position--;
+    }
+
+
+    /**
+     * Test if the next segment is equal to the given text without consuming it.
+     *
+     * @param text The text to compare
+     * @return True if there is a next segment and it is equal to the text
+     */
+    public boolean firstEquals (final String text)
+    {
+        if (this.isEmpty ())
+            return false;
+        final int start = this.starts[this.position];
+        final int length = this.ends[this.position] - start;
+        return length == text.length () && this.address.regionMatches (start, text, 0, length);
+    }
+
+
+    /**
+     * Test if the next segment is an integer number (with an optional sign) without consuming it.
+     *
+     * @return True if the next segment can be parsed with {@link #removeFirstInteger()}
+     */
+    public boolean isFirstInteger ()
+    {
+        return !this.isEmpty () && this.isInteger (this.starts[this.position], this.ends[this.position]);
+    }
+
+
+    /**
+     * Parse the next segment as an integer and consume it. The parsing is done in place without
+     * creating a string for the segment.
+     *
+     * @return The integer value of the segment
+     * @throws NumberFormatException If the segment is not an integer number
+     * @throws NoSuchElementException If there are no more segments
+     */
+    public int removeFirstInteger ()
+    {
+        if (this.isEmpty ())
+            throw new NoSuchElementException ();
+        if (!this.isFirstInteger ())
+            throw new NumberFormatException ("For input string: \"" + this.getFirst () + "\"");
+
+        int start = this.starts[this.position];
+        final int end = this.ends[this.position];
+        this.position++;
+
+        final char first = this.address.charAt (start);
+        final boolean isNegative = first == '-';
+        if (isSign (first))
+            start++;
+        int result = 0;
+        for (int i = start; i < end; i++)
+            result = result * 10 + Character.digit (this.address.charAt (i), 10);
+        return isNegative ? -result : result;
+    }
+
+
+    /**
+     * Lookup the next segment in a trie without consuming it.
+     *
+     * @param trie The trie
+     * @param <V> The type of the values in the trie
+     * @return The value stored for the next segment or null if there is none
+     */
+    public <V> V lookupFirst (final OSCAddressTrie<V> trie)
+    {
+        if (this.isEmpty ())
+            return null;
+        return trie.get (this.address, this.starts[this.position], this.ends[this.position]);
+    }
+
+
+    /**
+     * Get the full address which is walked.
+     *
+     * @return The address
+     */
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /**
+     * Pre-register a segment, which then never needs to be created from the address.
+     *
+     * @param segment The segment
+     */
+    public void addKnownSegment (final String segment)
+    {
+        this.segments.put (segment, segment);
+    }
+
+
+    private String intern (final int start, final int end)
+    {
+        final String known = this.segments.get (this.address, start, end);
+        if (known != null)
+            return known;
+        final String segment = this.address.substring (start, end);
+        // Numbers are parsed in place, do not let them fill up the known segments
+        if (this.segments.size () < MAX_INTERNED_SEGMENTS && !this.isInteger (start, end))
+            this.segments.put (segment, segment);
+        return segment;
+    }
+
+
+    private boolean isInteger (final int start, final int end)
+    {
+        int pos = start;
+        if (pos < end && isSign (this.address.charAt (pos)))
+            pos++;
+        // Up to 9 digits never overflow an integer
+        final int digits = end - pos;
+        if (digits == 0 || digits > 9)
+            return false;
+        for (int i = pos; i < end; i++)
+        {
+            if (!Character.isDigit (this.address.charAt (i)))
+                return false;
+        }
+        return true;
+    }
+
+
+    private void addSegment (final int start, final int end)
+    {
+        if (this.size == this.starts.length)
+        {
+            this.starts = Arrays.copyOf (this.starts, this.size * 2);
+            this.ends = Arrays.copyOf (this.ends, this.size * 2);
+        }
+        this.starts[this.size] = start;
+        this.ends[this.size] = end;
+        this.size++;
+    }
+
+
+    private static boolean isSign (final char c)
+    {
+        return c == '-' || c == '+';
+    }
+}
@@ -0,0 +1,248 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * An additional OSC client which receives only the messages whose addresses match one of its
+ * subscribed patterns. In a pattern '*' matches any number of characters and '?' matches one
+ * character, both not across a '/'. A pattern also matches all addresses below it, e.g. /track
+ * matches /track/1/volume. The result of matching an address is cached by its ID.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCSubscriber
+{
+    // A match state of 0 marks an address which was not yet tested
+    private static final byte                    MATCH_YES = 1;
+    private static final byte                    MATCH_NO  = 2;
+
+    private final String                         host;
+    private final int                            port;
+    private final IOpenSoundControlClient        client;
+    private final List<String>                   patterns  = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage> messages  = new ArrayList<> ();
+    private byte []                              matches   = new byte [256];
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host name or IP of the subscriber
+     * @param port The port of the subscriber
+     * @param client The client to send the messages to
+     */
+    public OSCSubscriber (final String host, final int port, final IOpenSoundControlClient client)
+    {
+        this.host = host;
+        this.port = port;
+        this.client = client;
+    }
+
+
+    /**
+     * Test if this is the subscriber with the given host and port.
+     *
+     * @param host The host name or IP
+     * @param port The port
+     * @return True if host and port are identical
+     */
+    public boolean isSubscriber (final String host, final int port)
+    {
+        return this.port == port && this.host.equals (host);
+    }
+
+
+    /**
+     * Add address patterns.
+     *
+     * @param newPatterns The patterns to add
+     */
+    public void addPatterns (final Collection<String> newPatterns)
+    {
+        for (final String pattern: newPatterns)
+        {
+            if (!this.patterns.contains (pattern))
+                this.patterns.add (pattern);
+        }
+        this.clearMatches ();
+    }
+
+
+    /**
+     * Remove address patterns.
+     *
+     * @param oldPatterns The patterns to remove
+     */
+    public void removePatterns (final Collection<String> oldPatterns)
+    {
+        this.patterns.removeAll (oldPatterns);
+        this.clearMatches ();
+    }
+
+
+    /**
+     * Remove all address patterns.
+     */
+    public void clearPatterns ()
+    {
+        this.patterns.clear ();
+        this.clearMatches ();
+    }
+
+
+    /**
+     * Check if there are any subscribed patterns.
+     *
+     * @return True if there is at least one pattern
+     */
+    public boolean hasPatterns ()
+    {
+        return !this.patterns.isEmpty ();
+    }
+
+
+    /**
+     * Test if the given address matches one of the subscribed patterns.
+     *
+     * @param addressID The ID of the address
+     * @param address The address
+     * @return True if the address matches
+     */
+    public boolean matches (final int addressID, final String address)
+    {
+        if (addressID >= this.matches.length)
+            this.matches = Arrays.copyOf (this.matches, Math.max (addressID + 1, 2 * this.matches.length));
+
+        if (this.matches[addressID] == 0)
+        {
+            this.matches[addressID] = MATCH_NO;
+            for (final String pattern: this.patterns)
+            {
+                if (matchesPattern (pattern, address))
+                {
+                    this.matches[addressID] = MATCH_YES;
+                    break;
+                }
+            }
+        }
+        return this.matches[addressID] == MATCH_YES;
+    }
+
+
+    /**
+     * Send all messages whose addresses match the subscribed patterns. Messages to the framing
+     * address are always included but are only sent if at least one other message matches.
+     *
+     * @param allMessages The messages to filter
+     * @param addressIDs The IDs of the addresses of the messages
+     * @param framingAddressID The ID of the framing address, e.g. /update
+     * @throws IOException Could not send the messages
+     */
+    public void send (final List<IOpenSoundControlMessage> allMessages, final int [] addressIDs, final int framingAddressID) throws IOException
+    {
+        boolean hasContent = false;
+        for (int i = 0; i < allMessages.size (); i++)
+        {
+            final IOpenSoundControlMessage message = allMessages.get (i);
+            final int addressID = addressIDs[i];
+            if (addressID == framingAddressID)
+                this.messages.add (message);
+            else if (this.matches (addressID, message.getAddress ()))
+            {
+                this.messages.add (message);
+                hasContent = true;
+            }
+        }
+
+        try
+        {
+            if (hasContent)
+                this.client.sendBundle (this.messages);
+        }
+        finally
+        {
+            this.messages.clear ();
+        }
+    }
+
+
+    /**
+     * Send messages without filtering.
+     *
+     * @param messagesToSend The messages to send
+     * @throws IOException Could not send the messages
+     */
+    public void sendAll (final List<IOpenSoundControlMessage> messagesToSend) throws IOException
+    {
+        if (!messagesToSend.isEmpty ())
+            this.client.sendBundle (messagesToSend);
+    }
+
+
+    /**
+     * Test if an address matches a pattern.
+     *
+     * @param pattern The pattern
+     * @param address The address
+     * @return True if the address or one of its parents matches
+     */
+    public static boolean matchesPattern (final String pattern, final String address)
+    {
+        return matchesPattern (pattern, 0, address, 0);
+    }
+
+
+    private static boolean matchesPattern (final String pattern, final int patternStart, final String address, final int addressStart)
+    {
+        final int patternLength = pattern.length ();
+        final int addressLength = address.length ();
+        int p = patternStart;
+        int a = addressStart;
+        while (p < patternLength)
+        {
+            final char c = pattern.charAt (p);
+            if (c == '*')
+            {
+                while (p < patternLength && pattern.charAt (p) == '*')
+                    p++;
+                // Try all lengths which stay in the current segment
+                for (int i = a;; i++)
+                {
+                    if (matchesPattern (pattern, p, address, i))
+                        return true;
+                    if (i >= addressLength || address.charAt (i) == '/')
+                        return false;
+                }
+            }
+
+            if (a >= addressLength)
+                return false;
+            final char ac = address.charAt (a);
+            if (c == '?' ? ac == '/' : c != ac)
+                return false;
+            p++;
+            a++;
+        }
+
+        // The pattern must end at a segment boundary
+        return a == addressLength || address.charAt (a) == '/' || patternLength > 0 && pattern.charAt (patternLength - 1) == '/';
+    }
+
+
+    private void clearMatches ()
+    {
+        Arrays.fill (this.matches, (byte) 0);
+    }
+}
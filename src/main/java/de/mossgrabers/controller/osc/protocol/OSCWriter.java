@@ -10,7 +10,9 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -18,22 +20,29 @@ import java.util.Set;
 
 
 /**
- * Writes the changed DAW status as OSC messages.
+ * Writes the changed DAW status as OSC messages. Besides the configured OSC client additional
+ * clients can subscribe to address patterns. Only clients which are configured in the settings can
+ * subscribe, their connections are opened on startup. The changes are only collected once per flush
+ * and each subscriber receives the matching part of them.
  *
  * @author Jürgen Moßgraber
  */
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
+    private static final String      UPDATE_ADDRESS     = "/update";
+
     private static final Set<String> HEARTBEAT_MESSAGES = new HashSet<> (3);
 
     static
     {
-        HEARTBEAT_MESSAGES.add ("/update");
+        HEARTBEAT_MESSAGES.add (UPDATE_ADDRESS);
         HEARTBEAT_MESSAGES.add ("/time/str");
         HEARTBEAT_MESSAGES.add ("/beat/str");
     }
 
-    private final List<IModule> modules = new ArrayList<> ();
+    private final List<IModule>       modules     = new ArrayList<> ();
+    private final List<OSCSubscriber> subscribers = new ArrayList<> ();
+    private final int                 updateAddressID;
 
 
     /**
@@ -47,6 +56,18 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
     {
         super (host, model, oscClient, configuration);
+
+        this.updateAddressID = this.registerAddress (UPDATE_ADDRESS);
+
+        // The connections can only be opened during the initialization of the extension
+        for (int i = 0; i < configuration.getNumberOfSubscribers (); i++)
+        {
+            final String subscriberHost = configuration.getSubscriberHost (i);
+            final int subscriberPort = configuration.getSubscriberPort (i);
+            this.host.println (String.format ("Connecting to subscribing OSC client %s:%d", subscriberHost, Integer.valueOf (subscriberPort)));
+            final IOpenSoundControlClient client = this.host.connectToOSCServer (subscriberHost, subscriberPort, configuration.getMaxPacketSize (), configuration.getMaxSendRate () * 1024);
+            this.subscribers.add (new OSCSubscriber (subscriberHost, subscriberPort, client));
+        }
     }
 
 
@@ -57,7 +78,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         if (!this.isConnected ())
             return;
         this.modules.forEach (module -> module.flush (dump));
-        this.flush ("/update");
+        this.flush (UPDATE_ADDRESS);
     }
 
 
@@ -78,4 +99,116 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         this.modules.add (module);
     }
-}
+
+
+    /**
+     * Subscribe a client to address patterns. The client must be configured in the settings. The
+     * current values of all matching addresses are sent to the client.
+     *
+     * @param host The host name or IP of the client
+     * @param port The port of the client
+     * @param patterns The address patterns to subscribe to
+     */
+    public void subscribe (final String host, final int port, final List<String> patterns)
+    {
+        synchronized (this.subscribers)
+        {
+            final OSCSubscriber subscriber = this.getSubscriber (host, port);
+            if (subscriber == null)
+            {
+                this.host.error ("Could not subscribe " + host + ":" + port + ". The client is not configured in the settings.");
+                return;
+            }
+            if (!subscriber.hasPatterns ())
+                this.host.println (String.format ("Subscribed OSC client %s:%d", host, Integer.valueOf (port)));
+            subscriber.addPatterns (patterns);
+
+            // Send the current state of the newly subscribed addresses
+            final List<IOpenSoundControlMessage> state = new ArrayList<> ();
+            for (int addressID = 0; addressID < this.getNumberOfAddresses (); addressID++)
+            {
+                final IOpenSoundControlMessage message = this.getLastMessage (addressID);
+                if (message != null && addressID != this.updateAddressID && matchesAny (patterns, message.getAddress ()))
+                    state.add (message);
+            }
+            try
+            {
+                subscriber.sendAll (state);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+        }
+    }
+
+
+    /**
+     * Remove address patterns from a client. If no patterns are given all patterns are removed. A
+     * client without patterns does not receive any messages until it subscribes again.
+     *
+     * @param host The host name or IP of the client
+     * @param port The port of the client
+     * @param patterns The address patterns to remove
+     */
+    public void unsubscribe (final String host, final int port, final List<String> patterns)
+    {
+        synchronized (this.subscribers)
+        {
+            final OSCSubscriber subscriber = this.getSubscriber (host, port);
+            if (subscriber == null || !subscriber.hasPatterns ())
+                return;
+            if (patterns.isEmpty ())
+                subscriber.clearPatterns ();
+            else
+                subscriber.removePatterns (patterns);
+            if (!subscriber.hasPatterns ())
+                this.host.println (String.format ("Unsubscribed OSC client %s:%d", host, Integer.valueOf (port)));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendToSubscribers (final List<IOpenSoundControlMessage> messages, final int [] addressIDs)
+    {
+        synchronized (this.subscribers)
+        {
+            for (final OSCSubscriber subscriber: this.subscribers)
+            {
+                if (!subscriber.hasPatterns ())
+                    continue;
+                try
+                {
+                    subscriber.send (messages, addressIDs, this.updateAddressID);
+                }
+                catch (final IOException ex)
+                {
+                    this.host.error ("Could not send UDP message.", ex);
+                }
+            }
+        }
+    }
+
+
+    private OSCSubscriber getSubscriber (final String host, final int port)
+    {
+        for (final OSCSubscriber subscriber: this.subscribers)
+        {
+            if (subscriber.isSubscriber (host, port))
+                return subscriber;
+        }
+        return null;
+    }
+
+
+    private static boolean matchesAny (final List<String> patterns, final String address)
+    {
+        for (final String pattern: patterns)
+        {
+            if (OSCSubscriber.matchesPattern (pattern, address))
+                return true;
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -107,5 +107,10 @@ public class OxiOneConfiguration extends AbstractConfiguration
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
         this.activateColorTrackStates (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateDisplayFrameRateSetting (globalSettings, CATEGORY_HARDWARE_SETUP);
     }
 }
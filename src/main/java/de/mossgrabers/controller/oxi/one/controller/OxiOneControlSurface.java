@@ -376,7 +376,7 @@ public class OxiOneControlSurface extends AbstractControlSurface<OxiOneConfigura
     {
         final IGraphicDisplay display = this.getGraphicsDisplay ();
         display.addElement (new LabelComponent ("Goodbye", null, ColorEx.BLACK, false, false, LabelLayout.PLAIN));
-        display.send ();
+        display.sendImmediately ();
 
         this.exitRemoteMode ();
 
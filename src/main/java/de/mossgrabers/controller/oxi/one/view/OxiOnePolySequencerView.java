@@ -86,7 +86,7 @@ public class OxiOnePolySequencerView extends AbstractPolySequencerView<OxiOneCon
         for (int row = 0; row < 128; row++)
         {
             notePosition.setNote (row);
-            if (clip.getStep (notePosition).getState () == StepState.START)
+            if (clip.getStepState (notePosition) == StepState.START)
                 this.editNote (clip, notePosition, true);
         }
         // Prevent note deletion on button-up!
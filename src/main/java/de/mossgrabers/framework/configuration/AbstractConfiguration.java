@@ -15,6 +15,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.display.FrameRateGovernor;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -143,6 +144,9 @@ public abstract class AbstractConfiguration implements Configuration
 
     // Implementation IDs start at 50
 
+    /** The targeted frame rate of graphics displays. */
+    public static final Integer      DISPLAY_FRAME_RATE              = Integer.valueOf (500);
+
     protected static final String    CATEGORY_DRUMS                  = "Drum Sequencer";
     protected static final String    CATEGORY_SCALES                 = "Scales";
     protected static final String    CATEGORY_SESSION                = "Session";
@@ -379,6 +383,7 @@ public abstract class AbstractConfiguration implements Configuration
     private IIntegerSetting                           pitchBendRangeSetting;
     private IEnumSetting                              enableMPESetting;
     private IEnumSetting                              showPlayedChordsSetting;
+    private IStringSetting                            achievedFrameRateSetting;
 
     private final List<IEnumSetting>                  instrumentSettings                  = new ArrayList<> (7);
     private final List<IEnumSetting>                  audioSettings                       = new ArrayList<> (3);
@@ -402,6 +407,7 @@ public abstract class AbstractConfiguration implements Configuration
     private boolean                                   scaleInKey                          = true;
     private String                                    scaleLayout                         = "4th ^";
     private boolean                                   enableVUMeters                      = false;
+    private int                                       displayFrameRate                    = FrameRateGovernor.DEFAULT_FRAME_RATE;
     private TransportBehavior                         behaviorOnStop                      = TransportBehavior.STOP;
     private TransportBehavior                         behaviorOnPause                     = TransportBehavior.PAUSE;
     protected boolean                                 flipSession                         = false;
@@ -586,6 +592,23 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getDisplayFrameRate ()
+    {
+        return this.displayFrameRate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAchievedDisplayFrameRate (final int framesPerSecond)
+    {
+        if (this.achievedFrameRateSetting != null)
+            this.achievedFrameRateSetting.set (framesPerSecond + " fps");
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setFlipSession (final boolean enabled)
@@ -1050,6 +1073,26 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the display frame rate setting and the display of the achieved frame rate.
+     *
+     * @param settingsUI The settings
+     * @param category The name for the category
+     */
+    protected void activateDisplayFrameRateSetting (final ISettingsUI settingsUI, final String category)
+    {
+        final IIntegerSetting displayFrameRateSetting = settingsUI.getRangeSetting ("Display Frame Rate", category, 5, 60, 1, "fps", FrameRateGovernor.DEFAULT_FRAME_RATE);
+        displayFrameRateSetting.addValueObserver (value -> {
+            this.displayFrameRate = value.intValue ();
+            this.notifyObservers (DISPLAY_FRAME_RATE);
+        });
+        this.isSettingActive.add (DISPLAY_FRAME_RATE);
+
+        this.achievedFrameRateSetting = settingsUI.getStringSetting ("Achieved Display Frame Rate", category, 10, "");
+        this.achievedFrameRateSetting.setEnabled (false);
+    }
+
+
     /**
      * Activate the behavior on stop setting.
      *
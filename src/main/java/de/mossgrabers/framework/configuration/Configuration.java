@@ -132,6 +132,22 @@ public interface Configuration
     boolean isEnableVUMeters ();
 
 
+    /**
+     * Get the targeted frame rate of the graphics displays.
+     *
+     * @return The frames per second
+     */
+    int getDisplayFrameRate ();
+
+
+    /**
+     * Show the frame rate which was achieved by a graphics display.
+     *
+     * @param framesPerSecond The frames per second
+     */
+    void setAchievedDisplayFrameRate (int framesPerSecond);
+
+
     /**
      * Get the behavior when stop is pressed.
      *
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -376,6 +377,16 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
             this.surfaces.forEach (surface -> surface.addKnobSensitivityObserver (this::updateRelativeKnobSensitivity));
         }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.DISPLAY_FRAME_RATE))
+        {
+            for (final S surface: this.surfaces)
+            {
+                final IGraphicDisplay display = surface.getGraphicsDisplay ();
+                this.configuration.addSettingObserver (AbstractConfiguration.DISPLAY_FRAME_RATE, () -> display.setFrameRate (this.configuration.getDisplayFrameRate ()));
+                display.setFrameRateObserver (framesPerSecond -> this.configuration.setAchievedDisplayFrameRate (framesPerSecond.intValue ()));
+            }
+        }
     }
 
 
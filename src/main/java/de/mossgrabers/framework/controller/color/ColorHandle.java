@@ -0,0 +1,82 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An interned handle for a color ID. There is exactly one handle for each color ID, which is
+ * numbered with a small index. Get the handle once (e.g. in a constant) to look up the color index
+ * of the ID in a color manager by array access instead of hashing the ID text on every call.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class ColorHandle
+{
+    private static final Map<String, ColorHandle> HANDLES = new HashMap<> ();
+
+    private final String                          id;
+    private final int                             index;
+
+
+    /**
+     * Get the handle for a color ID. Creates it if it does not exist yet.
+     *
+     * @param id The color ID
+     * @return The handle
+     */
+    public static ColorHandle of (final String id)
+    {
+        synchronized (HANDLES)
+        {
+            return HANDLES.computeIfAbsent (id, key -> new ColorHandle (key, HANDLES.size ()));
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param id The color ID
+     * @param index The index of the handle
+     */
+    private ColorHandle (final String id, final int index)
+    {
+        this.id = id;
+        this.index = index;
+    }
+
+
+    /**
+     * Get the color ID.
+     *
+     * @return The ID
+     */
+    public String getId ()
+    {
+        return this.id;
+    }
+
+
+    /**
+     * Get the index of the handle.
+     *
+     * @return The index, starting at 0 for the first created handle
+     */
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.id;
+    }
+}
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,21 +14,27 @@ import de.mossgrabers.framework.daw.DAWColor;
 
 /**
  * Manages colors. Color indices can be identified by a text identifier. The second lookup handles
- * the mapping from color indices to the real color values as ColorEx objects.
+ * the mapping from color indices to the real color values as ColorEx objects. For lookups in
+ * performance critical code the text identifier can be replaced by its interned color handle,
+ * which finds the color index by array access.
  *
  * @author Jürgen Moßgraber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String           BUTTON_STATE_OFF   = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String           BUTTON_STATE_ON    = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String           BUTTON_STATE_HI    = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    /** Marks a color handle for which no color index is registered. */
+    private static final int             NOT_REGISTERED     = Integer.MIN_VALUE;
+
+    protected final Map<String, Integer> colorIndexByKey    = new HashMap<> ();
+    protected final ColorEx []           colorByIndex       = new ColorEx [128];
+    private int []                       colorIndexByHandle = new int [0];
 
 
     /**
@@ -53,6 +60,15 @@ public class ColorManager
     public void updateColorIndex (final String key, final int colorIndex)
     {
         this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+
+        final int handleIndex = ColorHandle.of (key).getIndex ();
+        if (handleIndex >= this.colorIndexByHandle.length)
+        {
+            final int oldLength = this.colorIndexByHandle.length;
+            this.colorIndexByHandle = Arrays.copyOf (this.colorIndexByHandle, Math.max (handleIndex + 1, 2 * oldLength));
+            Arrays.fill (this.colorIndexByHandle, oldLength, this.colorIndexByHandle.length, NOT_REGISTERED);
+        }
+        this.colorIndexByHandle[handleIndex] = colorIndex;
     }
 
 
@@ -83,6 +99,22 @@ public class ColorManager
     }
 
 
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param handle The handle of the key
+     * @return The color index
+     */
+    public int getColorIndex (final ColorHandle handle)
+    {
+        final int handleIndex = handle.getIndex ();
+        final int colorIndex = handleIndex < this.colorIndexByHandle.length ? this.colorIndexByHandle[handleIndex] : NOT_REGISTERED;
+        if (colorIndex == NOT_REGISTERED)
+            throw new ColorIndexException ("Color for key " + handle.getId () + " is not registered!");
+        return colorIndex;
+    }
+
+
     /**
      * Registers the real RGB color which is represented by the given color index.
      *
@@ -93,7 +125,7 @@ public class ColorManager
     {
         if (colorIndex < 0 || colorIndex > 127)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -108,7 +140,7 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex < this.colorByIndex.length ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.display;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -42,11 +43,13 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.Pair;
 
 
 /**
- * A display which uses graphics rather than fixed characters.
+ * A display which uses graphics rather than fixed characters. The image is kept between frames and
+ * only the columns whose components changed are redrawn.
  *
  * @author Jürgen Moßgraber
  */
@@ -81,6 +84,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final List<IComponent>         columns                         = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
     private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private boolean                        isRendered                      = false;
+    private final FrameRateGovernor        governor                        = new FrameRateGovernor ();
+    private IValueObserver<Integer>        frameRateObserver;
+    private ModelInfo                      pendingInfo;
+    private boolean                        isPendingScheduled              = false;
+    private final int []                   heldVuLeft                      = new int [8];
+    private final int []                   heldVuRight                     = new int [8];
+    private int                            vuFrameCounter;
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
@@ -165,6 +176,20 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     /** {@inheritDoc} */
     @Override
     public void send ()
+    {
+        this.sendElements (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendImmediately ()
+    {
+        this.sendElements (true);
+    }
+
+
+    private void sendElements (final boolean immediately)
     {
         if (this.executor.isShutdown ())
             return;
@@ -179,19 +204,95 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
             final ModelInfo newInfo = new ModelInfo (notification, this.columns);
 
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            // Drop the frame if it comes too early but keep its content in case that no further
+            // frame follows
+            final long now = System.nanoTime ();
+            if (!immediately && !this.governor.isFrameDue (now))
             {
-                this.info = newInfo;
-                this.renderImage ();
+                this.governor.frameDropped ();
+                this.pendingInfo = newInfo;
+                this.schedulePendingFrame (now);
+                return;
             }
+
+            this.pendingInfo = null;
+            this.sendFrame (newInfo, now);
         }
         finally
         {
             this.columns.clear ();
         }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFrameRate (final int framesPerSecond)
+    {
+        this.governor.setFrameRate (framesPerSecond);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFrameRateObserver (final IValueObserver<Integer> observer)
+    {
+        this.frameRateObserver = observer;
+    }
+
+
+    /**
+     * Render the image if the data has changed and send it to the device. Measures the time for it.
+     *
+     * @param newInfo The data to render
+     * @param start The start time of the frame in nanoseconds
+     */
+    private void sendFrame (final ModelInfo newInfo, final long start)
+    {
+        this.governor.frameStarted (start);
+        this.vuFrameCounter++;
+
+        // Only render image if there is a change in the data
+        if (!this.info.equals (newInfo))
+        {
+            final ModelInfo oldInfo = this.info;
+            this.info = newInfo;
+            this.renderImage (oldInfo);
+        }
 
         this.send (this.image);
+
+        if (this.governor.frameFinished (System.nanoTime ()) && this.frameRateObserver != null)
+            this.frameRateObserver.update (Integer.valueOf (this.governor.getAchievedFrameRate ()));
+    }
+
+
+    private void schedulePendingFrame (final long now)
+    {
+        if (this.isPendingScheduled)
+            return;
+        this.isPendingScheduled = true;
+        final long delay = Math.max (1, TimeUnit.NANOSECONDS.toMillis (this.governor.getNanosUntilNextFrame (now)));
+        this.host.scheduleTask (this::sendPendingFrame, delay);
+    }
+
+
+    private void sendPendingFrame ()
+    {
+        this.isPendingScheduled = false;
+        if (this.pendingInfo == null || this.executor.isShutdown ())
+            return;
+
+        final long now = System.nanoTime ();
+        if (!this.governor.isFrameDue (now))
+        {
+            this.schedulePendingFrame (now);
+            return;
+        }
+
+        final ModelInfo newInfo = this.pendingInfo;
+        this.pendingInfo = null;
+        this.sendFrame (newInfo, now);
     }
 
 
@@ -285,7 +386,29 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+        final int column = this.columns.size ();
+        final int left = this.holdVu (this.heldVuLeft, column, vuLeft);
+        final int right = this.holdVu (this.heldVuRight, column, vuRight);
+        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, left, right, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+    }
+
+
+    /**
+     * If rendering takes too long, VU meters are only updated every few frames, otherwise a VU
+     * meter change causes a redraw of the column in every frame.
+     *
+     * @param held The VU values of the last update
+     * @param column The index of the column
+     * @param value The current VU value
+     * @return The VU value to display
+     */
+    private int holdVu (final int [] held, final int column, final int value)
+    {
+        if (column >= held.length)
+            return value;
+        if (this.vuFrameCounter % this.governor.getVuUpdateDivider () == 0)
+            held[column] = value;
+        return held[column];
     }
 
 
@@ -428,12 +551,54 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Render the changed parts of the image. If the number of columns is unchanged only the columns
+     * with a changed component are redrawn, otherwise or if a notification is involved the whole
+     * image.
+     *
+     * @param oldInfo The info of the currently rendered image
+     */
+    private void renderImage (final ModelInfo oldInfo)
+    {
+        final List<IComponent> oldElements = oldInfo.getComponents ();
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        if (!this.isRendered || size == 0 || oldElements.size () != size || oldInfo.getNotification () != null || this.info.getNotification () != null || exceedsBounds (oldElements) || exceedsBounds (elements))
+        {
+            this.renderFullImage ();
+            this.isRendered = true;
+            return;
+        }
+
+        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
+            final int height = this.dimensions.getHeight ();
+            final int gridWidth = this.dimensions.getWidth () / size;
+            final ColorEx colorBorder = this.configuration.getColorBorder ();
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+
+            for (int i = 0; i < size; i++)
+            {
+                if (Objects.equals (oldElements.get (i), elements.get (i)))
+                    continue;
+
+                // Components can draw into the separator space of their neighbours, therefore the
+                // neighbours need to be redrawn as well, restricted to the changed column
+                final int left = i * gridWidth;
+                gc.clip (left, 0, gridWidth, height);
+                gc.fillRectangle (left, 0, gridWidth, height, colorBorder);
+                for (int j = Math.max (0, i - 1); j <= Math.min (size - 1, i + 1); j++)
+                    this.drawComponent (graphicsInfo, elements.get (j), j, gridWidth);
+                gc.resetClip ();
+            }
+        });
+    }
+
+
+    private void renderFullImage ()
     {
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
             final int width = this.dimensions.getWidth ();
             final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
 
             // Clear display
             final ColorEx colorBorder = this.configuration.getColorBorder ();
@@ -444,16 +609,10 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             if (size == 0)
                 return;
             final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
 
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
-            {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
-            }
+                this.drawComponent (graphicsInfo, elements.get (i), i, gridWidth);
 
             final String notification = this.info.getNotification ();
             if (notification == null)
@@ -465,6 +624,28 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    private void drawComponent (final IGraphicsInfo graphicsInfo, final IComponent component, final int index, final int gridWidth)
+    {
+        if (component == null)
+            return;
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+        component.draw (graphicsInfo.withBounds (index * gridWidth + offsetX, 0, paintWidth, this.dimensions.getHeight ()));
+    }
+
+
+    private static boolean exceedsBounds (final List<IComponent> components)
+    {
+        for (final IComponent component: components)
+        {
+            if (component != null && component.exceedsBounds ())
+                return true;
+        }
+        return false;
+    }
+
+
     private void checkNotificationCounter ()
     {
         synchronized (this.counterSync)
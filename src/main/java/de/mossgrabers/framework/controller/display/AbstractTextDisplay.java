@@ -39,6 +39,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected String []      message;
     protected String []      fullRows;
     protected String []      cells;
+    private StringBuilder    rowBuilder;
 
     protected IHwTextDisplay hwDisplay;
 
@@ -87,6 +88,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+        this.rowBuilder = new StringBuilder (this.noOfCharacters);
     }
 
 
@@ -184,9 +186,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         else
         {
             final int index = row * this.noOfCells;
-            this.message[row] = "";
+            this.rowBuilder.setLength (0);
             for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+                this.rowBuilder.append (this.cells[index + i]);
+            this.message[row] = this.rowBuilder.toString ();
         }
 
         return this;
@@ -0,0 +1,177 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+/**
+ * Limits the frames sent to a graphics display to a targeted frame rate. The time to render and
+ * transfer a frame is measured. Its budget is half of the frame interval to leave time for the other
+ * tasks of the thread. If the budget is exceeded, the interval is extended to twice the frame time
+ * and the degradation level is raised, which e.g. lowers the update rate of VU meters. The level is
+ * lowered again if frames take less than half of the budget. Only call from one thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FrameRateGovernor
+{
+    /** The default targeted frame rate. */
+    public static final int     DEFAULT_FRAME_RATE = 30;
+
+    private static final long   SECOND             = 1_000_000_000L;
+    private static final int    MAX_DEGRADATION    = 3;
+    private static final double SMOOTHING          = 0.1;
+
+    private long                frameInterval      = SECOND / DEFAULT_FRAME_RATE;
+    private long                lastFrameStart     = System.nanoTime () - SECOND;
+    private double              averageFrameTime;
+    private int                 degradation;
+    private long                windowStart        = System.nanoTime ();
+    private int                 framesInWindow;
+    private int                 achievedFrameRate;
+    private long                droppedFrames;
+
+
+    /**
+     * Set the targeted frame rate.
+     *
+     * @param framesPerSecond The frames per second, 0 to disable the limit
+     */
+    public void setFrameRate (final int framesPerSecond)
+    {
+        this.frameInterval = framesPerSecond <= 0 ? 0 : SECOND / framesPerSecond;
+    }
+
+
+    /**
+     * Test if enough time has passed since the start of the last frame.
+     *
+     * @param now The current time in nanoseconds
+     * @return True if the next frame can be sent
+     */
+    public boolean isFrameDue (final long now)
+    {
+        return this.getNanosUntilNextFrame (now) <= 0;
+    }
+
+
+    /**
+     * Get the time until the next frame can be sent.
+     *
+     * @param now The current time in nanoseconds
+     * @return The time in nanoseconds, 0 or less if a frame can be sent now
+     */
+    public long getNanosUntilNextFrame (final long now)
+    {
+        if (this.frameInterval == 0)
+            return 0;
+        final long interval = Math.max (this.frameInterval, 2 * (long) this.averageFrameTime);
+        return this.lastFrameStart + interval - now;
+    }
+
+
+    /**
+     * Signal the start of rendering a frame.
+     *
+     * @param now The current time in nanoseconds
+     */
+    public void frameStarted (final long now)
+    {
+        this.lastFrameStart = now;
+    }
+
+
+    /**
+     * Signal the end of rendering and transferring a frame.
+     *
+     * @param now The current time in nanoseconds
+     * @return True if a measurement period of one second has ended and the achieved frame rate
+     *         has been updated
+     */
+    public boolean frameFinished (final long now)
+    {
+        final long frameTime = now - this.lastFrameStart;
+        this.averageFrameTime += SMOOTHING * (frameTime - this.averageFrameTime);
+        this.framesInWindow++;
+
+        final long windowLength = now - this.windowStart;
+        if (windowLength < SECOND)
+            return false;
+
+        this.achievedFrameRate = (int) Math.round (this.framesInWindow * (double) SECOND / windowLength);
+        this.framesInWindow = 0;
+        this.windowStart = now;
+
+        final double budget = this.frameInterval / 2.0;
+        if (this.frameInterval > 0 && this.averageFrameTime > budget)
+            this.degradation = Math.min (MAX_DEGRADATION, this.degradation + 1);
+        else if (this.averageFrameTime < budget / 2.0)
+            this.degradation = Math.max (0, this.degradation - 1);
+        return true;
+    }
+
+
+    /**
+     * Signal that a frame was dropped since it was not due.
+     */
+    public void frameDropped ()
+    {
+        this.droppedFrames++;
+    }
+
+
+    /**
+     * Get the number of frames after which VU meters are updated, depending on the degradation
+     * level.
+     *
+     * @return 1 if there is no degradation, otherwise 2, 4 or 8
+     */
+    public int getVuUpdateDivider ()
+    {
+        return 1 << this.degradation;
+    }
+
+
+    /**
+     * Get the degradation level.
+     *
+     * @return 0 if the frames are rendered in time, up to 3
+     */
+    public int getDegradation ()
+    {
+        return this.degradation;
+    }
+
+
+    /**
+     * Get the frame rate achieved during the last measurement period.
+     *
+     * @return The frames per second
+     */
+    public int getAchievedFrameRate ()
+    {
+        return this.achievedFrameRate;
+    }
+
+
+    /**
+     * Get the average time to render and transfer a frame.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getAverageFrameTime ()
+    {
+        return (long) this.averageFrameTime;
+    }
+
+
+    /**
+     * Get the number of frames which were dropped since they were not due.
+     *
+     * @return The number of dropped frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.droppedFrames;
+    }
+}
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.Pair;
 
 
@@ -39,6 +40,30 @@ public interface IGraphicDisplay extends IDisplay
     void send ();
 
 
+    /**
+     * Send the message to the display process independent of the targeted frame rate, e.g. a final
+     * message before shutdown.
+     */
+    void sendImmediately ();
+
+
+    /**
+     * Set the targeted frame rate. Frames which are sent faster are dropped but the latest content
+     * is sent as soon as the next frame is due.
+     *
+     * @param framesPerSecond The frames per second, 0 to disable the limit
+     */
+    void setFrameRate (int framesPerSecond);
+
+
+    /**
+     * Set an observer which is notified once per second about the achieved frame rate.
+     *
+     * @param observer The observer, which receives the frames per second
+     */
+    void setFrameRateObserver (IValueObserver<Integer> observer);
+
+
     /**
      * Set a notification message on the display, which overlays the current content.
      *
@@ -7,11 +7,6 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
-
 
 /**
  * Implementation of a grid of pads with software simulated blinking pads.
@@ -20,12 +15,12 @@ import java.util.TreeMap;
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int  BLINK_SPEED    = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    protected final PadStateSet blinkingLights = new PadStateSet ();
+    protected final PadStateSet padInfos       = new PadStateSet ();
+    protected boolean           isBlink;
+    protected long              updateTime     = System.currentTimeMillis ();
 
 
     /**
@@ -73,14 +68,12 @@ public abstract class BlinkingPadGrid extends PadGridImpl
      */
     protected void updateController ()
     {
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = this.padInfos.next (0); note >= 0; note = this.padInfos.next (note + 1))
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-            this.sendPadUpdate (note.intValue (), info.getColor ());
+            this.sendPadUpdate (note, this.padInfos.getColor (note));
 
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
+            if (this.padInfos.getBlinkColor (note) > 0)
+                this.blinkingLights.put (note, this.padInfos.get (note));
             else
                 this.blinkingLights.remove (note);
         }
@@ -88,11 +81,9 @@ public abstract class BlinkingPadGrid extends PadGridImpl
         // Toggle blink colors every 600ms
         if (!this.checkBlinking ())
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        for (int note = this.blinkingLights.next (0); note >= 0; note = this.blinkingLights.next (note + 1))
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
+            final int colorIndex = this.isBlink ? this.blinkingLights.getBlinkColor (note) : this.blinkingLights.getColor (note);
             this.sendPadUpdate (note, colorIndex);
         }
     }
@@ -104,7 +95,7 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.padInfos.setColor (note, color);
         }
     }
 
@@ -115,9 +106,7 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.padInfos.setBlink (note, blinkColor, fast);
         }
     }
 
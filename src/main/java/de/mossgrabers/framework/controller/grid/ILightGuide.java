@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
+
+
 /**
  * Interface to a light guide (LEDs above keys).
  *
@@ -51,6 +54,27 @@ public interface ILightGuide
     void light (int note, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param color The handle of a registered color ID of the color / brightness
+     */
+    void light (int note, ColorHandle color);
+
+
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param color The handle of a registered color ID of the color / brightness
+     * @param blinkColor The handle of a registered color ID of the blinking color / brightness,
+     *            null for no blinking
+     * @param fast Blinking is fast if true
+     */
+    void light (int note, ColorHandle color, ColorHandle blinkColor, boolean fast);
+
+
     /**
      * Resets the caching which forces a complete flush.
      */
@@ -154,8 +154,58 @@ public final class LightInfo
         if (this.blinkColor > 127)
             throw new FrameworkException ("Color indices may not be larger than 127 but blink index is " + this.blinkColor + "!");
 
-        final int codeBlinkColor = this.blinkColor < 0 ? 1 << 15 : this.blinkColor << 8;
-        final int codeFast = this.fast ? 1 << 16 : 0;
-        this.encoded = codeFast + codeBlinkColor + this.color;
+        this.encoded = encode (this.color, this.blinkColor, this.fast);
+    }
+
+
+    /**
+     * Encode the color and blink states as one integer.
+     *
+     * @param color The color (0-127)
+     * @param blinkColor The blink color (0-127) or -1 for off
+     * @param fast True to blink fast
+     * @return The encoded state
+     */
+    public static int encode (final int color, final int blinkColor, final boolean fast)
+    {
+        final int codeBlinkColor = blinkColor < 0 ? 1 << 15 : blinkColor << 8;
+        final int codeFast = fast ? 1 << 16 : 0;
+        return codeFast + codeBlinkColor + color;
+    }
+
+
+    /**
+     * Get the color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The color
+     */
+    public static int decodeColor (final int encoded)
+    {
+        return encoded & 0x7F;
+    }
+
+
+    /**
+     * Get the blink color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The blink color or -1 for off
+     */
+    public static int decodeBlinkColor (final int encoded)
+    {
+        return (encoded & 1 << 15) == 0 ? encoded >> 8 & 0x7F : -1;
+    }
+
+
+    /**
+     * Get the fast blink flag from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return True if fast
+     */
+    public static boolean decodeFast (final int encoded)
+    {
+        return (encoded & 1 << 16) != 0;
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
@@ -131,6 +132,30 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final ColorHandle color)
+    {
+        this.light (note, this.colorManager.getColorIndex (color), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final ColorHandle color, final ColorHandle blinkColor, final boolean fast)
+    {
+        this.light (note, this.colorManager.getColorIndex (color), blinkColor == null ? -1 : this.colorManager.getColorIndex (blinkColor), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final ColorHandle color)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndex (color), -1, false);
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
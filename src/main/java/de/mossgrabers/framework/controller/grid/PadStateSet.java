@@ -0,0 +1,218 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * A set of pads, identified by their MIDI note (0-127), with the light state of each contained pad.
+ * The contained pads are stored in a 128 bit bitmap and the states are encoded like in
+ * LightInfo.getEncoded in a flat array. Therefore, adding pads and iterating them in ascending
+ * order does not box or allocate anything. A pad is iterated like this:
+ *
+ * <pre>
+ * for (int note = set.next (0); note &gt;= 0; note = set.next (note + 1))
+ * </pre>
+ *
+ * The set is not thread-safe.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class PadStateSet
+{
+    private final int [] states = new int [128];
+    private long         low;
+    private long         high;
+
+
+    /**
+     * Set the color of a pad. If the pad is not yet contained, it is added without blinking.
+     *
+     * @param note The MIDI note of the pad
+     * @param color The color
+     */
+    public void setColor (final int note, final int color)
+    {
+        final int state = this.add (note) ? 0 : this.states[note] & ~0x7F;
+        this.states[note] = state | color;
+    }
+
+
+    /**
+     * Set the blink state of a pad. If the pad is not yet contained, it is added with color 0.
+     *
+     * @param note The MIDI note of the pad
+     * @param blinkColor The blink color or -1 for off
+     * @param fast True to blink fast
+     */
+    public void setBlink (final int note, final int blinkColor, final boolean fast)
+    {
+        final int color = this.add (note) ? 0 : LightInfo.decodeColor (this.states[note]);
+        this.states[note] = LightInfo.encode (color, blinkColor, fast);
+    }
+
+
+    /**
+     * Add a pad with the given state or replace its state.
+     *
+     * @param note The MIDI note of the pad
+     * @param state The encoded state, see LightInfo.getEncoded
+     */
+    public void put (final int note, final int state)
+    {
+        this.add (note);
+        this.states[note] = state;
+    }
+
+
+    /**
+     * Remove a pad.
+     *
+     * @param note The MIDI note of the pad
+     */
+    public void remove (final int note)
+    {
+        if (note < 64)
+            this.low &= ~(1L << note);
+        else
+            this.high &= ~(1L << note - 64);
+    }
+
+
+    /**
+     * Test if a pad is contained.
+     *
+     * @param note The MIDI note of the pad
+     * @return True if contained
+     */
+    public boolean contains (final int note)
+    {
+        if (note < 64)
+            return (this.low & 1L << note) != 0;
+        return (this.high & 1L << note - 64) != 0;
+    }
+
+
+    /**
+     * Get the next contained pad.
+     *
+     * @param fromNote The MIDI note from which to start the search (inclusive)
+     * @return The MIDI note of the next contained pad or -1 if there is none
+     */
+    public int next (final int fromNote)
+    {
+        if (fromNote < 64)
+        {
+            final long bits = this.low & -1L << fromNote;
+            if (bits != 0)
+                return Long.numberOfTrailingZeros (bits);
+            return this.high == 0 ? -1 : 64 + Long.numberOfTrailingZeros (this.high);
+        }
+        if (fromNote >= 128)
+            return -1;
+        final long bits = this.high & -1L << fromNote - 64;
+        return bits == 0 ? -1 : 64 + Long.numberOfTrailingZeros (bits);
+    }
+
+
+    /**
+     * Get the encoded state of a pad.
+     *
+     * @param note The MIDI note of the pad
+     * @return The encoded state, see LightInfo.getEncoded
+     */
+    public int get (final int note)
+    {
+        return this.states[note];
+    }
+
+
+    /**
+     * Get the color of a pad.
+     *
+     * @param note The MIDI note of the pad
+     * @return The color
+     */
+    public int getColor (final int note)
+    {
+        return LightInfo.decodeColor (this.states[note]);
+    }
+
+
+    /**
+     * Get the blink color of a pad.
+     *
+     * @param note The MIDI note of the pad
+     * @return The blink color or -1 for off
+     */
+    public int getBlinkColor (final int note)
+    {
+        return LightInfo.decodeBlinkColor (this.states[note]);
+    }
+
+
+    /**
+     * Blink fast or slow?
+     *
+     * @param note The MIDI note of the pad
+     * @return True if fast
+     */
+    public boolean isFast (final int note)
+    {
+        return LightInfo.decodeFast (this.states[note]);
+    }
+
+
+    /**
+     * Test if the set contains no pads.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.low == 0 && this.high == 0;
+    }
+
+
+    /**
+     * Get the number of contained pads.
+     *
+     * @return The number of pads
+     */
+    public int size ()
+    {
+        return Long.bitCount (this.low) + Long.bitCount (this.high);
+    }
+
+
+    /**
+     * Remove all pads.
+     */
+    public void clear ()
+    {
+        this.low = 0;
+        this.high = 0;
+    }
+
+
+    /**
+     * Add a pad to the bitmap.
+     *
+     * @param note The MIDI note of the pad
+     * @return True if the pad was not contained before
+     */
+    private boolean add (final int note)
+    {
+        if (note < 64)
+        {
+            final long bit = 1L << note;
+            final boolean isNew = (this.low & bit) == 0;
+            this.low |= bit;
+            return isNew;
+        }
+        final long bit = 1L << note - 64;
+        final boolean isNew = (this.high & bit) == 0;
+        this.high |= bit;
+        return isNew;
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 
 import java.util.List;
 
@@ -76,6 +77,8 @@ public enum DAWColor
 
     private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
     private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
+    /** The handle of the color ID of each color, indexed by the ordinal. */
+    private static final ColorHandle [] HANDLES          = createHandles ();
 
     private final String                name;
     private final ColorEx               color;
@@ -175,6 +178,24 @@ public enum DAWColor
      * @return The ID or the COLOR_OFF ID if none is mapped
      */
     public static String getColorID (final ColorEx color)
+    {
+        return getClosestColor (color).name ();
+    }
+
+
+    /**
+     * Get the handle of the color ID that is assigned to the given RGB values.
+     *
+     * @param color The color
+     * @return The handle of the ID or of the COLOR_OFF ID if none is mapped
+     */
+    public static ColorHandle getColorHandle (final ColorEx color)
+    {
+        return HANDLES[getClosestColor (color).ordinal ()];
+    }
+
+
+    private static DAWColor getClosestColor (final ColorEx color)
     {
         final DAWColor [] values = DAWColor.values ();
         DAWColor cid = values[0];
@@ -188,7 +209,17 @@ public enum DAWColor
                 minError = error;
             }
         }
-        return cid.name ();
+        return cid;
+    }
+
+
+    private static ColorHandle [] createHandles ()
+    {
+        final DAWColor [] values = DAWColor.values ();
+        final ColorHandle [] handles = new ColorHandle [values.length];
+        for (int i = 0; i < values.length; i++)
+            handles[i] = ColorHandle.of (values[i].name ());
+        return handles;
     }
 
 
@@ -116,9 +116,11 @@ public interface IHost
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxPacketSize The maximum size of a sent UDP datagram in bytes
+     * @param maxBytesPerSecond The maximum number of bytes to send per second
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxPacketSize, int maxBytesPerSecond);
 
 
     /**
@@ -177,6 +179,14 @@ public interface IHost
     IMemoryBlock createMemoryBlock (int size);
 
 
+    /**
+     * Get the service which stores the values of all VU meters.
+     *
+     * @return The service
+     */
+    VuMeterService getVuMeterService ();
+
+
     /**
      * Gets the USB Device at the specified index.
      *
@@ -0,0 +1,352 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores the values of all VU meters (e.g. the left and right meter of each channel of each bank)
+ * in primitive arrays. Each meter is registered once and identified by its index. The DAW updates
+ * the raw values with a resolution of MAX_RESOLUTION.
+ *
+ * Consumers which display the meters (e.g. the LCD meters of the MCU or OSC) create a reader with
+ * the refresh interval and resolution they need and subscribe to the meters they currently show.
+ * The reader keeps the maximum of each subscribed meter until the next refresh interval, therefore
+ * peaks are not lost even if the values are only sampled every few flushes. Meters without a
+ * subscription only store their latest value. The service is not thread-safe and needs to be used
+ * from the controller thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class VuMeterService
+{
+    /** The resolution of the raw meter values. */
+    public static final int  MAX_RESOLUTION = 16384;
+    /** Raw meter values above this border are clipping. */
+    public static final int  CLIP_BORDER    = 16241;
+
+    private static final int MAX_READERS    = 64;
+
+    private int []           left           = new int [64];
+    private int []           right          = new int [64];
+    /** The readers which subscribed to each meter, one bit for each reader. */
+    private long []          subscribers    = new long [64];
+    private int              numMeters;
+    private final Reader []  readers        = new Reader [MAX_READERS];
+    private int              numReaders;
+
+
+    /**
+     * Register a new stereo meter.
+     *
+     * @return The index of the meter
+     */
+    public int register ()
+    {
+        if (this.numMeters == this.left.length)
+        {
+            final int size = this.numMeters * 2;
+            this.left = Arrays.copyOf (this.left, size);
+            this.right = Arrays.copyOf (this.right, size);
+            this.subscribers = Arrays.copyOf (this.subscribers, size);
+        }
+        return this.numMeters++;
+    }
+
+
+    /**
+     * Get the number of registered meters.
+     *
+     * @return The number of meters
+     */
+    public int getNumberOfMeters ()
+    {
+        return this.numMeters;
+    }
+
+
+    /**
+     * Create a reader for the meters.
+     *
+     * @param interval The minimum time between 2 samples of the reader in milliseconds
+     * @param resolution The resolution of the values returned by the reader, e.g. the upper bound
+     *            of the value changer
+     * @return The reader
+     */
+    public Reader createReader (final long interval, final int resolution)
+    {
+        if (this.numReaders == MAX_READERS)
+            throw new IllegalStateException ("Too many VU meter readers.");
+        final Reader reader = new Reader (this.numReaders, interval, resolution);
+        this.readers[this.numReaders++] = reader;
+        return reader;
+    }
+
+
+    /**
+     * Update the raw value of the left or right channel of a meter.
+     *
+     * @param meter The index of the meter
+     * @param isRight True to update the right channel, false for the left
+     * @param value The raw value in the range of [0..MAX_RESOLUTION]
+     */
+    public void update (final int meter, final boolean isRight, final int value)
+    {
+        // Limit value to MAX_RESOLUTION - 1 due to
+        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
+        final int v = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        if (isRight)
+            this.right[meter] = v;
+        else
+            this.left[meter] = v;
+
+        long mask = this.subscribers[meter];
+        while (mask != 0)
+        {
+            this.readers[Long.numberOfTrailingZeros (mask)].hold (meter, isRight, v);
+            mask &= mask - 1;
+        }
+    }
+
+
+    /**
+     * Get the latest raw value of the left channel of a meter.
+     *
+     * @param meter The index of the meter
+     * @return The raw value in the range of [0..MAX_RESOLUTION-1]
+     */
+    public int getLeft (final int meter)
+    {
+        return this.left[meter];
+    }
+
+
+    /**
+     * Get the latest raw value of the right channel of a meter.
+     *
+     * @param meter The index of the meter
+     * @return The raw value in the range of [0..MAX_RESOLUTION-1]
+     */
+    public int getRight (final int meter)
+    {
+        return this.right[meter];
+    }
+
+
+    /**
+     * Reads subscribed meters with a specific refresh interval and resolution.
+     */
+    public class Reader
+    {
+        private final long bit;
+        private final long interval;
+        private final int  resolution;
+        private long       lastSample;
+        private int []     heldLeft     = new int [0];
+        private int []     heldRight    = new int [0];
+        private int []     sampledLeft  = new int [0];
+        private int []     sampledRight = new int [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param index The index of the reader
+         * @param interval The minimum time between 2 samples in milliseconds
+         * @param resolution The resolution of the returned values
+         */
+        Reader (final int index, final long interval, final int resolution)
+        {
+            this.bit = 1L << index;
+            this.interval = interval;
+            this.resolution = resolution;
+        }
+
+
+        /**
+         * Subscribe to a meter. Nothing happens if the reader is already subscribed.
+         *
+         * @param meter The index of the meter, ignored if negative
+         */
+        public void subscribe (final int meter)
+        {
+            if (meter < 0 || this.isSubscribed (meter))
+                return;
+            this.ensureCapacity ();
+            VuMeterService.this.subscribers[meter] |= this.bit;
+            this.heldLeft[meter] = VuMeterService.this.left[meter];
+            this.heldRight[meter] = VuMeterService.this.right[meter];
+            this.sampledLeft[meter] = this.heldLeft[meter];
+            this.sampledRight[meter] = this.heldRight[meter];
+        }
+
+
+        /**
+         * Unsubscribe from a meter.
+         *
+         * @param meter The index of the meter, ignored if negative
+         */
+        public void unsubscribe (final int meter)
+        {
+            if (meter >= 0)
+                VuMeterService.this.subscribers[meter] &= ~this.bit;
+        }
+
+
+        /**
+         * Unsubscribe from all meters.
+         */
+        public void unsubscribeAll ()
+        {
+            for (int meter = 0; meter < VuMeterService.this.numMeters; meter++)
+                VuMeterService.this.subscribers[meter] &= ~this.bit;
+        }
+
+
+        /**
+         * Is the reader subscribed to the meter?
+         *
+         * @param meter The index of the meter
+         * @return True if subscribed
+         */
+        public boolean isSubscribed (final int meter)
+        {
+            return meter >= 0 && (VuMeterService.this.subscribers[meter] & this.bit) != 0;
+        }
+
+
+        /**
+         * Take a new sample of the subscribed meters if the refresh interval has elapsed since the
+         * last sample. The sampled value of a meter is the maximum since the last sample.
+         *
+         * @return True if a new sample was taken, false if the previous values are still used
+         */
+        public boolean sample ()
+        {
+            final long now = System.currentTimeMillis ();
+            if (now - this.lastSample < this.interval)
+                return false;
+            this.lastSample = now;
+
+            this.ensureCapacity ();
+            for (int meter = 0; meter < VuMeterService.this.numMeters; meter++)
+            {
+                if ((VuMeterService.this.subscribers[meter] & this.bit) == 0)
+                    continue;
+                this.sampledLeft[meter] = this.heldLeft[meter];
+                this.sampledRight[meter] = this.heldRight[meter];
+                this.heldLeft[meter] = VuMeterService.this.left[meter];
+                this.heldRight[meter] = VuMeterService.this.right[meter];
+            }
+            return true;
+        }
+
+
+        /**
+         * Get the sampled value of the left channel of a meter.
+         *
+         * @param meter The index of the meter
+         * @return The value in the range of the resolution of the reader, 0 if not subscribed
+         */
+        public int getLeft (final int meter)
+        {
+            return this.isSubscribed (meter) ? this.sampledLeft[meter] * this.resolution / MAX_RESOLUTION : 0;
+        }
+
+
+        /**
+         * Get the sampled value of the right channel of a meter.
+         *
+         * @param meter The index of the meter
+         * @return The value in the range of the resolution of the reader, 0 if not subscribed
+         */
+        public int getRight (final int meter)
+        {
+            return this.isSubscribed (meter) ? this.sampledRight[meter] * this.resolution / MAX_RESOLUTION : 0;
+        }
+
+
+        /**
+         * Get the sampled mono value of a meter.
+         *
+         * @param meter The index of the meter
+         * @return The value in the range of the resolution of the reader, 0 if not subscribed
+         */
+        public int getMono (final int meter)
+        {
+            if (!this.isSubscribed (meter))
+                return 0;
+            return (int) Math.round ((this.sampledLeft[meter] + this.sampledRight[meter]) * this.resolution / (double) MAX_RESOLUTION / 2.0);
+        }
+
+
+        /**
+         * Is the sampled value of the left channel of a meter clipping?
+         *
+         * @param meter The index of the meter
+         * @return True if clipping
+         */
+        public boolean isLeftClipping (final int meter)
+        {
+            return this.isSubscribed (meter) && this.sampledLeft[meter] >= CLIP_BORDER;
+        }
+
+
+        /**
+         * Is the sampled value of the right channel of a meter clipping?
+         *
+         * @param meter The index of the meter
+         * @return True if clipping
+         */
+        public boolean isRightClipping (final int meter)
+        {
+            return this.isSubscribed (meter) && this.sampledRight[meter] >= CLIP_BORDER;
+        }
+
+
+        /**
+         * Is the sampled value of the left or right channel of a meter clipping?
+         *
+         * @param meter The index of the meter
+         * @return True if clipping
+         */
+        public boolean isClipping (final int meter)
+        {
+            return this.isLeftClipping (meter) || this.isRightClipping (meter);
+        }
+
+
+        /**
+         * Keep the maximum of a meter value until the next sample.
+         *
+         * @param meter The index of the meter
+         * @param isRight True for the right channel, false for the left
+         * @param value The raw value
+         */
+        void hold (final int meter, final boolean isRight, final int value)
+        {
+            if (isRight)
+            {
+                if (value > this.heldRight[meter])
+                    this.heldRight[meter] = value;
+            }
+            else if (value > this.heldLeft[meter])
+                this.heldLeft[meter] = value;
+        }
+
+
+        private void ensureCapacity ()
+        {
+            final int size = VuMeterService.this.left.length;
+            if (this.heldLeft.length >= size)
+                return;
+            this.heldLeft = Arrays.copyOf (this.heldLeft, size);
+            this.heldRight = Arrays.copyOf (this.heldRight, size);
+            this.sampledLeft = Arrays.copyOf (this.sampledLeft, size);
+            this.sampledRight = Arrays.copyOf (this.sampledRight, size);
+        }
+    }
+}
@@ -57,6 +57,24 @@ public interface INoteClip extends IClip, IPinnable
     IStepInfo getStep (NotePosition position);
 
 
+    /**
+     * Get the state of a step. Faster than getting the state from the step info.
+     *
+     * @param position The position of the note
+     * @return The state of the step
+     */
+    StepState getStepState (NotePosition position);
+
+
+    /**
+     * Get the velocity of a step. Faster than getting the velocity from the step info.
+     *
+     * @param position The position of the note
+     * @return The velocity of the step in the range of [0..1], 0 if the step has no data
+     */
+    double getStepVelocity (NotePosition position);
+
+
     /**
      * Toggle a note at a step.
      *
@@ -502,6 +520,24 @@ public interface INoteClip extends IClip, IPinnable
     void stopEdit ();
 
 
+    /**
+     * Start a transaction of step edits, e.g. for copying or moving many steps at once. Until the
+     * transaction is ended, the steps which are set with setStep or cleared with clearStep are only
+     * collected. If a step is edited several times, only the last edit is applied. Transactions can
+     * be nested, the edits are applied when the outermost transaction ends. Always end the
+     * transaction in a finally block, otherwise all further edits are collected forever if an edit
+     * fails.
+     */
+    void startStepTransaction ();
+
+
+    /**
+     * End a transaction of step edits, which was started with startStepTransaction. All collected
+     * edits are applied in one pass.
+     */
+    void endStepTransaction ();
+
+
     /**
      * Clear all notes on all channels.
      */
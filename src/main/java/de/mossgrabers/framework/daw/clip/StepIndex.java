@@ -0,0 +1,256 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+/**
+ * An index of the occupied steps of a note clip, which is updated whenever the state of a step
+ * changes. For each channel and step the rows which contain a note (start or continue) and the rows
+ * in which a note starts are stored as 128 bit bitmaps. Additionally, the number of occupied steps
+ * of each row of a channel is counted, which gives a bitmap of the rows of a channel which contain
+ * data. Therefore, the queries for rows with data and for the next or previous note are bit scans
+ * instead of iterating over all steps and rows. The index is not thread-safe.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class StepIndex
+{
+    private static final int NUM_CHANNELS = 16;
+    private static final int NUM_ROWS     = 128;
+
+    private final int        numSteps;
+    /** The occupied rows for each channel and step, 2 longs each. */
+    private final long []    stepRows;
+    /** The rows in which a note starts for each channel and step, 2 longs each. */
+    private final long []    startRows;
+    /** The number of occupied steps for each channel and row. */
+    private final int []     rowCounts    = new int [NUM_CHANNELS * NUM_ROWS];
+    /** The rows which contain data for each channel, 2 longs each. */
+    private final long []    channelRows  = new long [NUM_CHANNELS * 2];
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     */
+    public StepIndex (final int numSteps)
+    {
+        this.numSteps = numSteps;
+        this.stepRows = new long [NUM_CHANNELS * numSteps * 2];
+        this.startRows = new long [NUM_CHANNELS * numSteps * 2];
+    }
+
+
+    /**
+     * Update the state of a step.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param step The step
+     * @param row The row (0-127)
+     * @param state The new state of the step
+     */
+    public void update (final int channel, final int step, final int row, final StepState state)
+    {
+        final int index = (channel * this.numSteps + step) * 2 + (row >> 6);
+        final long bit = 1L << (row & 63);
+
+        if (state == StepState.START)
+            this.startRows[index] |= bit;
+        else
+            this.startRows[index] &= ~bit;
+
+        final boolean wasOccupied = (this.stepRows[index] & bit) != 0;
+        final boolean isOccupied = state != StepState.OFF;
+        if (wasOccupied == isOccupied)
+            return;
+
+        final int countIndex = channel * NUM_ROWS + row;
+        final int channelIndex = channel * 2 + (row >> 6);
+        if (isOccupied)
+        {
+            this.stepRows[index] |= bit;
+            if (this.rowCounts[countIndex]++ == 0)
+                this.channelRows[channelIndex] |= bit;
+        }
+        else
+        {
+            this.stepRows[index] &= ~bit;
+            if (--this.rowCounts[countIndex] == 0)
+                this.channelRows[channelIndex] &= ~bit;
+        }
+    }
+
+
+    /**
+     * Does the row of the channel contain any note?
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param row The row (0-127)
+     * @return True if at least one step of the row is not off
+     */
+    public boolean hasRowData (final int channel, final int row)
+    {
+        return this.rowCounts[channel * NUM_ROWS + row] > 0;
+    }
+
+
+    /**
+     * Get the lowest row of all channels which contains data.
+     *
+     * @return The row or -1 if all rows are empty
+     */
+    public int getLowestRowWithData ()
+    {
+        long low = 0;
+        long high = 0;
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            low |= this.channelRows[channel * 2];
+            high |= this.channelRows[channel * 2 + 1];
+        }
+        return lowest (low, high);
+    }
+
+
+    /**
+     * Get the highest row of all channels which contains data.
+     *
+     * @return The row or -1 if all rows are empty
+     */
+    public int getHighestRowWithData ()
+    {
+        long low = 0;
+        long high = 0;
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            low |= this.channelRows[channel * 2];
+            high |= this.channelRows[channel * 2 + 1];
+        }
+        return highest (low, high);
+    }
+
+
+    /**
+     * Get the lowest row of a channel which contains data.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @return The row or -1 if all rows are empty
+     */
+    public int getLowestRowWithData (final int channel)
+    {
+        return lowest (this.channelRows[channel * 2], this.channelRows[channel * 2 + 1]);
+    }
+
+
+    /**
+     * Get the highest row of a channel which contains data.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @return The row or -1 if all rows are empty
+     */
+    public int getHighestRowWithData (final int channel)
+    {
+        return highest (this.channelRows[channel * 2], this.channelRows[channel * 2 + 1]);
+    }
+
+
+    /**
+     * Get the highest row of a step of a channel which contains data.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param step The step
+     * @return The row or -1 if all rows of the step are empty
+     */
+    public int getHighestRow (final int channel, final int step)
+    {
+        final int index = (channel * this.numSteps + step) * 2;
+        return highest (this.stepRows[index], this.stepRows[index + 1]);
+    }
+
+
+    /**
+     * Get the highest row of a step in which a note starts on one of the given channels.
+     *
+     * @param channelStart The first channel to search
+     * @param channelEnd The channel after the last one to search
+     * @param step The step
+     * @param maxRow The highest row to consider
+     * @return The row or -1 if no note starts in the rows up to maxRow
+     */
+    public int getHighestStartRow (final int channelStart, final int channelEnd, final int step, final int maxRow)
+    {
+        if (maxRow < 0)
+            return -1;
+
+        long low = 0;
+        long high = 0;
+        for (int channel = channelStart; channel < channelEnd; channel++)
+        {
+            final int index = (channel * this.numSteps + step) * 2;
+            low |= this.startRows[index];
+            high |= this.startRows[index + 1];
+        }
+
+        if (maxRow < 64)
+        {
+            high = 0;
+            if (maxRow < 63)
+                low &= (1L << maxRow + 1) - 1;
+        }
+        else if (maxRow < 127)
+            high &= (1L << maxRow - 63) - 1;
+        return highest (low, high);
+    }
+
+
+    /**
+     * Get the lowest row of a step in which a note starts on one of the given channels.
+     *
+     * @param channelStart The first channel to search
+     * @param channelEnd The channel after the last one to search
+     * @param step The step
+     * @param minRow The lowest row to consider
+     * @return The row or -1 if no note starts in the rows from minRow
+     */
+    public int getLowestStartRow (final int channelStart, final int channelEnd, final int step, final int minRow)
+    {
+        if (minRow >= NUM_ROWS)
+            return -1;
+
+        long low = 0;
+        long high = 0;
+        for (int channel = channelStart; channel < channelEnd; channel++)
+        {
+            final int index = (channel * this.numSteps + step) * 2;
+            low |= this.startRows[index];
+            high |= this.startRows[index + 1];
+        }
+
+        if (minRow >= 64)
+        {
+            low = 0;
+            high &= -1L << minRow - 64;
+        }
+        else if (minRow > 0)
+            low &= -1L << minRow;
+        return lowest (low, high);
+    }
+
+
+    private static int lowest (final long low, final long high)
+    {
+        if (low != 0)
+            return Long.numberOfTrailingZeros (low);
+        return high == 0 ? -1 : 64 + Long.numberOfTrailingZeros (high);
+    }
+
+
+    private static int highest (final long low, final long high)
+    {
+        if (high != 0)
+            return 127 - Long.numberOfLeadingZeros (high);
+        return low == 0 ? -1 : 63 - Long.numberOfLeadingZeros (low);
+    }
+}
@@ -0,0 +1,777 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+import de.mossgrabers.framework.daw.constants.Resolution;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores the data of the steps of a note clip (16 channels x steps x rows) as a structure of
+ * arrays instead of one object for each step. A step which received data gets a slot and all its
+ * attributes are stored at the index of the slot in packed arrays (flags, doubles, bytes and
+ * shorts). The normalized values are kept as doubles, exactly as received from the host. Access to
+ * a step is provided by a light-weight view, which only references the slot. Since a slot is never
+ * re-assigned to a different step, a view stays valid and is created only once for each slot. The
+ * mapping of the positions to the slots is allocated lazily for each step of a channel.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class StepStore
+{
+    private static final int                   NUM_CHANNELS            = 16;
+    private static final int                   INITIAL_CAPACITY        = 64;
+
+    private static final int                   STATE_MASK              = 0x03;
+    private static final int                   FLAG_SELECTED           = 0x04;
+    private static final int                   FLAG_MUTED              = 0x08;
+    private static final int                   FLAG_CHANCE_ENABLED     = 0x10;
+    private static final int                   FLAG_OCCURRENCE_ENABLED = 0x20;
+    private static final int                   FLAG_RECURRENCE_ENABLED = 0x40;
+    private static final int                   FLAG_REPEAT_ENABLED     = 0x80;
+    /** The ordinal of the occurrence + 1 is stored from this bit, 0 is no occurrence. */
+    private static final int                   OCCURRENCE_SHIFT        = 8;
+
+    private static final StepState []          STATES                  = StepState.values ();
+    private static final NoteOccurrenceType [] OCCURRENCES             = NoteOccurrenceType.values ();
+
+    private final int                          numSteps;
+    private final int                          numRows;
+
+    /** The slot + 1 for each channel/step and row, 0 if the step has no slot. */
+    private final int [] []                    slots;
+    private int                                size;
+
+    /** The view for each slot. */
+    private StepView []                        views;
+    private int []                             flags;
+    private double []                          duration;
+    private double []                          velocity;
+    private double []                          velocitySpread;
+    private double []                          releaseVelocity;
+    private double []                          pressure;
+    private double []                          timbre;
+    private double []                          pan;
+    private double []                          transpose;
+    private double []                          gain;
+    private double []                          chance;
+    private double []                          repeatCurve;
+    private double []                          repeatVelocityCurve;
+    private double []                          repeatVelocityEnd;
+    private byte []                            recurrenceLength;
+    private short []                           recurrenceMask;
+    private short []                           repeatCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public StepStore (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.slots = new int [NUM_CHANNELS * numSteps] [];
+        this.allocate (INITIAL_CAPACITY);
+    }
+
+
+    /**
+     * Get the step at the given position.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param step The step
+     * @param row The row
+     * @return The view on the step or null if the step never received data
+     */
+    public StepView get (final int channel, final int step, final int row)
+    {
+        final int slot = this.getSlot (channel, step, row);
+        if (slot < 0)
+            return null;
+        // The view is missing if the slot was created concurrently while the arrays were grown
+        final StepView view = this.views[slot];
+        return view == null ? new StepView (slot) : view;
+    }
+
+
+    /**
+     * Get the step at the given position. Creates a slot for the step if it does not have one.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param step The step
+     * @param row The row
+     * @return The view on the step
+     */
+    public synchronized StepView getOrCreate (final int channel, final int step, final int row)
+    {
+        this.checkPosition (channel, step, row);
+
+        final int index = channel * this.numSteps + step;
+        int [] rows = this.slots[index];
+        if (rows == null)
+        {
+            rows = new int [this.numRows];
+            this.slots[index] = rows;
+        }
+
+        if (rows[row] == 0)
+        {
+            if (this.size == this.flags.length)
+                this.allocate (2 * this.size);
+            final int slot = this.size++;
+            this.duration[slot] = Resolution.RES_1_16.getValue ();
+            this.views[slot] = new StepView (slot);
+            rows[row] = slot + 1;
+        }
+        return this.views[rows[row] - 1];
+    }
+
+
+    /**
+     * Get the state of a step without creating a view.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param step The step
+     * @param row The row
+     * @return The state, OFF if the step never received data
+     */
+    public StepState getState (final int channel, final int step, final int row)
+    {
+        final int slot = this.getSlot (channel, step, row);
+        return slot < 0 ? StepState.OFF : STATES[this.flags[slot] & STATE_MASK];
+    }
+
+
+    /**
+     * Get the velocity of a step without creating a view.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param step The step
+     * @param row The row
+     * @return The velocity, 0 if the step never received data
+     */
+    public double getVelocity (final int channel, final int step, final int row)
+    {
+        final int slot = this.getSlot (channel, step, row);
+        return slot < 0 ? 0 : this.velocity[slot];
+    }
+
+
+    /**
+     * Get the number of steps which have a slot.
+     *
+     * @return The number of slots
+     */
+    public int size ()
+    {
+        return this.size;
+    }
+
+
+    private int getSlot (final int channel, final int step, final int row)
+    {
+        this.checkPosition (channel, step, row);
+        final int [] rows = this.slots[channel * this.numSteps + step];
+        return rows == null ? -1 : rows[row] - 1;
+    }
+
+
+    private void checkPosition (final int channel, final int step, final int row)
+    {
+        if (channel < 0 || channel >= NUM_CHANNELS || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            throw new ArrayIndexOutOfBoundsException ("Position (" + channel + ", " + step + ", " + row + ") is outside of the store.");
+    }
+
+
+    private void allocate (final int capacity)
+    {
+        if (this.flags == null)
+        {
+            this.views = new StepView [capacity];
+            this.flags = new int [capacity];
+            this.duration = new double [capacity];
+            this.velocity = new double [capacity];
+            this.velocitySpread = new double [capacity];
+            this.releaseVelocity = new double [capacity];
+            this.pressure = new double [capacity];
+            this.timbre = new double [capacity];
+            this.pan = new double [capacity];
+            this.transpose = new double [capacity];
+            this.gain = new double [capacity];
+            this.chance = new double [capacity];
+            this.repeatCurve = new double [capacity];
+            this.repeatVelocityCurve = new double [capacity];
+            this.repeatVelocityEnd = new double [capacity];
+            this.recurrenceLength = new byte [capacity];
+            this.recurrenceMask = new short [capacity];
+            this.repeatCount = new short [capacity];
+            return;
+        }
+
+        this.views = Arrays.copyOf (this.views, capacity);
+        this.flags = Arrays.copyOf (this.flags, capacity);
+        this.duration = Arrays.copyOf (this.duration, capacity);
+        this.velocity = Arrays.copyOf (this.velocity, capacity);
+        this.velocitySpread = Arrays.copyOf (this.velocitySpread, capacity);
+        this.releaseVelocity = Arrays.copyOf (this.releaseVelocity, capacity);
+        this.pressure = Arrays.copyOf (this.pressure, capacity);
+        this.timbre = Arrays.copyOf (this.timbre, capacity);
+        this.pan = Arrays.copyOf (this.pan, capacity);
+        this.transpose = Arrays.copyOf (this.transpose, capacity);
+        this.gain = Arrays.copyOf (this.gain, capacity);
+        this.chance = Arrays.copyOf (this.chance, capacity);
+        this.repeatCurve = Arrays.copyOf (this.repeatCurve, capacity);
+        this.repeatVelocityCurve = Arrays.copyOf (this.repeatVelocityCurve, capacity);
+        this.repeatVelocityEnd = Arrays.copyOf (this.repeatVelocityEnd, capacity);
+        this.recurrenceLength = Arrays.copyOf (this.recurrenceLength, capacity);
+        this.recurrenceMask = Arrays.copyOf (this.recurrenceMask, capacity);
+        this.repeatCount = Arrays.copyOf (this.repeatCount, capacity);
+    }
+
+
+    private boolean isFlag (final int slot, final int flag)
+    {
+        return (this.flags[slot] & flag) != 0;
+    }
+
+
+    private void setFlag (final int slot, final int flag, final boolean isSet)
+    {
+        if (isSet)
+            this.flags[slot] |= flag;
+        else
+            this.flags[slot] &= ~flag;
+    }
+
+
+    /**
+     * A view on the data of one step in the store.
+     */
+    public class StepView implements IStepInfo
+    {
+        private final int slot;
+
+
+        /**
+         * Constructor.
+         *
+         * @param slot The slot of the step
+         */
+        StepView (final int slot)
+        {
+            this.slot = slot;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public StepState getState ()
+        {
+            return STATES[StepStore.this.flags[this.slot] & STATE_MASK];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isSelected ()
+        {
+            return StepStore.this.isFlag (this.slot, FLAG_SELECTED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isMuted ()
+        {
+            return StepStore.this.isFlag (this.slot, FLAG_MUTED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getDuration ()
+        {
+            return StepStore.this.duration[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getVelocity ()
+        {
+            return StepStore.this.velocity[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getVelocitySpread ()
+        {
+            return StepStore.this.velocitySpread[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getReleaseVelocity ()
+        {
+            return StepStore.this.releaseVelocity[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getPressure ()
+        {
+            return StepStore.this.pressure[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getTimbre ()
+        {
+            return StepStore.this.timbre[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getPan ()
+        {
+            return StepStore.this.pan[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getTranspose ()
+        {
+            return StepStore.this.transpose[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getGain ()
+        {
+            return StepStore.this.gain[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isChanceEnabled ()
+        {
+            return StepStore.this.isFlag (this.slot, FLAG_CHANCE_ENABLED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getChance ()
+        {
+            return StepStore.this.chance[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isOccurrenceEnabled ()
+        {
+            return StepStore.this.isFlag (this.slot, FLAG_OCCURRENCE_ENABLED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public NoteOccurrenceType getOccurrence ()
+        {
+            final int occurrence = StepStore.this.flags[this.slot] >> OCCURRENCE_SHIFT;
+            return occurrence == 0 ? null : OCCURRENCES[occurrence - 1];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isRecurrenceEnabled ()
+        {
+            return StepStore.this.isFlag (this.slot, FLAG_RECURRENCE_ENABLED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRecurrenceLength ()
+        {
+            return StepStore.this.recurrenceLength[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRecurrenceMask ()
+        {
+            return StepStore.this.recurrenceMask[this.slot] & 0xFFFF;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isRepeatEnabled ()
+        {
+            return StepStore.this.isFlag (this.slot, FLAG_REPEAT_ENABLED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRepeatCount ()
+        {
+            return StepStore.this.repeatCount[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getFormattedRepeatCount ()
+        {
+            final int count = this.getRepeatCount ();
+            if (count == 0)
+                return "Off";
+            if (count < 0)
+                return "1/" + Math.abs (count - 1);
+            return Integer.toString (count + 1);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getRepeatCurve ()
+        {
+            return StepStore.this.repeatCurve[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getRepeatVelocityCurve ()
+        {
+            return StepStore.this.repeatVelocityCurve[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getRepeatVelocityEnd ()
+        {
+            return StepStore.this.repeatVelocityEnd[this.slot];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public IStepInfo createCopy ()
+        {
+            final DefaultStepInfo copy = new DefaultStepInfo ();
+            copy.setState (this.getState ());
+            copy.setSelected (this.isSelected ());
+            copy.setMuted (this.isMuted ());
+            copy.setDuration (this.getDuration ());
+            copy.setVelocity (this.getVelocity ());
+            copy.setVelocitySpread (this.getVelocitySpread ());
+            copy.setReleaseVelocity (this.getReleaseVelocity ());
+            copy.setPressure (this.getPressure ());
+            copy.setTimbre (this.getTimbre ());
+            copy.setPan (this.getPan ());
+            copy.setTranspose (this.getTranspose ());
+            copy.setGain (this.getGain ());
+            copy.setIsChanceEnabled (this.isChanceEnabled ());
+            copy.setChance (this.getChance ());
+            copy.setIsOccurrenceEnabled (this.isOccurrenceEnabled ());
+            copy.setOccurrence (this.getOccurrence ());
+            copy.setIsRecurrenceEnabled (this.isRecurrenceEnabled ());
+            copy.setRecurrenceLength (this.getRecurrenceLength ());
+            copy.setRecurrenceMask (this.getRecurrenceMask ());
+            copy.setIsRepeatEnabled (this.isRepeatEnabled ());
+            copy.setRepeatCount (this.getRepeatCount ());
+            copy.setRepeatCurve (this.getRepeatCurve ());
+            copy.setRepeatVelocityCurve (this.getRepeatVelocityCurve ());
+            copy.setRepeatVelocityEnd (this.getRepeatVelocityEnd ());
+            return copy;
+        }
+
+
+        /**
+         * Set the state.
+         *
+         * @param state The state
+         */
+        public void setState (final StepState state)
+        {
+            final int [] flags = StepStore.this.flags;
+            flags[this.slot] = flags[this.slot] & ~STATE_MASK | state.ordinal ();
+        }
+
+
+        /**
+         * Set the selected state.
+         *
+         * @param isSelected True if selected
+         */
+        public void setSelected (final boolean isSelected)
+        {
+            StepStore.this.setFlag (this.slot, FLAG_SELECTED, isSelected);
+        }
+
+
+        /**
+         * Set the muted state.
+         *
+         * @param isMuted True if muted
+         */
+        public void setMuted (final boolean isMuted)
+        {
+            StepStore.this.setFlag (this.slot, FLAG_MUTED, isMuted);
+        }
+
+
+        /**
+         * Set the duration.
+         *
+         * @param duration The duration
+         */
+        public void setDuration (final double duration)
+        {
+            StepStore.this.duration[this.slot] = duration;
+        }
+
+
+        /**
+         * Set the velocity.
+         *
+         * @param velocity The velocity
+         */
+        public void setVelocity (final double velocity)
+        {
+            StepStore.this.velocity[this.slot] = velocity;
+        }
+
+
+        /**
+         * Set the velocity spread.
+         *
+         * @param velocitySpread The velocity spread
+         */
+        public void setVelocitySpread (final double velocitySpread)
+        {
+            StepStore.this.velocitySpread[this.slot] = velocitySpread;
+        }
+
+
+        /**
+         * Set the release velocity.
+         *
+         * @param releaseVelocity The release velocity
+         */
+        public void setReleaseVelocity (final double releaseVelocity)
+        {
+            StepStore.this.releaseVelocity[this.slot] = releaseVelocity;
+        }
+
+
+        /**
+         * Set the pressure.
+         *
+         * @param pressure The pressure
+         */
+        public void setPressure (final double pressure)
+        {
+            StepStore.this.pressure[this.slot] = pressure;
+        }
+
+
+        /**
+         * Set the timbre.
+         *
+         * @param timbre The timbre
+         */
+        public void setTimbre (final double timbre)
+        {
+            StepStore.this.timbre[this.slot] = timbre;
+        }
+
+
+        /**
+         * Set the panorama.
+         *
+         * @param pan The panorama
+         */
+        public void setPan (final double pan)
+        {
+            StepStore.this.pan[this.slot] = pan;
+        }
+
+
+        /**
+         * Set the transposition.
+         *
+         * @param transpose The transposition
+         */
+        public void setTranspose (final double transpose)
+        {
+            StepStore.this.transpose[this.slot] = transpose;
+        }
+
+
+        /**
+         * Set the gain.
+         *
+         * @param gain The gain
+         */
+        public void setGain (final double gain)
+        {
+            StepStore.this.gain[this.slot] = gain;
+        }
+
+
+        /**
+         * Set if chance is enabled.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsChanceEnabled (final boolean isEnabled)
+        {
+            StepStore.this.setFlag (this.slot, FLAG_CHANCE_ENABLED, isEnabled);
+        }
+
+
+        /**
+         * Set the chance.
+         *
+         * @param chance The chance
+         */
+        public void setChance (final double chance)
+        {
+            StepStore.this.chance[this.slot] = chance;
+        }
+
+
+        /**
+         * Set if occurrence is enabled.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsOccurrenceEnabled (final boolean isEnabled)
+        {
+            StepStore.this.setFlag (this.slot, FLAG_OCCURRENCE_ENABLED, isEnabled);
+        }
+
+
+        /**
+         * Set the occurrence.
+         *
+         * @param occurrence The occurrence, may be null
+         */
+        public void setOccurrence (final NoteOccurrenceType occurrence)
+        {
+            final int [] flags = StepStore.this.flags;
+            final int value = occurrence == null ? 0 : occurrence.ordinal () + 1;
+            flags[this.slot] = flags[this.slot] & (1 << OCCURRENCE_SHIFT) - 1 | value << OCCURRENCE_SHIFT;
+        }
+
+
+        /**
+         * Set if recurrence is enabled.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsRecurrenceEnabled (final boolean isEnabled)
+        {
+            StepStore.this.setFlag (this.slot, FLAG_RECURRENCE_ENABLED, isEnabled);
+        }
+
+
+        /**
+         * Set the recurrence length.
+         *
+         * @param recurrenceLength The length
+         */
+        public void setRecurrenceLength (final int recurrenceLength)
+        {
+            StepStore.this.recurrenceLength[this.slot] = (byte) recurrenceLength;
+        }
+
+
+        /**
+         * Set the recurrence mask.
+         *
+         * @param recurrenceMask The mask
+         */
+        public void setRecurrenceMask (final int recurrenceMask)
+        {
+            StepStore.this.recurrenceMask[this.slot] = (short) recurrenceMask;
+        }
+
+
+        /**
+         * Set if repeat is enabled.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsRepeatEnabled (final boolean isEnabled)
+        {
+            StepStore.this.setFlag (this.slot, FLAG_REPEAT_ENABLED, isEnabled);
+        }
+
+
+        /**
+         * Set the repeat count.
+         *
+         * @param repeatCount The count
+         */
+        public void setRepeatCount (final int repeatCount)
+        {
+            StepStore.this.repeatCount[this.slot] = (short) repeatCount;
+        }
+
+
+        /**
+         * Set the repeat curve.
+         *
+         * @param repeatCurve The curve
+         */
+        public void setRepeatCurve (final double repeatCurve)
+        {
+            StepStore.this.repeatCurve[this.slot] = repeatCurve;
+        }
+
+
+        /**
+         * Set the repeat velocity curve.
+         *
+         * @param repeatVelocityCurve The curve
+         */
+        public void setRepeatVelocityCurve (final double repeatVelocityCurve)
+        {
+            StepStore.this.repeatVelocityCurve[this.slot] = repeatVelocityCurve;
+        }
+
+
+        /**
+         * Set the repeat velocity end.
+         *
+         * @param repeatVelocityEnd The end
+         */
+        public void setRepeatVelocityEnd (final double repeatVelocityEnd)
+        {
+            StepStore.this.repeatVelocityEnd[this.slot] = repeatVelocityEnd;
+        }
+    }
+}
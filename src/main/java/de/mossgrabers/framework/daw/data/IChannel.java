@@ -290,6 +290,14 @@ public interface IChannel extends IItem
     boolean isMutedBySolo ();
 
 
+    /**
+     * Get the index of the VU meter of the channel in the VU meter service.
+     *
+     * @return The index or -1 if the channel has no VU meter
+     */
+    int getVuMeterIndex ();
+
+
     /**
      * Get the mono VU value.
      *
@@ -178,6 +178,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVuMeterIndex ()
+    {
+        return -1;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getVu ()
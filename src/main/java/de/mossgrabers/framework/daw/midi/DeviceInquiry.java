@@ -93,6 +93,27 @@ public class DeviceInquiry
     }
 
 
+    /**
+     * Constructor.
+     *
+     * @param data The buffer which contains the data of a device inquiry response
+     * @param length The length of the data in the buffer
+     */
+    public DeviceInquiry (final byte [] data, final int length)
+    {
+        this (toUnsigned (data, length));
+    }
+
+
+    private static int [] toUnsigned (final byte [] data, final int length)
+    {
+        final int [] result = new int [length];
+        for (int i = 0; i < length; i++)
+            result[i] = Byte.toUnsignedInt (data[i]);
+        return result;
+    }
+
+
     /**
      * Test if the given data is a valid device inquiry response.
      *
@@ -35,6 +35,16 @@ public interface IMidiInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Set a callback for MIDI system exclusive messages coming from this input, which receives the
+     * data as bytes instead of a hex formatted text. Replaces a callback set with
+     * setSysexCallback.
+     *
+     * @param callback The callback
+     */
+    void setBinarySysexCallback (MidiBinarySysExCallback callback);
+
+
     /**
      * Create a note input.
      *
@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Callback for receiving MIDI System exclusive messages as bytes.
+ *
+ * @author Jürgen Moßgraber
+ */
+public interface MidiBinarySysExCallback
+{
+    /**
+     * Handle received MIDI system exclusive data. The buffer is reused for the next message,
+     * therefore it must not be stored. Copy the data if it is needed after the call.
+     *
+     * @param data The buffer which contains the system exclusive data starting at index 0
+     * @param length The number of valid bytes in the buffer
+     */
+    void handleMidi (byte [] data, int length);
+}
@@ -0,0 +1,101 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Collects the chunks of a system exclusive message until the message is complete. Some devices
+ * (e.g. the Electra One) send large messages in several chunks (e.g. of 1024 bytes), the first
+ * starting with F0 and the last ending with F7. The chunks are copied into a buffer which grows as
+ * needed and is reused for the following messages. The buffer is not thread-safe.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysExChunkBuffer
+{
+    private byte [] buffer;
+    private int     length;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial capacity of the buffer
+     */
+    public SysExChunkBuffer (final int capacity)
+    {
+        this.buffer = new byte [capacity];
+    }
+
+
+    /**
+     * Add a chunk of a system exclusive message. If the chunk starts with F0 a previously added
+     * incomplete message is discarded.
+     *
+     * @param data The buffer which contains the chunk starting at index 0
+     * @param dataLength The number of bytes of the chunk
+     * @return True if the chunk ends with F7 and the message is complete
+     */
+    public boolean append (final byte [] data, final int dataLength)
+    {
+        if (dataLength == 0)
+            return false;
+
+        if (data[0] == (byte) 0xF0)
+            this.length = 0;
+
+        final int newLength = this.length + dataLength;
+        if (newLength > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (newLength, this.buffer.length * 2));
+        System.arraycopy (data, 0, this.buffer, this.length, dataLength);
+        this.length = newLength;
+
+        return data[dataLength - 1] == (byte) 0xF7;
+    }
+
+
+    /**
+     * Discard the collected chunks, e.g. after the complete message was processed.
+     */
+    public void clear ()
+    {
+        this.length = 0;
+    }
+
+
+    /**
+     * Are there any collected chunks?
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.length == 0;
+    }
+
+
+    /**
+     * Get the buffer which contains the collected chunks. Only valid until the next chunk is added.
+     *
+     * @return The buffer, the data starts at index 0
+     */
+    public byte [] getData ()
+    {
+        return this.buffer;
+    }
+
+
+    /**
+     * Get the number of collected bytes.
+     *
+     * @return The number of valid bytes in the buffer
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+}
@@ -0,0 +1,287 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages directly in binary form instead of formatting and parsing hex
+ * strings. The builder is meant to be re-used for all messages of one producer: the message is
+ * written into an internal buffer which grows as needed. The array which is handed to the MIDI
+ * output is taken from a pool of arrays by message length, therefore sending a message of a length
+ * which was sent before does not allocate any memory. Since the pooled arrays are re-used, a sent
+ * array must not be kept. The builder is not thread-safe.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexBuilder
+{
+    /** The start of a system exclusive message. */
+    public static final int  SYSEX_START     = 0xF0;
+    /** The end of a system exclusive message. */
+    public static final int  SYSEX_END       = 0xF7;
+
+    /** Messages up to this length are sent from pooled arrays. */
+    private static final int MAX_POOLED_SIZE = 1024;
+
+    private byte []          buffer;
+    private int              length;
+    private byte [] []       pool            = new byte [64] [];
+
+
+    /**
+     * Constructor.
+     */
+    public SysexBuilder ()
+    {
+        this (64);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial capacity of the buffer in bytes
+     */
+    public SysexBuilder (final int capacity)
+    {
+        this.buffer = new byte [Math.max (capacity, 16)];
+    }
+
+
+    /**
+     * Start a new message with the given header. The header must contain the leading F0.
+     *
+     * @param header The header bytes, e.g. F0 00 20 29 02 0D
+     * @return The builder for chaining
+     */
+    public SysexBuilder start (final byte [] header)
+    {
+        this.length = 0;
+        return this.add (header);
+    }
+
+
+    /**
+     * Discard the current message.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        this.length = 0;
+        return this;
+    }
+
+
+    /**
+     * Append one byte.
+     *
+     * @param value The value, only the lower 8 bits are used
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Append several bytes.
+     *
+     * @param data The bytes to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] data)
+    {
+        return this.add (data, 0, data.length);
+    }
+
+
+    /**
+     * Append a range of bytes.
+     *
+     * @param data The bytes
+     * @param offset The index of the first byte to append
+     * @param count The number of bytes to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] data, final int offset, final int count)
+    {
+        this.ensureCapacity (count);
+        System.arraycopy (data, offset, this.buffer, this.length, count);
+        this.length += count;
+        return this;
+    }
+
+
+    /**
+     * Append the characters of a text as 7-bit ASCII. Characters outside of the ASCII range are
+     * replaced by a space.
+     *
+     * @param text The text to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        return this.addAscii (text, 0, text.length ());
+    }
+
+
+    /**
+     * Append a range of the characters of a text as 7-bit ASCII. Characters outside of the ASCII
+     * range are replaced by a space.
+     *
+     * @param text The text
+     * @param start The index of the first character to append
+     * @param end The index after the last character to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            this.buffer[this.length++] = (byte) (c < 0x80 ? c : ' ');
+        }
+        return this;
+    }
+
+
+    /**
+     * Append the bytes of a hex string, e.g. "0E 00 1F".
+     *
+     * @param hex The hex string, the numbers must be separated by a space
+     * @return The builder for chaining
+     */
+    public SysexBuilder addHex (final String hex)
+    {
+        final int count = hex.length ();
+        int i = 0;
+        while (i < count)
+        {
+            if (hex.charAt (i) == ' ')
+            {
+                i++;
+                continue;
+            }
+            final int high = Character.digit (hex.charAt (i), 16);
+            final int low = i + 1 < count ? Character.digit (hex.charAt (i + 1), 16) : -1;
+            if (high < 0 || low < 0)
+                throw new IllegalArgumentException ("Not a hex string: " + hex);
+            this.add (high << 4 | low);
+            i += 2;
+        }
+        return this;
+    }
+
+
+    /**
+     * Overwrite an already added byte, e.g. to fill in a length field after the content is known.
+     *
+     * @param index The index of the byte
+     * @param value The value, only the lower 8 bits are used
+     * @return The builder for chaining
+     */
+    public SysexBuilder set (final int index, final int value)
+    {
+        if (index < 0 || index >= this.length)
+            throw new IndexOutOfBoundsException (index);
+        this.buffer[index] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Append the F7 which ends a system exclusive message.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder end ()
+    {
+        return this.add (SYSEX_END);
+    }
+
+
+    /**
+     * Get the number of bytes of the current message.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Get the array to send. The array is taken from the pool and is overwritten by the next call
+     * for a message of the same length, use toByteArray to get a copy which can be kept.
+     *
+     * @return The bytes of the current message
+     */
+    public byte [] getPooledArray ()
+    {
+        if (this.length > MAX_POOLED_SIZE)
+            return this.toByteArray ();
+
+        if (this.length >= this.pool.length)
+            this.pool = Arrays.copyOf (this.pool, Math.min (MAX_POOLED_SIZE + 1, Math.max (this.length + 1, 2 * this.pool.length)));
+        byte [] array = this.pool[this.length];
+        if (array == null)
+        {
+            array = new byte [this.length];
+            this.pool[this.length] = array;
+        }
+        System.arraycopy (this.buffer, 0, array, 0, this.length);
+        return array;
+    }
+
+
+    /**
+     * Get a copy of the bytes of the current message.
+     *
+     * @return The bytes
+     */
+    public byte [] toByteArray ()
+    {
+        return Arrays.copyOf (this.buffer, this.length);
+    }
+
+
+    /**
+     * Send the current message.
+     *
+     * @param output The output to send to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.getPooledArray ());
+    }
+
+
+    /**
+     * Convert a hex string into bytes. Use this to convert constant headers once.
+     *
+     * @param hex The hex string, e.g. "F0 00 20 29 02 0D"
+     * @return The bytes
+     */
+    public static byte [] fromHex (final String hex)
+    {
+        return new SysexBuilder (hex.length () / 2).addHex (hex).toByteArray ();
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -35,6 +36,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected final Scales        scales;
     protected final KeyManager    keyManager;
     private String                previousChord;
+    private final int []          chordNotes  = new int [128];
 
     private AftertouchCommand     aftertouchCommand;
 
@@ -110,7 +112,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     protected String getChordName ()
     {
-        return ChordIdentifier.identifyChord (this.keyManager.getMidiNotesFromPressedKeys ());
+        final int count = this.keyManager.getMidiNotesFromPressedKeys (this.chordNotes);
+        return ChordIdentifier.identifyChord (this.chordNotes, count);
     }
 
 
@@ -161,7 +164,24 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
      */
     protected String getPadColor (final int pad, final ITrack track)
     {
-        return replaceOctaveColorWithTrackColor (track, this.keyManager.getColor (pad));
+        return this.getPadColorHandle (pad, track).getId ();
+    }
+
+
+    /**
+     * Get the handle of the color ID to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The MIDI note of the pad
+     * @param track A track to use the track color for coloring the octave notes, set to null to use
+     *            the default color
+     * @return The color handle
+     */
+    protected ColorHandle getPadColorHandle (final int pad, final ITrack track)
+    {
+        final ColorHandle colorHandle = this.keyManager.getColorHandle (pad);
+        if (colorHandle != Scales.HANDLE_OCTAVE || track == null)
+            return colorHandle;
+        return DAWColor.getColorHandle (track.getColor ());
     }
 
 
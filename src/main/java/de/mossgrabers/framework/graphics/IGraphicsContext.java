@@ -221,4 +221,21 @@ public interface IGraphicsContext
      * @return The text height or -1 if the minimum height of 10 does not fit into the width
      */
     double calculateFontSize (String text, double maxHeight, double maxWidth, double minimumFontSize);
+
+
+    /**
+     * Restrict all following drawing operations to a rectangle.
+     *
+     * @param left The left edge of the rectangle
+     * @param top The top edge of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     */
+    void clip (double left, double top, double width, double height);
+
+
+    /**
+     * Remove the restriction of the drawing operations set with clip.
+     */
+    void resetClip ();
 }
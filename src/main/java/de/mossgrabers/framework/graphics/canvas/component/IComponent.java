@@ -20,4 +20,17 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Check if the component might draw outside of its bounds (more than into the separator to its
+     * neighbours), e.g. a text which spans several columns. If true, the component cannot be
+     * redrawn without redrawing the whole display.
+     *
+     * @return True if the drawing might exceed the bounds
+     */
+    default boolean exceedsBounds ()
+    {
+        return false;
+    }
 }
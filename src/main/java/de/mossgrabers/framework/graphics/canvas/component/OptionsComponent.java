@@ -99,6 +99,15 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean exceedsBounds ()
+    {
+        // The headers are not clipped
+        return this.headerTop != null && !this.headerTop.isEmpty () || this.headerBottom != null && !this.headerBottom.isEmpty ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
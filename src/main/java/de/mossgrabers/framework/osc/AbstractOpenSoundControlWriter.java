@@ -10,27 +10,48 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to an OSC server. The last sent value of each address is
+ * cached in a table of primitive slots. Addresses can be registered up-front to get an ID, which
+ * allows to check a value for changes without creating the address string and without boxing the
+ * value. The messages of one flush are the shared diff of all changed values, which is sent to the
+ * OSC client and can be handed on to additional subscribers.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    // A slot type of 0 marks an empty slot
+    private static final byte                      SLOT_INT     = 1;
+    private static final byte                      SLOT_FLOAT   = 2;
+    private static final byte                      SLOT_STRING  = 3;
+    private static final byte                      SLOT_OBJECT  = 4;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage>   messages     = new ArrayList<> ();
+    private int []                                 messageIDs   = new int [256];
+
+    private final Map<String, Integer>             addressIDs   = new HashMap<> ();
+    private String []                              addresses    = new String [256];
+    private byte []                                slotTypes    = new byte [256];
+    private int []                                 intSlots     = new int [256];
+    private float []                               floatSlots   = new float [256];
+    private String []                              stringSlots  = new String [256];
+    private Object []                              objectSlots  = new Object [256];
+    private IOpenSoundControlMessage []            lastMessages = new IOpenSoundControlMessage [256];
 
 
     /**
@@ -76,12 +97,16 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
             {
                 if (updateAddress != null)
                 {
+                    final int updateID = this.registerAddress (updateAddress);
+                    this.addMessageID (0, updateID);
                     this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
+                    this.addMessageID (this.messages.size (), updateID);
                     this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
                 }
 
                 this.logMessages (this.messages);
                 this.oscClient.sendBundle (this.messages);
+                this.sendToSubscribers (this.messages, this.messageIDs);
             }
             catch (final IOException ex)
             {
@@ -119,14 +144,37 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int registerAddress (final String address)
+    {
+        final Integer id = this.addressIDs.get (address);
+        if (id != null)
+            return id.intValue ();
+
+        final int newID = this.addressIDs.size ();
+        if (newID == this.addresses.length)
+        {
+            final int length = 2 * newID;
+            this.addresses = Arrays.copyOf (this.addresses, length);
+            this.slotTypes = Arrays.copyOf (this.slotTypes, length);
+            this.intSlots = Arrays.copyOf (this.intSlots, length);
+            this.floatSlots = Arrays.copyOf (this.floatSlots, length);
+            this.stringSlots = Arrays.copyOf (this.stringSlots, length);
+            this.objectSlots = Arrays.copyOf (this.objectSlots, length);
+            this.lastMessages = Arrays.copyOf (this.lastMessages, length);
+        }
+        this.addresses[newID] = address;
+        this.addressIDs.put (address, Integer.valueOf (newID));
+        return newID;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.registerAddress (address), red, green, blue, dump);
     }
 
 
@@ -134,7 +182,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.registerAddress (address), value, dump);
     }
 
 
@@ -142,8 +190,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.registerAddress (address), value, dump);
     }
 
 
@@ -151,7 +198,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.registerAddress (address), value, dump);
     }
 
 
@@ -159,7 +206,64 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.registerAddress (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int addressID, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        // Cache the packed color to prevent the creation of the string
+        if (this.updateIntSlot (addressID, r << 16 | g << 8 | b, dump))
+            this.addMessage (addressID, "rgb(" + r + "," + g + "," + b + ")");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final boolean value, final boolean dump)
+    {
+        this.sendOSC (addressID, value ? 1 : 0, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final double value, final boolean dump)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (!dump && this.slotTypes[addressID] == SLOT_FLOAT && Float.floatToIntBits (this.floatSlots[addressID]) == Float.floatToIntBits (floatValue))
+            return;
+        this.slotTypes[addressID] = SLOT_FLOAT;
+        this.floatSlots[addressID] = floatValue;
+        this.addMessage (addressID, Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final int value, final boolean dump)
+    {
+        if (this.updateIntSlot (addressID, value, dump))
+            this.addMessage (addressID, Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final String value, final boolean dump)
+    {
+        // Compare the original text to only replace non-ASCII characters if it has changed
+        if (!dump && this.slotTypes[addressID] == SLOT_STRING && Objects.equals (this.stringSlots[addressID], value))
+            return;
+        this.slotTypes[addressID] = SLOT_STRING;
+        this.stringSlots[addressID] = value;
+        this.addMessage (addressID, StringUtils.fixASCII (value));
     }
 
 
@@ -169,32 +273,46 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      * messages list.The message will be sent when flush gets called.
      *
      * @param address The address of the OSC message
-     * @param value The value to send
+     * @param value The value to send, a list is sent as several values
      * @param dump True to dump (ignore cache)
      */
     protected void sendOSC (final String address, final Object value, final boolean dump)
     {
-        this.sendOSC (address, address, value, value, dump);
+        final int addressID = this.registerAddress (address);
+        if (!dump && this.slotTypes[addressID] == SLOT_OBJECT && compareValues (this.objectSlots[addressID], value))
+            return;
+        this.slotTypes[addressID] = SLOT_OBJECT;
+        this.objectSlots[addressID] = value;
+        this.addMessage (addressID, value);
     }
 
 
     /**
-     * Tests if the value(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * Store the value in the integer slot of the address.
      *
-     * @param cacheAddress The address under which to cache the message
-     * @param address The address of the OSC message
-     * @param testValue The value(s) to use for testing
-     * @param value The value(s) of the OSC message
+     * @param addressID The ID of the address
+     * @param value The value to store
      * @param dump True to dump (ignore cache)
+     * @return True if the value has changed or dump is true
      */
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    private boolean updateIntSlot (final int addressID, final int value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
+        if (!dump && this.slotTypes[addressID] == SLOT_INT && this.intSlots[addressID] == value)
+            return false;
+        this.slotTypes[addressID] = SLOT_INT;
+        this.intSlots[addressID] = value;
+        return true;
+    }
+
 
+    /**
+     * Add a message to the messages list. The message will be sent when flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message
+     * @param value The value(s) of the OSC message
+     */
+    private void addMessage (final int addressID, final Object value)
+    {
         // Convert the value to a list in case it is not already one
         final List<?> list;
         if (value instanceof final List<?> l)
@@ -204,9 +322,84 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         else
             list = Collections.singletonList (value);
 
+        final IOpenSoundControlMessage message = this.host.createOSCMessage (this.addresses[addressID], list);
+        synchronized (this.messages)
+        {
+            this.lastMessages[addressID] = message;
+            this.addMessageID (this.messages.size (), addressID);
+            this.messages.add (message);
+        }
+    }
+
+
+    /**
+     * Insert the address ID of a message into the list of message IDs, which runs in parallel to
+     * the messages list. Must be called before the message is added.
+     *
+     * @param index The index at which to insert the ID
+     * @param addressID The ID of the address of the message
+     */
+    private void addMessageID (final int index, final int addressID)
+    {
+        final int size = this.messages.size ();
+        if (size == this.messageIDs.length)
+            this.messageIDs = Arrays.copyOf (this.messageIDs, 2 * size);
+        System.arraycopy (this.messageIDs, index, this.messageIDs, index + 1, size - index);
+        this.messageIDs[index] = addressID;
+    }
+
+
+    /**
+     * Hook to hand on the messages of a flush to additional subscribers. The messages are the diff
+     * of all changed values since the last flush. Called while the messages are locked. Does nothing
+     * by default.
+     *
+     * @param messages The messages which were sent to the OSC client
+     * @param addressIDs The IDs of the addresses of the messages, the array might be larger than
+     *            the number of messages
+     */
+    protected void sendToSubscribers (final List<IOpenSoundControlMessage> messages, final int [] addressIDs)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the number of registered addresses. The IDs of the addresses are in the range of 0 to
+     * the number of addresses - 1.
+     *
+     * @return The number of registered addresses
+     */
+    protected int getNumberOfAddresses ()
+    {
+        return this.addressIDs.size ();
+    }
+
+
+    /**
+     * Get a registered address.
+     *
+     * @param addressID The ID of the address
+     * @return The address
+     */
+    protected String getAddress (final int addressID)
+    {
+        return this.addresses[addressID];
+    }
+
+
+    /**
+     * Get the last message which was sent to an address. Allows to send the current state to a new
+     * subscriber without dumping all values.
+     *
+     * @param addressID The ID of the address
+     * @return The message or null if no message was sent to the address yet
+     */
+    protected IOpenSoundControlMessage getLastMessage (final int addressID)
+    {
         synchronized (this.messages)
         {
-            this.messages.add (this.host.createOSCMessage (address, list));
+            return this.lastMessages[addressID];
         }
     }
 
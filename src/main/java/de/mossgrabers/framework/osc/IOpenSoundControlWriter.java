@@ -96,4 +96,67 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Register an address for sending values with the ID based methods, which neither need to
+     * create the address string nor to box the value for checking if it has changed. Registering
+     * the same address again returns the same ID.
+     *
+     * @param address The address of the OSC messages
+     * @return The ID of the address
+     */
+    int registerAddress (String address);
+
+
+    /**
+     * Send an OSC message with a color value, if it has changed.
+     *
+     * @param addressID The ID of the address of the OSC message, see {@link #registerAddress}
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int addressID, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value, if it has changed.
+     *
+     * @param addressID The ID of the address of the OSC message, see {@link #registerAddress}
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value, if it has changed.
+     *
+     * @param addressID The ID of the address of the OSC message, see {@link #registerAddress}
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value, if it has changed.
+     *
+     * @param addressID The ID of the address of the OSC message, see {@link #registerAddress}
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value, if it has changed.
+     *
+     * @param addressID The ID of the address of the OSC message, see {@link #registerAddress}
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, String value, boolean dump);
 }
@@ -0,0 +1,43 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * A block of pre-registered OSC addresses which share the same prefix, e.g. all addresses of a
+ * track like /track/1/volume, /track/1/pan, etc.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlAddressBlock
+{
+    private final int [] addressIDs;
+
+
+    /**
+     * Constructor.
+     *
+     * @param writer The writer at which to register the addresses
+     * @param prefix The prefix of all addresses, e.g. /track/1/
+     * @param suffixes The suffixes of the addresses, e.g. volume
+     */
+    public OpenSoundControlAddressBlock (final IOpenSoundControlWriter writer, final String prefix, final String... suffixes)
+    {
+        this.addressIDs = new int [suffixes.length];
+        for (int i = 0; i < suffixes.length; i++)
+            this.addressIDs[i] = writer.registerAddress (prefix + suffixes[i]);
+    }
+
+
+    /**
+     * Get the ID of an address.
+     *
+     * @param index The index of the suffix of the address
+     * @return The ID of the address
+     */
+    public int get (final int index)
+    {
+        return this.addressIDs[index];
+    }
+}
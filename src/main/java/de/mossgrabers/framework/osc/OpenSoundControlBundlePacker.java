@@ -0,0 +1,190 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.List;
+
+
+/**
+ * Splits a list of OSC messages into bundles which each fit into one UDP datagram. The size of each
+ * message is calculated from its binary OSC encoding.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlBundlePacker
+{
+    /** The maximum payload of an UDP datagram. */
+    public static final int MAX_UDP_PAYLOAD    = 65507;
+    /** The size of the '#bundle' string and the time tag at the start of each bundle. */
+    public static final int BUNDLE_HEADER_SIZE = 16;
+    /** Each element of a bundle is prefixed by its size as a 32-bit integer. */
+    public static final int ELEMENT_SIZE       = 4;
+
+    private final int       maxPacketSize;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxPacketSize The maximum number of bytes of one datagram, limited to the range of
+     *            [BUNDLE_HEADER_SIZE + 1 .. MAX_UDP_PAYLOAD]
+     */
+    public OpenSoundControlBundlePacker (final int maxPacketSize)
+    {
+        this.maxPacketSize = Math.max (BUNDLE_HEADER_SIZE + 1, Math.min (MAX_UDP_PAYLOAD, maxPacketSize));
+    }
+
+
+    /**
+     * Get the maximum number of bytes of one datagram.
+     *
+     * @return The number of bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Collects the first messages which fit into one bundle. A message which is larger than the
+     * maximum packet size on its own is put into a bundle of its own.
+     *
+     * @param messages The messages to take from
+     * @param bundle Where to add the messages of the bundle, must be empty
+     * @return The size of the encoded bundle in bytes or 0 if there are no messages
+     */
+    public int packFirst (final Iterable<IOpenSoundControlMessage> messages, final List<IOpenSoundControlMessage> bundle)
+    {
+        int bundleSize = BUNDLE_HEADER_SIZE;
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final int size = ELEMENT_SIZE + getMessageSize (message);
+            if (!bundle.isEmpty () && bundleSize + size > this.maxPacketSize)
+                break;
+            bundle.add (message);
+            bundleSize += size;
+        }
+        return bundle.isEmpty () ? 0 : bundleSize;
+    }
+
+
+    /**
+     * Calculates the number of bytes of the binary OSC encoding of a message.
+     *
+     * @param message The message
+     * @return The number of bytes
+     */
+    public static int getMessageSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // The type tag string starts with a comma followed by one character per argument
+        int size = getStringSize (message.getAddress ()) + getPaddedSize (values.length + 2);
+        for (final Object value: values)
+            size += getArgumentSize (value);
+        return size;
+    }
+
+
+    /**
+     * Calculates the number of bytes of the binary OSC encoding of an argument (without its type
+     * tag).
+     *
+     * @param value The argument
+     * @return The number of bytes
+     */
+    public static int getArgumentSize (final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Integer || value instanceof Float)
+            return 4;
+        if (value instanceof Long || value instanceof Double)
+            return 8;
+        if (value instanceof final byte [] blob)
+            return 4 + getPaddedSize (blob.length);
+        return getStringSize (value.toString ());
+    }
+
+
+    /**
+     * Calculates the number of bytes of an OSC string: the UTF-8 bytes plus the terminating zero,
+     * padded to a multiple of 4.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    public static int getStringSize (final String text)
+    {
+        int length = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate (c))
+            {
+                length += 4;
+                i++;
+            }
+            else
+                length += 3;
+        }
+        return getPaddedSize (length + 1);
+    }
+
+
+    private static int getPaddedSize (final int size)
+    {
+        return size + 3 & ~3;
+    }
+
+
+    /**
+     * A bundle of messages and its encoded size.
+     */
+    public static class Packet
+    {
+        private final List<IOpenSoundControlMessage> messages;
+        private final int                            size;
+
+
+        /**
+         * Constructor.
+         *
+         * @param messages The messages of the bundle
+         * @param size The size of the encoded bundle in bytes
+         */
+        public Packet (final List<IOpenSoundControlMessage> messages, final int size)
+        {
+            this.messages = messages;
+            this.size = size;
+        }
+
+
+        /**
+         * Get the messages of the bundle.
+         *
+         * @return The messages
+         */
+        public List<IOpenSoundControlMessage> getMessages ()
+        {
+            return this.messages;
+        }
+
+
+        /**
+         * Get the size of the encoded bundle.
+         *
+         * @return The size in bytes
+         */
+        public int getSize ()
+        {
+            return this.size;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker.Packet;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A bounded queue of OSC messages which are waiting to be sent. Since an OSC address always carries
+ * the latest state, a queued message is replaced by a newer message with the same address. If the
+ * queue is full, the oldest messages are dropped. The messages are taken from the queue in bundles
+ * which fit into one datagram. Not thread-safe.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlMessageQueue
+{
+    private final OpenSoundControlBundlePacker          packer;
+    private final int                                   maxMessages;
+    private final Map<String, IOpenSoundControlMessage> messages       = new LinkedHashMap<> ();
+    private final List<IOpenSoundControlMessage>        packetMessages = new ArrayList<> ();
+    private int                                         packetSize     = 0;
+    private long                                        droppedMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param packer Splits the queued messages into bundles
+     * @param maxMessages The maximum number of queued messages, at least 1
+     */
+    public OpenSoundControlMessageQueue (final OpenSoundControlBundlePacker packer, final int maxMessages)
+    {
+        this.packer = packer;
+        this.maxMessages = Math.max (1, maxMessages);
+    }
+
+
+    /**
+     * Add messages to the end of the queue. A queued message with the same address is removed. If
+     * the queue is full, the oldest messages are dropped.
+     *
+     * @param messagesToAdd The messages to add
+     */
+    public void addAll (final List<IOpenSoundControlMessage> messagesToAdd)
+    {
+        for (final IOpenSoundControlMessage message: messagesToAdd)
+        {
+            final String address = message.getAddress ();
+            if (this.messages.remove (address) != null)
+                this.droppedMessages++;
+            else if (this.messages.size () == this.maxMessages)
+            {
+                final Iterator<IOpenSoundControlMessage> iterator = this.messages.values ().iterator ();
+                iterator.next ();
+                iterator.remove ();
+                this.droppedMessages++;
+            }
+            this.messages.put (address, message);
+        }
+
+        // The next bundle needs to be packed again
+        this.packetMessages.clear ();
+        this.packetSize = 0;
+    }
+
+
+    /**
+     * Test if there are no queued messages.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.messages.isEmpty ();
+    }
+
+
+    /**
+     * Get the number of queued messages.
+     *
+     * @return The number of messages
+     */
+    public int size ()
+    {
+        return this.messages.size ();
+    }
+
+
+    /**
+     * Get the number of messages which were superseded or dropped since the queue was created.
+     *
+     * @return The number of messages
+     */
+    public long getDroppedMessages ()
+    {
+        return this.droppedMessages;
+    }
+
+
+    /**
+     * Get the encoded size of the bundle which is returned by the next call to
+     * {@link #removePacket()}.
+     *
+     * @return The size in bytes or 0 if the queue is empty
+     */
+    public int getNextPacketSize ()
+    {
+        if (this.packetSize == 0 && !this.messages.isEmpty ())
+            this.packetSize = this.packer.packFirst (this.messages.values (), this.packetMessages);
+        return this.packetSize;
+    }
+
+
+    /**
+     * Remove the oldest messages from the queue as one bundle which fits into a datagram.
+     *
+     * @return The bundle or null if the queue is empty
+     */
+    public Packet removePacket ()
+    {
+        final int size = this.getNextPacketSize ();
+        if (size == 0)
+            return null;
+
+        final Iterator<IOpenSoundControlMessage> iterator = this.messages.values ().iterator ();
+        for (int i = 0; i < this.packetMessages.size (); i++)
+        {
+            iterator.next ();
+            iterator.remove ();
+        }
+
+        final Packet packet = new Packet (new ArrayList<> (this.packetMessages), size);
+        this.packetMessages.clear ();
+        this.packetSize = 0;
+        return packet;
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
@@ -89,6 +90,15 @@ public class Scales
     /** Color index when the pad is a note which is not part of the scale. */
     public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
 
+    /** The handle of the color ID when the pad is turned off. */
+    public static final ColorHandle     HANDLE_OFF               = ColorHandle.of (SCALE_COLOR_OFF);
+    /** The handle of the color ID when the pad is the base note of the scale. */
+    public static final ColorHandle     HANDLE_OCTAVE            = ColorHandle.of (SCALE_COLOR_OCTAVE);
+    /** The handle of the color ID when the pad is a note of the scale. */
+    public static final ColorHandle     HANDLE_NOTE              = ColorHandle.of (SCALE_COLOR_NOTE);
+    /** The handle of the color ID when the pad is a note which is not part of the scale. */
+    public static final ColorHandle     HANDLE_OUT_OF_SCALE      = ColorHandle.of (SCALE_COLOR_OUT_OF_SCALE);
+
     /** Number of octaves which can be transposed up and down. */
     public static final int             OCTAVE_RANGE             = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
@@ -718,18 +728,31 @@ public class Scales
      * @return The color index
      */
     public String getColor (final int [] noteMap, final int note)
+    {
+        return this.getColorHandle (noteMap, note).getId ();
+    }
+
+
+    /**
+     * Get the handle of the color ID for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The color handle
+     */
+    public ColorHandle getColorHandle (final int [] noteMap, final int note)
     {
         if (note == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return Scales.HANDLE_OFF;
         final int midiNote = noteMap[note];
         if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return Scales.HANDLE_OFF;
         final int noteInOctave = this.toNoteInOctave (midiNote);
         if (noteInOctave == 0)
-            return Scales.SCALE_COLOR_OCTAVE;
+            return Scales.HANDLE_OCTAVE;
         if (!this.isChromatic ())
-            return Scales.SCALE_COLOR_NOTE;
-        return this.isInScale (noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+            return Scales.HANDLE_NOTE;
+        return this.isInScale (noteInOctave) ? Scales.HANDLE_NOTE : Scales.HANDLE_OUT_OF_SCALE;
     }
 
 
@@ -15,7 +15,8 @@ public interface IHidCallback
      * Called when ready to process the results.
      *
      * @param reportID The report (= function/method) number
-     * @param data The received data
+     * @param data The received data, the array is reused for the next report, therefore it must
+     *            not be stored
      * @param length The length of the received data, -1 if an error occurred
      */
     void process (byte reportID, byte [] data, int length);
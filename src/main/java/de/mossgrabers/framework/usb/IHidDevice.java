@@ -49,6 +49,22 @@ public interface IHidDevice
     int sendFeatureReport (byte reportID, IMemoryBlock memoryBlock);
 
 
+    /**
+     * Get the number of reports which were sent and received during the last second.
+     *
+     * @return The number of reports per second
+     */
+    int getReportsPerSecond ();
+
+
+    /**
+     * Get the number of bytes which were sent and received during the last second.
+     *
+     * @return The number of bytes per second
+     */
+    int getBytesPerSecond ();
+
+
     /**
      * Closes the device.
      */
@@ -11,13 +11,17 @@ import de.mossgrabers.framework.scale.Scales;
 
 
 /**
- * Identifies the names of chords from a list of notes.
+ * Identifies the names of chords from a list of notes. The notes are reduced to a 12 bit mask of
+ * their pitch classes. The names of all 4096 masks are calculated once when the class is loaded,
+ * therefore identifying a chord is a single array lookup.
  *
  * @author Jürgen Moßgraber
  */
 public class ChordIdentifier
 {
-    private static final Chord [] CHORDS = new Chord []
+    private static final int       NUM_MASKS = 1 << 12;
+
+    private static final Chord []  CHORDS    = new Chord []
     {
         new Chord ("C Major", 0, 4, 7),
         new Chord ("C# Major", 1, 5, 8),
@@ -215,38 +219,128 @@ public class ChordIdentifier
         new Chord ("B Minor Add11", 2, 4, 6, 11)
     };
 
+    /** The name for each pitch class mask. */
+    private static final String [] NAMES     = new String [NUM_MASKS];
+    /** The pitch class of the root note for each pitch class mask or -1 if no chord is known. */
+    private static final byte []   ROOTS     = new byte [NUM_MASKS];
+
+    static
+    {
+        Arrays.fill (ROOTS, (byte) -1);
+
+        // The chords are ordered by root note in groups of 12, the first matching chord wins
+        for (int i = 0; i < CHORDS.length; i++)
+        {
+            final int mask = CHORDS[i].getMask ();
+            if (NAMES[mask] == null)
+            {
+                NAMES[mask] = CHORDS[i].name;
+                ROOTS[mask] = (byte) (i % 12);
+            }
+        }
+
+        // Unknown chords are named by their notes
+        final StringBuilder sb = new StringBuilder ();
+        for (int mask = 1; mask < NUM_MASKS; mask++)
+        {
+            if (NAMES[mask] != null)
+                continue;
+            sb.setLength (0);
+            for (int pitchClass = 0; pitchClass < 12; pitchClass++)
+            {
+                if ((mask & 1 << pitchClass) == 0)
+                    continue;
+                if (sb.length () > 0)
+                    sb.append (", ");
+                sb.append (Scales.NOTE_NAMES.get (pitchClass));
+            }
+            NAMES[mask] = sb.toString ();
+        }
+    }
+
 
     /**
      * Returns the name of the chord for the given notes.
      *
-     * @param notes The notes for which to identify the chord
-     * @return The name of the chord or null if the notes contains less than 3 notes or is not
-     *         known.
+     * @param notes The notes for which to identify the chord, negative notes are ignored
+     * @return The name of the chord, if the chord is not known the names of the notes or null if
+     *         there are no notes
      */
     public static String identifyChord (final List<Integer> notes)
     {
-        // Reduce notes to their pitch classes (0-11)
-        final int [] pitchClasses = notes.stream ().map (note -> Integer.valueOf (note.intValue () % 12)).distinct ().sorted ().mapToInt (Integer::intValue).filter (num -> num != -1).toArray ();
-        if (pitchClasses.length >= 3 || pitchClasses.length <= 4)
-        {
-            for (final Chord chord: CHORDS)
-            {
-                if (chord.doesMatch (pitchClasses))
-                    return chord.name;
-            }
-        }
+        int mask = 0;
+        for (final Integer note: notes)
+            mask |= getPitchClassBit (note.intValue ());
+        return NAMES[mask];
+    }
 
-        if (pitchClasses.length == 0)
-            return null;
 
-        final StringBuilder sb = new StringBuilder ();
-        for (final int pitchClass: pitchClasses)
+    /**
+     * Returns the name of the chord for the given notes.
+     *
+     * @param notes The notes for which to identify the chord, negative notes are ignored
+     * @param count The number of notes to use from the array
+     * @return The name of the chord, if the chord is not known the names of the notes or null if
+     *         there are no notes
+     */
+    public static String identifyChord (final int [] notes, final int count)
+    {
+        return NAMES[getMask (notes, count)];
+    }
+
+
+    /**
+     * Returns the name of the chord for the given notes. If the lowest note is not the root note
+     * of the chord, the name of the bass note is added (e.g. C Major/E).
+     *
+     * @param notes The notes for which to identify the chord, negative notes are ignored
+     * @param count The number of notes to use from the array
+     * @return The name of the chord, if the chord is not known the names of the notes or null if
+     *         there are no notes
+     */
+    public static String identifyChordWithBass (final int [] notes, final int count)
+    {
+        final int mask = getMask (notes, count);
+        final int root = ROOTS[mask];
+        if (root < 0)
+            return NAMES[mask];
+
+        int lowest = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++)
         {
-            if (sb.length () > 0)
-                sb.append (", ");
-            sb.append (Scales.NOTE_NAMES.get (pitchClass));
+            if (notes[i] >= 0 && notes[i] < lowest)
+                lowest = notes[i];
         }
-        return sb.toString ();
+        final int bass = lowest % 12;
+        return bass == root ? NAMES[mask] : NAMES[mask] + "/" + Scales.NOTE_NAMES.get (bass);
+    }
+
+
+    /**
+     * Get the pitch class of the root note of the chord formed by the given notes.
+     *
+     * @param notes The notes of the chord, negative notes are ignored
+     * @param count The number of notes to use from the array
+     * @return The pitch class (0-11) or -1 if the chord is not known
+     */
+    public static int getRoot (final int [] notes, final int count)
+    {
+        return ROOTS[getMask (notes, count)];
+    }
+
+
+    private static int getMask (final int [] notes, final int count)
+    {
+        int mask = 0;
+        for (int i = 0; i < count; i++)
+            mask |= getPitchClassBit (notes[i]);
+        return mask;
+    }
+
+
+    private static int getPitchClassBit (final int note)
+    {
+        return note < 0 ? 0 : 1 << note % 12;
     }
 
 
@@ -281,9 +375,12 @@ public class ChordIdentifier
         }
 
 
-        public boolean doesMatch (final int [] pitchClasses)
+        public int getMask ()
         {
-            return pitchClasses.length == this.notes.length && Arrays.compare (this.notes, pitchClasses) == 0;
+            int mask = 0;
+            for (final int note: this.notes)
+                mask |= 1 << note;
+            return mask;
         }
     }
 }
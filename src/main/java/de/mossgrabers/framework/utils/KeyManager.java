@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -171,6 +172,24 @@ public class KeyManager implements INoteObserver
     }
 
 
+    /**
+     * Get the MIDI notes from the grid for all currently pressed keys without allocating a list.
+     *
+     * @param notes The array to fill with the translated notes, must have a length of 128
+     * @return The number of notes written to the array
+     */
+    public int getMidiNotesFromPressedKeys (final int [] notes)
+    {
+        int count = 0;
+        for (int i = 0; i < 128; i++)
+        {
+            if (this.pressedKeys[i] != 0)
+                notes[count++] = this.map (i);
+        }
+        return count;
+    }
+
+
     /**
      * Get the mapped note from the current note matrix.
      *
@@ -195,6 +214,18 @@ public class KeyManager implements INoteObserver
     }
 
 
+    /**
+     * Get the handle of the color ID to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The MIDI note of the pad
+     * @return The color handle
+     */
+    public ColorHandle getColorHandle (final int pad)
+    {
+        return this.scales.getColorHandle (this.noteMap, pad);
+    }
+
+
     /**
      * Set a new note matrix.
      *
@@ -0,0 +1,181 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Executes tasks on a small pool of threads which is shared by all controllers, e.g. for sending
+ * the text of display rows. Tasks are executed in lanes, e.g. one for each row of each display of
+ * each surface. If new tasks arrive for a lane before the previous one was executed, only the
+ * latest one is executed. The tasks of one lane are never executed concurrently and in the order
+ * in which they were added. Since each lane has at most one task queued, the number of queued tasks
+ * is bounded by the number of lanes. Idle threads of the pool end after some seconds.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class LatestTaskScheduler
+{
+    private static final LatestTaskScheduler INSTANCE      = new LatestTaskScheduler (Math.min (4, Math.max (2, Runtime.getRuntime ().availableProcessors () / 2)));
+
+    private final ThreadPoolExecutor         pool;
+    private final AtomicInteger              threadCounter = new AtomicInteger ();
+
+
+    /**
+     * Get the scheduler which is shared by all controllers.
+     *
+     * @return The scheduler
+     */
+    public static LatestTaskScheduler getInstance ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfThreads The maximum number of threads to use
+     */
+    public LatestTaskScheduler (final int numberOfThreads)
+    {
+        this.pool = new ThreadPoolExecutor (numberOfThreads, numberOfThreads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<> (), runnable -> {
+            final Thread thread = new Thread (runnable, "Latest Task Scheduler " + this.threadCounter.incrementAndGet ());
+            thread.setDaemon (true);
+            return thread;
+        });
+        this.pool.allowCoreThreadTimeOut (true);
+    }
+
+
+    /**
+     * Create a new lane.
+     *
+     * @return The lane
+     */
+    public Lane createLane ()
+    {
+        return new Lane ();
+    }
+
+
+    /**
+     * A sequence of tasks of which only the latest one is executed.
+     */
+    public class Lane
+    {
+        private final AtomicReference<Runnable> latestTask  = new AtomicReference<> ();
+        private final AtomicBoolean             isScheduled = new AtomicBoolean ();
+        private volatile boolean                isShutdown  = false;
+
+
+        /**
+         * Constructor.
+         */
+        Lane ()
+        {
+            // Intentionally empty
+        }
+
+
+        /**
+         * Execute the task unless a newer task arrives before it was started. Ignored if the lane
+         * is shut down.
+         *
+         * @param task The task to execute
+         */
+        public void execute (final Runnable task)
+        {
+            if (this.isShutdown)
+                return;
+            this.latestTask.set (task);
+            this.schedule ();
+        }
+
+
+        /**
+         * Do not accept further tasks. An already added task is still executed.
+         */
+        public void shutdown ()
+        {
+            this.isShutdown = true;
+        }
+
+
+        /**
+         * Has the lane been shut down?
+         *
+         * @return True if shut down
+         */
+        public boolean isShutdown ()
+        {
+            return this.isShutdown;
+        }
+
+
+        /**
+         * Wait until the added task was executed.
+         *
+         * @param timeout The maximum time to wait
+         * @param unit The unit of the timeout
+         * @return True if the lane is idle, false if the timeout elapsed
+         * @throws InterruptedException Interrupted while waiting
+         */
+        public synchronized boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
+        {
+            final long end = System.nanoTime () + unit.toNanos (timeout);
+            while (this.isScheduled.get ())
+            {
+                final long remaining = end - System.nanoTime ();
+                if (remaining <= 0)
+                    return false;
+                TimeUnit.NANOSECONDS.timedWait (this, remaining);
+            }
+            return true;
+        }
+
+
+        private void schedule ()
+        {
+            if (this.isScheduled.compareAndSet (false, true))
+                LatestTaskScheduler.this.pool.execute (this::run);
+        }
+
+
+        private void run ()
+        {
+            try
+            {
+                final Runnable task = this.latestTask.getAndSet (null);
+                if (task != null)
+                    task.run ();
+            }
+            finally
+            {
+                this.isScheduled.set (false);
+
+                // A task which arrived while running needs to be scheduled again, this also gives
+                // the other lanes a chance to run in between
+                if (this.latestTask.get () != null)
+                    this.schedule ();
+                else
+                    this.notifyIdle ();
+            }
+        }
+
+
+        private synchronized void notifyIdle ()
+        {
+            this.notifyAll ();
+        }
+    }
+}
@@ -7,7 +7,9 @@ package de.mossgrabers.framework.utils;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 
@@ -29,6 +31,11 @@ public class StringUtils
         'o'
     };
 
+    private static final int        CACHE_SIZE  = 1024;
+    private static final LabelCache LABEL_CACHE = new LabelCache ();
+    /** The key to look up a label in the cache, only used while the cache is locked. */
+    private static final LabelKey   LABEL_PROBE = new LabelKey ();
+
 
     /**
      * Constructor, private due to help class.
@@ -84,7 +91,27 @@ public class StringUtils
      */
     public static String shortenAndFixASCII (final String text, final int length)
     {
-        return optimizeName (fixASCII (text), length);
+        if (text == null)
+            return "";
+        if (text.length () <= length && isASCII (text))
+            return text;
+        return getCachedLabel (text, length, true);
+    }
+
+
+    /**
+     * First replaces umlauts with alternative writing, then shortens a text to the given length.
+     * The result is appended to the given string builder, nothing else is allocated.
+     *
+     * @param text The text to shorten
+     * @param length The length to shorten to
+     * @param target Where to append the shortened text
+     */
+    public static void shortenAndFixASCII (final CharSequence text, final int length, final StringBuilder target)
+    {
+        final int start = target.length ();
+        fixASCII (text, target);
+        shorten (target, start, length);
     }
 
 
@@ -98,81 +125,97 @@ public class StringUtils
     {
         if (text == null)
             return "";
-        final StringBuilder str = new StringBuilder ();
+        if (isASCII (text))
+            return text;
+        return getCachedLabel (text, Integer.MAX_VALUE, true);
+    }
+
+
+    /**
+     * Replace umlauts and other non-ASCII characters with alternative writing. The result is
+     * appended to the given string builder, nothing else is allocated.
+     *
+     * @param text The string to check
+     * @param target Where to append the string with replaced characters
+     */
+    public static void fixASCII (final CharSequence text, final StringBuilder target)
+    {
+        if (text == null)
+            return;
         for (int i = 0; i < text.length (); i++)
         {
             final char c = text.charAt (i);
             if (c > 127)
-            {
-                switch (c)
-                {
-                    case 'Ä':
-                        str.append ("Ae");
-                        break;
-                    case 'ä':
-                        str.append ("ae");
-                        break;
-                    case 'Ö', '\u0152':
-                        str.append ("Oe");
-                        break;
-                    case 'ö', '\u0153':
-                        str.append ("oe");
-                        break;
-                    case 'Ü':
-                        str.append ("Ue");
-                        break;
-                    case 'ü':
-                        str.append ("ue");
-                        break;
-                    case 'ß':
-                        str.append ("ss");
-                        break;
-                    case 'é', 'ê':
-                        str.append ("e");
-                        break;
-                    case 'ī', 'ï':
-                        str.append ("i");
-                        break;
-                    case 'ā':
-                        str.append ("a");
-                        break;
-                    case '→':
-                        str.append ("->");
-                        break;
-                    case '♯':
-                        str.append ("#");
-                        break;
-                    case '\u2013':
-                        str.append ("-");
-                        break;
-                    case '¼':
-                        str.append ("1/4");
-                        break;
-                    case '⅕':
-                        str.append ("1/5");
-                        break;
-                    case '⅙':
-                        str.append ("1/6");
-                        break;
-                    case '’':
-                        str.append ("'");
-                        break;
-                    case '±':
-                        str.append ("+-");
-                        break;
-                    // superscript p
-                    case '\u1d3e':
-                        str.append ("p");
-                        break;
-                    default:
-                        str.append ("?");
-                        break;
-                }
-            }
+                target.append (getASCIIReplacement (c));
             else
-                str.append (c);
+                target.append (c);
         }
-        return str.toString ();
+    }
+
+
+    /**
+     * Get the alternative writing of a non-ASCII character.
+     *
+     * @param c The character
+     * @return The replacement
+     */
+    private static String getASCIIReplacement (final char c)
+    {
+        switch (c)
+        {
+            case 'Ä':
+                return "Ae";
+            case 'ä':
+                return "ae";
+            case 'Ö', '\u0152':
+                return "Oe";
+            case 'ö', '\u0153':
+                return "oe";
+            case 'Ü':
+                return "Ue";
+            case 'ü':
+                return "ue";
+            case 'ß':
+                return "ss";
+            case 'é', 'ê':
+                return "e";
+            case 'ī', 'ï':
+                return "i";
+            case 'ā':
+                return "a";
+            case '→':
+                return "->";
+            case '♯':
+                return "#";
+            case '\u2013':
+                return "-";
+            case '¼':
+                return "1/4";
+            case '⅕':
+                return "1/5";
+            case '⅙':
+                return "1/6";
+            case '’':
+                return "'";
+            case '±':
+                return "+-";
+            // superscript p
+            case '\u1d3e':
+                return "p";
+            default:
+                return "?";
+        }
+    }
+
+
+    private static boolean isASCII (final String text)
+    {
+        for (int i = 0; i < text.length (); i++)
+        {
+            if (text.charAt (i) > 127)
+                return false;
+        }
+        return true;
     }
 
 
@@ -226,21 +269,90 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+        return getCachedLabel (text, length, false);
+    }
 
-        String shortened = text;
+
+    /**
+     * Shortens a text to the given length. The result is appended to the given string builder,
+     * nothing else is allocated.
+     *
+     * @param text The text to shorten
+     * @param length The length to shorten to
+     * @param target Where to append the shortened text
+     */
+    public static void optimizeName (final CharSequence text, final int length, final StringBuilder target)
+    {
+        if (text == null)
+            return;
+        final int start = target.length ();
+        target.append (text);
+        shorten (target, start, length);
+    }
+
+
+    /**
+     * Shortens the end of a string builder from the given start position to the given length by
+     * removing spaces and vowels. If that is not sufficient, the text is cut.
+     *
+     * @param text The string builder which contains the text
+     * @param start The start of the text to shorten
+     * @param length The length to shorten to
+     */
+    private static void shorten (final StringBuilder text, final int start, final int length)
+    {
+        final int maxLength = start + length;
         for (final char element: REMOVABLE_CHARS)
         {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
+            int pos = start;
+            while (text.length () > maxLength && pos < text.length ())
             {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
+                if (text.charAt (pos) == element)
+                    text.deleteCharAt (pos);
+                else
+                    pos++;
             }
         }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+        if (text.length () > maxLength)
+            text.setLength (maxLength);
+    }
+
+
+    /**
+     * Get a shortened and/or ASCII fixed text from the cache. The text is calculated and added to
+     * the cache if it is not present. The least recently used texts are removed from the cache.
+     *
+     * @param text The text
+     * @param length The length to shorten to
+     * @param fixASCII True to replace non-ASCII characters before shortening
+     * @return The shortened text
+     */
+    private static String getCachedLabel (final String text, final int length, final boolean fixASCII)
+    {
+        synchronized (LABEL_CACHE)
+        {
+            LABEL_PROBE.set (text, length, fixASCII);
+            final String label = LABEL_CACHE.get (LABEL_PROBE);
+            if (label != null)
+                return label;
+        }
+
+        final StringBuilder sb = new StringBuilder (text.length ());
+        if (fixASCII)
+            shortenAndFixASCII (text, length, sb);
+        else
+            optimizeName (text, length, sb);
+        final String label = sb.toString ();
+
+        final LabelKey key = new LabelKey ();
+        key.set (text, length, fixASCII);
+        synchronized (LABEL_CACHE)
+        {
+            LABEL_CACHE.put (key, label);
+        }
+        return label;
     }
 
 
@@ -371,6 +483,33 @@ public class StringUtils
     }
 
 
+    /**
+     * Convert a string with hex encoded bytes into a given buffer. One byte is 2 characters without
+     * any spaces.
+     *
+     * @param data The data to convert
+     * @param buffer The buffer to fill, must have at least the length of the data divided by 2
+     * @return The number of converted bytes
+     */
+    public static int fromHexStr (final CharSequence data, final byte [] buffer)
+    {
+        final int length = data.length ();
+        if (length % 2 != 0)
+            throw new IllegalArgumentException ("Length of hex data must be a multiple of 2!");
+
+        final int size = length / 2;
+        for (int i = 0; i < size; i++)
+        {
+            final int high = Character.digit (data.charAt (i * 2), 16);
+            final int low = Character.digit (data.charAt (i * 2 + 1), 16);
+            if (high < 0 || low < 0)
+                throw new NumberFormatException ("Not a hex number: " + data.subSequence (i * 2, i * 2 + 2));
+            buffer[i] = (byte) (high << 4 | low);
+        }
+        return size;
+    }
+
+
     /**
      * Convert the given integer array into a byte array.
      *
@@ -521,4 +660,74 @@ public class StringUtils
     {
         return toHexStr (color.toIntRGB255 (), false);
     }
+
+
+    /**
+     * The key of a cached label. It is mutable so that a cache hit can be looked up with a reused
+     * key without allocating a new one.
+     */
+    private static class LabelKey
+    {
+        private String  text;
+        private int     length;
+        private boolean fixASCII;
+
+
+        /**
+         * Set the values of the key.
+         *
+         * @param text The original text
+         * @param length The length to shorten to
+         * @param fixASCII True if non-ASCII characters are replaced
+         */
+        void set (final String text, final int length, final boolean fixASCII)
+        {
+            this.text = text;
+            this.length = length;
+            this.fixASCII = fixASCII;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return 31 * (31 * this.text.hashCode () + this.length) + (this.fixASCII ? 1 : 0);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            return obj instanceof final LabelKey other && this.length == other.length && this.fixASCII == other.fixASCII && this.text.equals (other.text);
+        }
+    }
+
+
+    /**
+     * Caches the shortened texts. Removes the least recently used text if the size of the cache is
+     * exceeded.
+     */
+    private static class LabelCache extends LinkedHashMap<LabelKey, String>
+    {
+        private static final long serialVersionUID = -3482765927384619102L;
+
+
+        /**
+         * Constructor.
+         */
+        LabelCache ()
+        {
+            super (CACHE_SIZE, 0.75f, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<LabelKey, String> eldest)
+        {
+            return this.size () > CACHE_SIZE;
+        }
+    }
 }
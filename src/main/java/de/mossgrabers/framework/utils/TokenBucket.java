@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * A token bucket for rate limiting. The bucket is refilled continuously with a fixed rate up to its
+ * capacity. Consuming tokens never blocks, instead the time until enough tokens are available can
+ * be queried.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TokenBucket
+{
+    private final double capacity;
+    private final double tokensPerNanosecond;
+    private double       tokens;
+    private long         lastRefill;
+
+
+    /**
+     * Constructor. The bucket starts full.
+     *
+     * @param tokensPerSecond The number of tokens added per second
+     * @param capacity The maximum number of tokens which can be stored (the allowed burst)
+     */
+    public TokenBucket (final double tokensPerSecond, final double capacity)
+    {
+        this.capacity = capacity;
+        this.tokensPerNanosecond = tokensPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime ();
+    }
+
+
+    /**
+     * Consume tokens if enough are available. Requests which are larger than the capacity are
+     * granted as soon as the bucket is full.
+     *
+     * @param amount The number of tokens to consume
+     * @return True if the tokens were consumed, false if there are not enough tokens
+     */
+    public synchronized boolean tryConsume (final double amount)
+    {
+        this.refill ();
+        final double needed = Math.min (amount, this.capacity);
+        if (this.tokens < needed)
+            return false;
+        this.tokens -= amount;
+        return true;
+    }
+
+
+    /**
+     * Get the time until the given number of tokens will be available.
+     *
+     * @param amount The number of tokens
+     * @return The time in milliseconds, 0 if the tokens are already available
+     */
+    public synchronized long getMillisUntilAvailable (final double amount)
+    {
+        this.refill ();
+        final double missing = Math.min (amount, this.capacity) - this.tokens;
+        if (missing <= 0)
+            return 0;
+        return (long) Math.ceil (missing / this.tokensPerNanosecond / 1_000_000.0);
+    }
+
+
+    private void refill ()
+    {
+        final long now = System.nanoTime ();
+        this.tokens = Math.min (this.capacity, this.tokens + (now - this.lastRefill) * this.tokensPerNanosecond);
+        this.lastRefill = now;
+    }
+}
@@ -0,0 +1,119 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+
+/**
+ * A lock-free hand-off of frames from one producer (e.g. the render thread) to one consumer (e.g.
+ * the thread which sends the frames to a device). The producer fills the render buffer and
+ * publishes it, which swaps it with the ready buffer. The consumer swaps the ready buffer with the
+ * buffer it currently sends. Neither side ever waits for the other and only the latest published
+ * frame is sent, intermediate frames are dropped.
+ *
+ * @param <T> The type of the buffers
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TripleBuffer<T>
+{
+    /** Marks the ready buffer as containing a frame, which was not yet consumed. */
+    private static final int    FRESH = 4;
+    private static final int    INDEX = 3;
+
+    private final Object []     buffers;
+    private final AtomicInteger ready = new AtomicInteger (1);
+    private int                 renderIndex;
+    private int                 sendIndex;
+    private long                dropped;
+
+
+    /**
+     * Constructor.
+     *
+     * @param factory Creates the three buffers
+     */
+    public TripleBuffer (final Supplier<T> factory)
+    {
+        this.buffers = new Object []
+        {
+            factory.get (),
+            factory.get (),
+            factory.get ()
+        };
+        this.renderIndex = 0;
+        this.sendIndex = 2;
+    }
+
+
+    /**
+     * Get the buffer to render into. Only call from the producer.
+     *
+     * @return The buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getRenderBuffer ()
+    {
+        return (T) this.buffers[this.renderIndex];
+    }
+
+
+    /**
+     * Publish the render buffer as the latest frame. Afterwards, the render buffer is a different
+     * one. Only call from the producer.
+     *
+     * @return True if the previously published frame was not consumed and has been dropped
+     */
+    public boolean publish ()
+    {
+        final int previous = this.ready.getAndSet (this.renderIndex | FRESH);
+        this.renderIndex = previous & INDEX;
+        final boolean wasDropped = (previous & FRESH) != 0;
+        if (wasDropped)
+            this.dropped++;
+        return wasDropped;
+    }
+
+
+    /**
+     * Check if there is a published frame, which was not yet consumed.
+     *
+     * @return True if there is a new frame
+     */
+    public boolean hasFrame ()
+    {
+        return (this.ready.get () & FRESH) != 0;
+    }
+
+
+    /**
+     * Take the latest published frame. The buffer stays valid until the next call. Only call from
+     * the consumer.
+     *
+     * @return The buffer or null if no new frame was published since the last call
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire ()
+    {
+        if (!this.hasFrame ())
+            return null;
+        this.sendIndex = this.ready.getAndSet (this.sendIndex) & INDEX;
+        return (T) this.buffers[this.sendIndex];
+    }
+
+
+    /**
+     * Get the number of published frames which were replaced by a newer one before they were
+     * consumed. Only call from the producer.
+     *
+     * @return The number of dropped frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.dropped;
+    }
+}
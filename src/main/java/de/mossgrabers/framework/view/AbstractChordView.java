@@ -4,9 +4,6 @@
 
 package de.mossgrabers.framework.view;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
@@ -50,7 +47,8 @@ public class AbstractChordView<S extends IControlSurface<C>, C extends Configura
     };
     // @formatter:on
 
-    private final List<Integer>    currentChord    = new ArrayList<> ();
+    private final int []           currentChord    = new int [128];
+    private int                    currentChordSize;
 
 
     /**
@@ -102,12 +100,12 @@ public class AbstractChordView<S extends IControlSurface<C>, C extends Configura
 
         synchronized (this.currentChord)
         {
-            this.currentChord.clear ();
+            this.currentChordSize = 0;
             if (velocity > 0)
             {
-                this.currentChord.add (Integer.valueOf (note));
+                this.currentChord[this.currentChordSize++] = note;
                 for (final int element: chord)
-                    this.currentChord.add (Integer.valueOf (element));
+                    this.currentChord[this.currentChordSize++] = element;
             }
         }
     }
@@ -119,7 +117,7 @@ public class AbstractChordView<S extends IControlSurface<C>, C extends Configura
     {
         synchronized (this.currentChord)
         {
-            return ChordIdentifier.identifyChord (this.currentChord);
+            return ChordIdentifier.identifyChord (this.currentChord, this.currentChordSize);
         }
     }
 }
@@ -8,6 +8,7 @@ import java.util.Arrays;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -28,16 +29,23 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements TransposeView
 {
     /** ID of the color to use when a pad is played. */
-    public static final String COLOR_PLAY   = "PLAY_VIEW_COLOR_PLAY";
+    public static final String      COLOR_PLAY    = "PLAY_VIEW_COLOR_PLAY";
     /** ID of the color to use when a pad is played and recording is enabled. */
-    public static final String COLOR_RECORD = "PLAY_VIEW_COLOR_RECORD";
+    public static final String      COLOR_RECORD  = "PLAY_VIEW_COLOR_RECORD";
     /** ID of the color to use when a pad does not contain a note. */
-    public static final String COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
+    public static final String      COLOR_OFF     = "PLAY_VIEW_COLOR_OFF";
 
-    protected final int []     defaultVelocity;
-    protected final boolean    useTrackColor;
+    /** The handle of the color ID to use when a pad is played. */
+    public static final ColorHandle HANDLE_PLAY   = ColorHandle.of (COLOR_PLAY);
+    /** The handle of the color ID to use when a pad is played and recording is enabled. */
+    public static final ColorHandle HANDLE_RECORD = ColorHandle.of (COLOR_RECORD);
+    /** The handle of the color ID to use when a pad does not contain a note. */
+    public static final ColorHandle HANDLE_OFF    = ColorHandle.of (COLOR_OFF);
 
-    private int                blockNotes   = 0;
+    protected final int []          defaultVelocity;
+    protected final boolean         useTrackColor;
+
+    private int                     blockNotes    = 0;
 
 
     /**
@@ -105,7 +113,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         final int startNote = this.scales.getStartNote ();
         final int endNote = this.scales.getEndNote ();
         for (int i = startNote; i < endNote; i++)
-            lightGuide.light (i, this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i));
+            lightGuide.light (i, this.getGridColorHandle (isKeyboardEnabled, isRecording, cursorTrack, i));
     }
 
 
@@ -147,18 +155,33 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
      * @return The ID of the color
      */
     protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    {
+        return this.getGridColorHandle (isKeyboardEnabled, isRecording, track, note).getId ();
+    }
+
+
+    /**
+     * Get the handle of the color ID for a pad.
+     *
+     * @param isKeyboardEnabled Can we play?
+     * @param isRecording Is recording enabled?
+     * @param track The track to use the color for octaves
+     * @param note The note of the pad
+     * @return The color handle
+     */
+    protected ColorHandle getGridColorHandle (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? AbstractPlayView.HANDLE_RECORD : AbstractPlayView.HANDLE_PLAY;
 
-            if (this.surface.getConfiguration ().isTurnOffScalePads () && Scales.SCALE_COLOR_NOTE.equals (this.keyManager.getColor (note)))
-                return Scales.SCALE_COLOR_OFF;
+            if (this.surface.getConfiguration ().isTurnOffScalePads () && this.keyManager.getColorHandle (note) == Scales.HANDLE_NOTE)
+                return Scales.HANDLE_OFF;
 
-            return this.getPadColor (note, this.useTrackColor ? track : null);
+            return this.getPadColorHandle (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return AbstractPlayView.HANDLE_OFF;
     }
 
 
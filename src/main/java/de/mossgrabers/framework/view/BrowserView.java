@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IBrowser;
@@ -26,43 +27,48 @@ import de.mossgrabers.framework.featuregroup.AbstractView;
 public class BrowserView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
     /** The color for the unused pads. */
-    public static final String     OFF          = "BROWSER_OFF";
+    public static final String          OFF            = "BROWSER_OFF";
     /** The color for the discard pad. */
-    public static final String     DISCARD      = "BROWSER_DISCARD";
+    public static final String          DISCARD        = "BROWSER_DISCARD";
     /** The color for the confirmation pad. */
-    public static final String     CONFIRM      = "BROWSER_CONFIRM";
+    public static final String          CONFIRM        = "BROWSER_CONFIRM";
     /** The color for the play (test) pads. */
-    public static final String     PLAY         = "BROWSER_PLAY";
+    public static final String          PLAY           = "BROWSER_PLAY";
     /** The color for the first column. */
-    public static final String     COLUMN1      = "BROWSER_COLUMN1";
+    public static final String          COLUMN1        = "BROWSER_COLUMN1";
     /** The color for the second column. */
-    public static final String     COLUMN2      = "BROWSER_COLUMN2";
+    public static final String          COLUMN2        = "BROWSER_COLUMN2";
     /** The color for the third column. */
-    public static final String     COLUMN3      = "BROWSER_COLUMN3";
+    public static final String          COLUMN3        = "BROWSER_COLUMN3";
     /** The color for the fourth column. */
-    public static final String     COLUMN4      = "BROWSER_COLUMN4";
+    public static final String          COLUMN4        = "BROWSER_COLUMN4";
     /** The color for the fifth column. */
-    public static final String     COLUMN5      = "BROWSER_COLUMN5";
+    public static final String          COLUMN5        = "BROWSER_COLUMN5";
     /** The color for the sixth column. */
-    public static final String     COLUMN6      = "BROWSER_COLUMN6";
+    public static final String          COLUMN6        = "BROWSER_COLUMN6";
     /** The color for the seventh column. */
-    public static final String     COLUMN7      = "BROWSER_COLUMN7";
+    public static final String          COLUMN7        = "BROWSER_COLUMN7";
     /** The color for the eighth column. */
-    public static final String     COLUMN8      = "BROWSER_COLUMN8";
+    public static final String          COLUMN8        = "BROWSER_COLUMN8";
 
-    private static final String [] COLUMNS      =
+    private static final ColorHandle [] COLUMNS        =
     {
-        COLUMN1,
-        COLUMN2,
-        COLUMN3,
-        COLUMN4,
-        COLUMN5,
-        COLUMN6,
-        COLUMN7,
-        COLUMN8
+        ColorHandle.of (COLUMN1),
+        ColorHandle.of (COLUMN2),
+        ColorHandle.of (COLUMN3),
+        ColorHandle.of (COLUMN4),
+        ColorHandle.of (COLUMN5),
+        ColorHandle.of (COLUMN6),
+        ColorHandle.of (COLUMN7),
+        ColorHandle.of (COLUMN8)
     };
 
-    private static final int []    COLUMN_ORDER =
+    private static final ColorHandle    HANDLE_OFF     = ColorHandle.of (OFF);
+    private static final ColorHandle    HANDLE_DISCARD = ColorHandle.of (DISCARD);
+    private static final ColorHandle    HANDLE_CONFIRM = ColorHandle.of (CONFIRM);
+    private static final ColorHandle    HANDLE_PLAY    = ColorHandle.of (PLAY);
+
+    private static final int []         COLUMN_ORDER   =
     {
         0,
         1,
@@ -91,19 +97,19 @@ public class BrowserView<S extends IControlSurface<C>, C extends Configuration>
     {
         final IPadGrid padGrid = this.surface.getPadGrid ();
 
-        padGrid.light (36, DISCARD);
+        padGrid.light (36, HANDLE_DISCARD);
 
-        padGrid.light (37, OFF);
+        padGrid.light (37, HANDLE_OFF);
 
         for (int i = 38; i < 42; i++)
-            padGrid.light (i, PLAY);
+            padGrid.light (i, HANDLE_PLAY);
 
-        padGrid.light (42, OFF);
+        padGrid.light (42, HANDLE_OFF);
 
-        padGrid.light (43, CONFIRM);
+        padGrid.light (43, HANDLE_CONFIRM);
 
         for (int i = 44; i < 52; i++)
-            padGrid.light (i, OFF);
+            padGrid.light (i, HANDLE_OFF);
 
         for (int i = 52; i < 60; i++)
             padGrid.light (i, COLUMNS[i - 52]);
@@ -115,7 +121,7 @@ public class BrowserView<S extends IControlSurface<C>, C extends Configuration>
             padGrid.light (i, COLUMNS[i - 76]);
 
         for (int i = 84; i < 100; i++)
-            padGrid.light (i, OFF);
+            padGrid.light (i, HANDLE_OFF);
     }
 
 
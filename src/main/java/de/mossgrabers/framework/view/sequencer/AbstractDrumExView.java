@@ -2,6 +2,7 @@ package de.mossgrabers.framework.view.sequencer;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
@@ -20,43 +21,60 @@ import de.mossgrabers.framework.daw.midi.INoteRepeat;
 public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends Configuration> extends AbstractDrumView<S, C>
 {
     /** The color ID for the selection button - on state. */
-    public static final String COLOR_EX_SELECT_ON              = "COLOR_EX_SELECT_ON";
+    public static final String       COLOR_EX_SELECT_ON               = "COLOR_EX_SELECT_ON";
     /** The color ID for the selection button - off state. */
-    public static final String COLOR_EX_SELECT_OFF             = "COLOR_EX_SELECT_OFF";
+    public static final String       COLOR_EX_SELECT_OFF              = "COLOR_EX_SELECT_OFF";
     /** The color ID for the mute button - on state. */
-    public static final String COLOR_EX_MUTE_ON                = "COLOR_EX_MUTE_ON";
+    public static final String       COLOR_EX_MUTE_ON                 = "COLOR_EX_MUTE_ON";
     /** The color ID for the mute button - off state. */
-    public static final String COLOR_EX_MUTE_OFF               = "COLOR_EX_MUTE_OFF";
+    public static final String       COLOR_EX_MUTE_OFF                = "COLOR_EX_MUTE_OFF";
     /** The color ID for the solo button - on state. */
-    public static final String COLOR_EX_SOLO_ON                = "COLOR_EX_SOLO_ON";
+    public static final String       COLOR_EX_SOLO_ON                 = "COLOR_EX_SOLO_ON";
     /** The color ID for the solo button - off state. */
-    public static final String COLOR_EX_SOLO_OFF               = "COLOR_EX_SOLO_OFF";
+    public static final String       COLOR_EX_SOLO_OFF                = "COLOR_EX_SOLO_OFF";
     /** The color ID for the browse button - on state. */
-    public static final String COLOR_EX_BROWSE_ON              = "COLOR_EX_BROWSE_ON";
+    public static final String       COLOR_EX_BROWSE_ON               = "COLOR_EX_BROWSE_ON";
     /** The color ID for the browse button - off state. */
-    public static final String COLOR_EX_BROWSE_OFF             = "COLOR_EX_BROWSE_OFF";
+    public static final String       COLOR_EX_BROWSE_OFF              = "COLOR_EX_BROWSE_OFF";
     /** The color ID for the note repeat button - on state. */
-    public static final String COLOR_EX_NOTE_REPEAT_ON         = "COLOR_EX_NOTE_REPEAT_ON";
+    public static final String       COLOR_EX_NOTE_REPEAT_ON          = "COLOR_EX_NOTE_REPEAT_ON";
     /** The color ID for the note repeat button - off state. */
-    public static final String COLOR_EX_NOTE_REPEAT_OFF        = "COLOR_EX_NOTE_REPEAT_OFF";
+    public static final String       COLOR_EX_NOTE_REPEAT_OFF         = "COLOR_EX_NOTE_REPEAT_OFF";
     /** The color ID for the note repeat period button - on state. */
-    public static final String COLOR_EX_NOTE_REPEAT_PERIOD_ON  = "COLOR_EX_NOTE_REPEAT_PERIOD_ON";
+    public static final String       COLOR_EX_NOTE_REPEAT_PERIOD_ON   = "COLOR_EX_NOTE_REPEAT_PERIOD_ON";
     /** The color ID for the note repeat period button - off state. */
-    public static final String COLOR_EX_NOTE_REPEAT_PERIOD_OFF = "COLOR_EX_NOTE_REPEAT_PERIOD_OFF";
+    public static final String       COLOR_EX_NOTE_REPEAT_PERIOD_OFF  = "COLOR_EX_NOTE_REPEAT_PERIOD_OFF";
     /** The color ID for the note repeat length button - on state. */
-    public static final String COLOR_EX_NOTE_REPEAT_LENGTH_ON  = "COLOR_EX_NOTE_REPEAT_LENGTH_ON";
+    public static final String       COLOR_EX_NOTE_REPEAT_LENGTH_ON   = "COLOR_EX_NOTE_REPEAT_LENGTH_ON";
     /** The color ID for the note repeat length button - off state. */
-    public static final String COLOR_EX_NOTE_REPEAT_LENGTH_OFF = "COLOR_EX_NOTE_REPEAT_LENGTH_OFF";
+    public static final String       COLOR_EX_NOTE_REPEAT_LENGTH_OFF  = "COLOR_EX_NOTE_REPEAT_LENGTH_OFF";
     /** The color ID for the extra buttons toggle button - on state. */
-    public static final String COLOR_EX_TOGGLE_ON              = "COLOR_EX_TOGGLE_ON";
+    public static final String       COLOR_EX_TOGGLE_ON               = "COLOR_EX_TOGGLE_ON";
     /** The color ID for the extra buttons toggle button - off state. */
-    public static final String COLOR_EX_TOGGLE_OFF             = "COLOR_EX_TOGGLE_OFF";
-
-    protected boolean          extraButtonsOn                  = false;
-    protected boolean          noteRepeatPeriodOn              = false;
-    protected boolean          noteRepeatLengthOn              = false;
-    protected boolean          useExtraToggleButton            = true;
-    protected int              firstExtraPad;
+    public static final String       COLOR_EX_TOGGLE_OFF              = "COLOR_EX_TOGGLE_OFF";
+
+    private static final ColorHandle HANDLE_EX_SELECT_ON              = ColorHandle.of (COLOR_EX_SELECT_ON);
+    private static final ColorHandle HANDLE_EX_SELECT_OFF             = ColorHandle.of (COLOR_EX_SELECT_OFF);
+    private static final ColorHandle HANDLE_EX_MUTE_ON                = ColorHandle.of (COLOR_EX_MUTE_ON);
+    private static final ColorHandle HANDLE_EX_MUTE_OFF               = ColorHandle.of (COLOR_EX_MUTE_OFF);
+    private static final ColorHandle HANDLE_EX_SOLO_ON                = ColorHandle.of (COLOR_EX_SOLO_ON);
+    private static final ColorHandle HANDLE_EX_SOLO_OFF               = ColorHandle.of (COLOR_EX_SOLO_OFF);
+    private static final ColorHandle HANDLE_EX_BROWSE_ON              = ColorHandle.of (COLOR_EX_BROWSE_ON);
+    private static final ColorHandle HANDLE_EX_BROWSE_OFF             = ColorHandle.of (COLOR_EX_BROWSE_OFF);
+    private static final ColorHandle HANDLE_EX_NOTE_REPEAT_ON         = ColorHandle.of (COLOR_EX_NOTE_REPEAT_ON);
+    private static final ColorHandle HANDLE_EX_NOTE_REPEAT_OFF        = ColorHandle.of (COLOR_EX_NOTE_REPEAT_OFF);
+    private static final ColorHandle HANDLE_EX_NOTE_REPEAT_PERIOD_ON  = ColorHandle.of (COLOR_EX_NOTE_REPEAT_PERIOD_ON);
+    private static final ColorHandle HANDLE_EX_NOTE_REPEAT_PERIOD_OFF = ColorHandle.of (COLOR_EX_NOTE_REPEAT_PERIOD_OFF);
+    private static final ColorHandle HANDLE_EX_NOTE_REPEAT_LENGTH_ON  = ColorHandle.of (COLOR_EX_NOTE_REPEAT_LENGTH_ON);
+    private static final ColorHandle HANDLE_EX_NOTE_REPEAT_LENGTH_OFF = ColorHandle.of (COLOR_EX_NOTE_REPEAT_LENGTH_OFF);
+    private static final ColorHandle HANDLE_EX_TOGGLE_ON              = ColorHandle.of (COLOR_EX_TOGGLE_ON);
+    private static final ColorHandle HANDLE_EX_TOGGLE_OFF             = ColorHandle.of (COLOR_EX_TOGGLE_OFF);
+
+    protected boolean                extraButtonsOn                   = false;
+    protected boolean                noteRepeatPeriodOn               = false;
+    protected boolean                noteRepeatLengthOn               = false;
+    protected boolean                useExtraToggleButton             = true;
+    protected int                    firstExtraPad;
 
 
     /**
@@ -143,20 +161,20 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
         {
             int row = this.allRows - 2;
 
-            padGrid.lightEx (4, row, this.colorManager.getColorIndex (this.isSelectTrigger () ? COLOR_EX_SELECT_ON : COLOR_EX_SELECT_OFF));
-            padGrid.lightEx (5, row, this.colorManager.getColorIndex (this.isMuteTrigger () ? COLOR_EX_MUTE_ON : COLOR_EX_MUTE_OFF));
-            padGrid.lightEx (6, row, this.colorManager.getColorIndex (this.isSoloTrigger () ? COLOR_EX_SOLO_ON : COLOR_EX_SOLO_OFF));
-            padGrid.lightEx (7, row, this.colorManager.getColorIndex (this.isBrowseTrigger () ? COLOR_EX_BROWSE_ON : COLOR_EX_BROWSE_OFF));
+            padGrid.lightEx (4, row, this.isSelectTrigger () ? HANDLE_EX_SELECT_ON : HANDLE_EX_SELECT_OFF);
+            padGrid.lightEx (5, row, this.isMuteTrigger () ? HANDLE_EX_MUTE_ON : HANDLE_EX_MUTE_OFF);
+            padGrid.lightEx (6, row, this.isSoloTrigger () ? HANDLE_EX_SOLO_ON : HANDLE_EX_SOLO_OFF);
+            padGrid.lightEx (7, row, this.isBrowseTrigger () ? HANDLE_EX_BROWSE_ON : HANDLE_EX_BROWSE_OFF);
 
             final INoteRepeat noteRepeat = this.surface.getMidiInput ().getDefaultNoteInput ().getNoteRepeat ();
 
             row++;
-            padGrid.lightEx (4, row, this.colorManager.getColorIndex (noteRepeat.isActive () ? COLOR_EX_NOTE_REPEAT_ON : COLOR_EX_NOTE_REPEAT_OFF));
-            padGrid.lightEx (5, row, this.colorManager.getColorIndex (this.noteRepeatPeriodOn ? COLOR_EX_NOTE_REPEAT_PERIOD_ON : COLOR_EX_NOTE_REPEAT_PERIOD_OFF));
-            padGrid.lightEx (6, row, this.colorManager.getColorIndex (this.noteRepeatLengthOn ? COLOR_EX_NOTE_REPEAT_LENGTH_ON : COLOR_EX_NOTE_REPEAT_LENGTH_OFF));
+            padGrid.lightEx (4, row, noteRepeat.isActive () ? HANDLE_EX_NOTE_REPEAT_ON : HANDLE_EX_NOTE_REPEAT_OFF);
+            padGrid.lightEx (5, row, this.noteRepeatPeriodOn ? HANDLE_EX_NOTE_REPEAT_PERIOD_ON : HANDLE_EX_NOTE_REPEAT_PERIOD_OFF);
+            padGrid.lightEx (6, row, this.noteRepeatLengthOn ? HANDLE_EX_NOTE_REPEAT_LENGTH_ON : HANDLE_EX_NOTE_REPEAT_LENGTH_OFF);
         }
 
         if (this.useExtraToggleButton || this.extraButtonsOn)
-            padGrid.lightEx (7, this.allRows - 1, this.colorManager.getColorIndex (this.extraButtonsOn ? COLOR_EX_TOGGLE_ON : COLOR_EX_TOGGLE_OFF));
+            padGrid.lightEx (7, this.allRows - 1, this.extraButtonsOn ? HANDLE_EX_TOGGLE_ON : HANDLE_EX_TOGGLE_OFF);
     }
 }
@@ -172,7 +172,7 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
                 final int length = step - start + 1;
                 final double duration = length * Resolution.getValueAt (this.getResolutionIndex ());
                 np.setStep (start);
-                final StepState state = note < 0 ? StepState.OFF : clip.getStep (np).getState ();
+                final StepState state = note < 0 ? StepState.OFF : clip.getStepState (np);
                 if (state == StepState.START)
                     clip.updateStepDuration (np, duration);
                 else
@@ -218,7 +218,7 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
                 int y = this.lanes - 1 - sound;
                 if (col >= this.numColumns)
                     y += this.lanes;
-                padGrid.lightEx (x, y, this.getStepColor (stepInfo, hilite, drumPadColor, position.getChannel (), col, position.getNote (), editNotes));
+                padGrid.lightEx (x, y, this.getStepColorHandle (stepInfo, hilite, drumPadColor, position.getChannel (), col, position.getNote (), editNotes));
             }
         }
     }
@@ -346,7 +346,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
                 final int length = step - s + 1;
                 final double duration = length * Resolution.getValueAt (this.getResolutionIndex ());
                 np.setStep (s);
-                final StepState state = note < 0 ? StepState.OFF : clip.getStep (np).getState ();
+                final StepState state = note < 0 ? StepState.OFF : clip.getStepState (np);
                 if (state == StepState.START)
                     clip.updateStepDuration (np, duration);
                 else
@@ -833,7 +833,10 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             int y = col / this.numColumns;
             if (yModifier != null)
                 y = yModifier.applyAsInt (y);
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, rowColor, notePosition.getChannel (), col, noteRow, editNotes) : AbstractSequencerView.COLOR_NO_CONTENT);
+            if (isActive)
+                padGrid.lightEx (x, y, this.getStepColorHandle (stepInfo, hilite, rowColor, notePosition.getChannel (), col, noteRow, editNotes));
+            else
+                padGrid.lightEx (x, y, AbstractSequencerView.HANDLE_NO_CONTENT);
         }
     }
 
@@ -877,7 +880,10 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.playColumns + pad % this.playColumns;
             final int y = this.sequencerLines + pad / this.playColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            if (isActive)
+                padGrid.lightEx (x, y, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            else
+                padGrid.lightEx (x, y, AbstractSequencerView.HANDLE_NO_CONTENT);
         }
     }
 
@@ -433,14 +433,22 @@ public abstract class AbstractDrumXoXView<S extends IControlSurface<C>, C extend
         }
 
         // Writes the active steps of the (newly) selected drum pad and clears them afterwards
-        for (int step = 0; step < this.sourceNotes.size (); step++)
+        clip.startStepTransaction ();
+        try
         {
-            notePosition.setStep (step);
-            final IStepInfo noteStep = this.sourceNotes.get (step);
-            if (noteStep.getVelocity () == 0)
-                clip.clearStep (notePosition);
-            else
-                clip.setStep (notePosition, noteStep);
+            for (int step = 0; step < this.sourceNotes.size (); step++)
+            {
+                notePosition.setStep (step);
+                final IStepInfo noteStep = this.sourceNotes.get (step);
+                if (noteStep.getVelocity () == 0)
+                    clip.clearStep (notePosition);
+                else
+                    clip.setStep (notePosition, noteStep);
+            }
+        }
+        finally
+        {
+            clip.endStepTransaction ();
         }
         this.sourceNotes.clear ();
     }
@@ -539,21 +547,29 @@ public abstract class AbstractDrumXoXView<S extends IControlSurface<C>, C extend
 
         final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), 0, drumPad);
         final IStepInfo firstStep = clip.getStep (notePosition).createCopy ();
-        for (int step = 1; step < this.sequencerSteps; step++)
+        clip.startStepTransaction ();
+        try
         {
-            notePosition.setStep (step);
-            final IStepInfo noteStep = clip.getStep (notePosition);
-            notePosition.setStep (step - 1);
-            if (noteStep.getVelocity () == 0)
+            for (int step = 1; step < this.sequencerSteps; step++)
+            {
+                notePosition.setStep (step);
+                final IStepInfo noteStep = clip.getStep (notePosition);
+                notePosition.setStep (step - 1);
+                if (noteStep.getVelocity () == 0)
+                    clip.clearStep (notePosition);
+                else
+                    clip.setStep (notePosition, noteStep);
+            }
+            notePosition.setStep (this.sequencerSteps - 1);
+            if (firstStep.getVelocity () == 0)
                 clip.clearStep (notePosition);
             else
-                clip.setStep (notePosition, noteStep);
+                clip.setStep (notePosition, firstStep);
+        }
+        finally
+        {
+            clip.endStepTransaction ();
         }
-        notePosition.setStep (this.sequencerSteps - 1);
-        if (firstStep.getVelocity () == 0)
-            clip.clearStep (notePosition);
-        else
-            clip.setStep (notePosition, firstStep);
     }
 
 
@@ -570,20 +586,28 @@ public abstract class AbstractDrumXoXView<S extends IControlSurface<C>, C extend
 
         final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), this.sequencerSteps - 1, drumPad);
         final IStepInfo lastStep = clip.getStep (notePosition).createCopy ();
-        for (int step = 0; step < this.sequencerSteps - 1; step++)
+        clip.startStepTransaction ();
+        try
         {
-            notePosition.setStep (step);
-            final IStepInfo noteStep = clip.getStep (notePosition);
-            notePosition.setStep (step + 1);
-            if (noteStep.getVelocity () == 0)
+            for (int step = 0; step < this.sequencerSteps - 1; step++)
+            {
+                notePosition.setStep (step);
+                final IStepInfo noteStep = clip.getStep (notePosition);
+                notePosition.setStep (step + 1);
+                if (noteStep.getVelocity () == 0)
+                    clip.clearStep (notePosition);
+                else
+                    clip.setStep (notePosition, noteStep);
+            }
+            notePosition.setStep (0);
+            if (lastStep.getVelocity () == 0)
                 clip.clearStep (notePosition);
             else
-                clip.setStep (notePosition, noteStep);
+                clip.setStep (notePosition, lastStep);
+        }
+        finally
+        {
+            clip.endStepTransaction ();
         }
-        notePosition.setStep (0);
-        if (lastStep.getVelocity () == 0)
-            clip.clearStep (notePosition);
-        else
-            clip.setStep (notePosition, lastStep);
     }
 }
\ No newline at end of file
@@ -73,14 +73,14 @@ public abstract class AbstractMonophonicSequencerView<S extends IControlSurface<
             final int y = col / this.numSequencerColumns;
 
             if (!isActive)
-                padGrid.lightEx (x, y, AbstractSequencerView.COLOR_NO_CONTENT);
+                padGrid.lightEx (x, y, AbstractSequencerView.HANDLE_NO_CONTENT);
             else
             {
                 final int noteRow = clip.getHighestRow (channel, col);
                 notePosition.setNote (noteRow);
                 final IStepInfo stepInfo = noteRow == -1 ? EmptyStepInfo.INSTANCE : clip.getStep (notePosition);
                 final boolean hilite = col == hiStep;
-                padGrid.lightEx (x, y, this.getStepColor (stepInfo, hilite, rowColor, channel, col, noteRow, editNotes));
+                padGrid.lightEx (x, y, this.getStepColorHandle (stepInfo, hilite, rowColor, channel, col, noteRow, editNotes));
             }
         }
     }
@@ -203,7 +203,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
                 button.setConsumed ();
                 final int length = step - s + 1;
                 final double duration = length * Resolution.getValueAt (this.getResolutionIndex ());
-                final StepState state = note < 0 ? StepState.OFF : clip.getStep (np).getState ();
+                final StepState state = note < 0 ? StepState.OFF : clip.getStepState (np);
                 if (state == StepState.START)
                     clip.updateStepDuration (np, duration);
                 else
@@ -283,7 +283,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
                 final int map = this.keyManager.map (y);
                 notePosition.setNote (map);
                 final IStepInfo stepInfo = map < 0 ? null : clip.getStep (notePosition);
-                gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColor (stepInfo, x == hiStep, notePosition.getChannel (), x, y, map, editNotes));
+                gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColorHandle (stepInfo, x == hiStep, notePosition.getChannel (), x, y, map, editNotes));
             }
         }
 
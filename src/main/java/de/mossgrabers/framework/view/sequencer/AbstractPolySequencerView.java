@@ -11,6 +11,7 @@ import java.util.Map;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.IModel;
@@ -236,11 +237,19 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         // Clear all notes on the step, if there is at least one
         if (this.getStep (clip, step).getState () != StepState.OFF)
         {
-            for (int row = 0; row < 128; row++)
+            clip.startStepTransaction ();
+            try
             {
-                notePosition.setNote (row);
-                if (clip.getStep (notePosition).getState () != StepState.OFF)
-                    clip.clearStep (notePosition);
+                for (int row = 0; row < 128; row++)
+                {
+                    notePosition.setNote (row);
+                    if (clip.getStepState (notePosition) != StepState.OFF)
+                        clip.clearStep (notePosition);
+                }
+            }
+            finally
+            {
+                clip.endStepTransaction ();
             }
             return;
         }
@@ -284,16 +293,23 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             else if (this.copyStep >= 0)
             {
                 final NotePosition copyPosition = new NotePosition (channel, this.copyStep, 0);
-                for (int row = 0; row < 128; row++)
+                clip.startStepTransaction ();
+                try
                 {
-                    copyPosition.setNote (row);
-                    final IStepInfo stepInfo = clip.getStep (copyPosition);
-                    if (stepInfo != null && stepInfo.getVelocity () > 0)
+                    for (int row = 0; row < 128; row++)
                     {
-                        notePosition.setNote (row);
-                        clip.setStep (notePosition, stepInfo);
+                        copyPosition.setNote (row);
+                        if (clip.getStepVelocity (copyPosition) > 0)
+                        {
+                            notePosition.setNote (row);
+                            clip.setStep (notePosition, clip.getStep (copyPosition));
+                        }
                     }
                 }
+                finally
+                {
+                    clip.endStepTransaction ();
+                }
             }
             return true;
         }
@@ -400,7 +416,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             final int y = col / this.numColumns;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, col, editNotes) : AbstractSequencerView.COLOR_NO_CONTENT);
+            if (isActive)
+                padGrid.lightEx (x, y, this.getStepColorHandle (stepInfo, hilite, col, editNotes));
+            else
+                padGrid.lightEx (x, y, AbstractSequencerView.HANDLE_NO_CONTENT);
         }
 
         // Paint the play part
@@ -408,7 +427,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         final ITrack cursorTrack = this.model.getCursorTrack ();
         final int startNote = this.scales.getStartNote ();
         for (int i = startNote; i < startNote + this.sequencerSteps; i++)
-            padGrid.light (i, this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i));
+            padGrid.light (i, this.getGridColorHandle (isKeyboardEnabled, isRecording, cursorTrack, i));
 
     }
 
@@ -441,14 +460,16 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         for (int row = 0; row < 128; row++)
         {
             notePosition.setNote (row);
-            final IStepInfo stepInfo = clip.getStep (notePosition);
-            final StepState r = stepInfo.getState ();
+            final StepState r = clip.getStepState (notePosition);
+            if (r == StepState.OFF)
+                continue;
+
             if (r == StepState.START)
                 result.setState (StepState.START);
-            else if (r == StepState.CONTINUE && result.getState () != StepState.START)
+            else if (result.getState () != StepState.START)
                 result.setState (StepState.CONTINUE);
 
-            if ((r == StepState.START || r == StepState.CONTINUE) && !stepInfo.isMuted ())
+            if (isMuted && !clip.getStep (notePosition).isMuted ())
                 isMuted = false;
         }
         result.setMuted (isMuted);
@@ -466,6 +487,21 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @return The color identifier
      */
     protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final List<NotePosition> editNotes)
+    {
+        return this.getStepColorHandle (stepInfo, hilite, step, editNotes).getId ();
+    }
+
+
+    /**
+     * Get the handle of the step color ID.
+     *
+     * @param stepInfo The note info
+     * @param hilite True if note should be highlighted
+     * @param step The step
+     * @param editNotes The currently edited notes
+     * @return The color handle
+     */
+    protected ColorHandle getStepColorHandle (final IStepInfo stepInfo, final boolean hilite, final int step, final List<NotePosition> editNotes)
     {
         final int channel = this.configuration.getMidiEditChannel ();
 
@@ -474,27 +510,27 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             // Note starts
             case START:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return HANDLE_HILITE_CONTENT;
                 if (isChordEdit (channel, step, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return HANDLE_STEP_SELECTED;
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return COLOR_CONTENT;
+                    return HANDLE_STEP_MUTED;
+                return HANDLE_CONTENT;
 
             // Note continues
             case CONTINUE:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return HANDLE_HILITE_CONTENT;
                 if (isChordEdit (channel, step, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return HANDLE_STEP_SELECTED;
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return COLOR_CONTENT_CONT;
+                    return HANDLE_STEP_MUTED_CONT;
+                return HANDLE_CONTENT_CONT;
 
             // Empty
             case OFF:
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? AbstractSequencerView.HANDLE_HILITE_NO_CONTENT : AbstractSequencerView.HANDLE_NO_CONTENT;
         }
     }
 
@@ -509,20 +545,35 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @return The ID of the color
      */
     protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    {
+        return this.getGridColorHandle (isKeyboardEnabled, isRecording, track, note).getId ();
+    }
+
+
+    /**
+     * Get the handle of the color ID for a pad.
+     *
+     * @param isKeyboardEnabled Can we play?
+     * @param isRecording Is recording enabled?
+     * @param track The track to use the color for octaves
+     * @param note The note of the pad
+     * @return The color handle
+     */
+    protected ColorHandle getGridColorHandle (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? AbstractPlayView.HANDLE_RECORD : AbstractPlayView.HANDLE_PLAY;
 
-            final String padColor = this.getPadColor (note, this.useDawColors ? track : null);
+            final ColorHandle padColor = this.getPadColorHandle (note, this.useDawColors ? track : null);
 
-            if (this.configuration.isTurnOffScalePads () && Scales.SCALE_COLOR_NOTE.equals (padColor))
-                return Scales.SCALE_COLOR_OFF;
+            if (this.configuration.isTurnOffScalePads () && padColor == Scales.HANDLE_NOTE)
+                return Scales.HANDLE_OFF;
 
             return padColor;
         }
-        return AbstractPlayView.COLOR_OFF;
+        return AbstractPlayView.HANDLE_OFF;
     }
 
 
@@ -281,7 +281,7 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         for (step = 0; step < length; step++)
         {
             notePosition.setStep (step);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
+            if (clip.getStepState (notePosition) != StepState.OFF)
                 break;
         }
         if (step >= length)
@@ -289,7 +289,7 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         for (int step2 = step + 1; step2 < length; step2++)
         {
             notePosition.setStep (step2);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
+            if (clip.getStepState (notePosition) != StepState.OFF)
                 return step2 - step;
         }
         return -1;
@@ -307,7 +307,7 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         do
         {
             notePosition.setStep (step);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
+            if (clip.getStepState (notePosition) != StepState.OFF)
                 return counter;
             step++;
             counter++;
@@ -330,7 +330,7 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         do
         {
             notePosition.setStep (step);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
+            if (clip.getStepState (notePosition) != StepState.OFF)
                 return counter;
             step--;
             counter++;
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
@@ -44,48 +45,67 @@ import de.mossgrabers.framework.view.Views;
 public abstract class AbstractSequencerView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
     /** The color for highlighting a step with no content. */
-    public static final String    COLOR_STEP_HILITE_NO_CONTENT = "COLOR_STEP_HILITE_NO_CONTENT";
+    public static final String         COLOR_STEP_HILITE_NO_CONTENT = "COLOR_STEP_HILITE_NO_CONTENT";
     /** The color for highlighting a step with content. */
-    public static final String    COLOR_STEP_HILITE_CONTENT    = "COLOR_STEP_HILITE_CONTENT";
+    public static final String         COLOR_STEP_HILITE_CONTENT    = "COLOR_STEP_HILITE_CONTENT";
     /** The color for a muted step. */
-    public static final String    COLOR_STEP_MUTED             = "COLOR_STEP_MUTED";
+    public static final String         COLOR_STEP_MUTED             = "COLOR_STEP_MUTED";
     /** The color for a continued muted step. */
-    public static final String    COLOR_STEP_MUTED_CONT        = "COLOR_STEP_MUTED_CONT";
+    public static final String         COLOR_STEP_MUTED_CONT        = "COLOR_STEP_MUTED_CONT";
     /** The color for a selected step. */
-    public static final String    COLOR_STEP_SELECTED          = "COLOR_STEP_SELECTED";
+    public static final String         COLOR_STEP_SELECTED          = "COLOR_STEP_SELECTED";
     /** The color for a step with no content. */
-    public static final String    COLOR_NO_CONTENT             = "COLOR_NO_CONTENT";
+    public static final String         COLOR_NO_CONTENT             = "COLOR_NO_CONTENT";
     /** The color for a step with no content (2nd four group). */
-    public static final String    COLOR_NO_CONTENT_4           = "COLOR_NO_CONTENT_4";
+    public static final String         COLOR_NO_CONTENT_4           = "COLOR_NO_CONTENT_4";
     /** The color for a step with content. */
-    public static final String    COLOR_CONTENT                = "COLOR_CONTENT";
+    public static final String         COLOR_CONTENT                = "COLOR_CONTENT";
     /** The color for a step with content which is not the start of the note. */
-    public static final String    COLOR_CONTENT_CONT           = "COLOR_CONTENT_CONT";
+    public static final String         COLOR_CONTENT_CONT           = "COLOR_CONTENT_CONT";
     /** The color for a page. */
-    public static final String    COLOR_PAGE                   = "COLOR_PAGE";
+    public static final String         COLOR_PAGE                   = "COLOR_PAGE";
     /** The color for an active page. */
-    public static final String    COLOR_ACTIVE_PAGE            = "COLOR_ACTIVE_PAGE";
+    public static final String         COLOR_ACTIVE_PAGE            = "COLOR_ACTIVE_PAGE";
     /** The color for a selected page. */
-    public static final String    COLOR_SELECTED_PAGE          = "COLOR_SELECTED_PAGE";
+    public static final String         COLOR_SELECTED_PAGE          = "COLOR_SELECTED_PAGE";
     /** The color for resolution off. */
-    public static final String    COLOR_RESOLUTION_OFF         = "COLOR_RESOLUTION_OFF";
+    public static final String         COLOR_RESOLUTION_OFF         = "COLOR_RESOLUTION_OFF";
     /** The color for resolution. */
-    public static final String    COLOR_RESOLUTION             = "COLOR_RESOLUTION";
+    public static final String         COLOR_RESOLUTION             = "COLOR_RESOLUTION";
     /** The color for selected resolution. */
-    public static final String    COLOR_RESOLUTION_SELECTED    = "COLOR_RESOLUTION_SELECTED";
+    public static final String         COLOR_RESOLUTION_SELECTED    = "COLOR_RESOLUTION_SELECTED";
     /** The color for transposition. */
-    public static final String    COLOR_TRANSPOSE              = "COLOR_TRANSPOSE";
+    public static final String         COLOR_TRANSPOSE              = "COLOR_TRANSPOSE";
     /** The color for selected transposition. */
-    public static final String    COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
-
-    protected final int           clipRows;
-    protected final int           clipCols;
-    protected final boolean       useDawColors;
-
-    protected int                 numSequencerRows;
-    protected final Configuration configuration;
-    protected boolean             isNoteEdited                 = false;
-    private boolean               isSequencerActive;
+    public static final String         COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
+
+    /** The handle of the color ID for a highlighted step without content. */
+    protected static final ColorHandle HANDLE_HILITE_NO_CONTENT     = ColorHandle.of (COLOR_STEP_HILITE_NO_CONTENT);
+    /** The handle of the color ID for a highlighted step with content. */
+    protected static final ColorHandle HANDLE_HILITE_CONTENT        = ColorHandle.of (COLOR_STEP_HILITE_CONTENT);
+    /** The handle of the color ID for a selected step. */
+    protected static final ColorHandle HANDLE_STEP_SELECTED         = ColorHandle.of (COLOR_STEP_SELECTED);
+    /** The handle of the color ID for a muted step. */
+    protected static final ColorHandle HANDLE_STEP_MUTED            = ColorHandle.of (COLOR_STEP_MUTED);
+    /** The handle of the color ID for a muted step which is not the start of the note. */
+    protected static final ColorHandle HANDLE_STEP_MUTED_CONT       = ColorHandle.of (COLOR_STEP_MUTED_CONT);
+    /** The handle of the color ID for no content. */
+    protected static final ColorHandle HANDLE_NO_CONTENT            = ColorHandle.of (COLOR_NO_CONTENT);
+    /** The handle of the color ID for no content every 4th step. */
+    protected static final ColorHandle HANDLE_NO_CONTENT_4          = ColorHandle.of (COLOR_NO_CONTENT_4);
+    /** The handle of the color ID for a step with content. */
+    protected static final ColorHandle HANDLE_CONTENT               = ColorHandle.of (COLOR_CONTENT);
+    /** The handle of the color ID for a step with content which is not the start of the note. */
+    protected static final ColorHandle HANDLE_CONTENT_CONT          = ColorHandle.of (COLOR_CONTENT_CONT);
+
+    protected final int                clipRows;
+    protected final int                clipCols;
+    protected final boolean            useDawColors;
+
+    protected int                      numSequencerRows;
+    protected final Configuration      configuration;
+    protected boolean                  isNoteEdited                 = false;
+    private boolean                    isSequencerActive;
 
 
     /**
@@ -373,7 +393,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      */
     protected void editNote (final INoteClip clip, final NotePosition notePosition, final boolean addNote)
     {
-        final StepState state = clip.getStep (notePosition).getState ();
+        final StepState state = clip.getStepState (notePosition);
         if (state != StepState.START)
             return;
 
@@ -508,21 +528,39 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @return The color
      */
     protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final int channel, final int step, final int pad, final int note, final List<NotePosition> editNotes)
+    {
+        return this.getStepColorHandle (stepInfo, highlight, channel, step, pad, note, editNotes).getId ();
+    }
+
+
+    /**
+     * Get the handle of the color ID for a step.
+     *
+     * @param stepInfo The information about the step
+     * @param highlight The step should be highlighted
+     * @param channel The MIDI channel
+     * @param step The step of the note
+     * @param pad The pad
+     * @param note The note of the step
+     * @param editNotes The currently edited notes
+     * @return The color handle
+     */
+    protected ColorHandle getStepColorHandle (final IStepInfo stepInfo, final boolean highlight, final int channel, final int step, final int pad, final int note, final List<NotePosition> editNotes)
     {
         if (stepInfo == null || stepInfo.getState () == StepState.OFF)
         {
             if (highlight)
-                return COLOR_STEP_HILITE_NO_CONTENT;
+                return HANDLE_HILITE_NO_CONTENT;
 
-            final String padColor = this.getPadColor (pad, this.useDawColors ? this.model.getCursorTrack () : null);
+            final ColorHandle padColor = this.getPadColorHandle (pad, this.useDawColors ? this.model.getCursorTrack () : null);
 
-            if (this.configuration.isTurnOffScalePads () && Scales.SCALE_COLOR_NOTE.equals (padColor))
-                return Scales.SCALE_COLOR_OFF;
+            if (this.configuration.isTurnOffScalePads () && padColor == Scales.HANDLE_NOTE)
+                return Scales.HANDLE_OFF;
 
             return padColor;
         }
 
-        return this.getStepColor (stepInfo, highlight, Optional.empty (), channel, step, note, editNotes);
+        return this.getStepColorHandle (stepInfo, highlight, Optional.empty (), channel, step, note, editNotes);
     }
 
 
@@ -539,32 +577,50 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @return The color
      */
     protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<NotePosition> editNotes)
+    {
+        return this.getStepColorHandle (stepInfo, highlight, rowColor, channel, step, note, editNotes).getId ();
+    }
+
+
+    /**
+     * Get the handle of the color ID for a step.
+     *
+     * @param stepInfo The information about the step
+     * @param highlight The step should be highlighted
+     * @param channel The MIDI channel
+     * @param step The step of the note
+     * @param rowColor The color to use for content notes
+     * @param note The note of the step
+     * @param editNotes The currently edited notes
+     * @return The color handle
+     */
+    protected ColorHandle getStepColorHandle (final IStepInfo stepInfo, final boolean highlight, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<NotePosition> editNotes)
     {
         final StepState state = stepInfo == null ? StepState.OFF : stepInfo.getState ();
         switch (state)
         {
             case START:
                 if (highlight)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return HANDLE_HILITE_CONTENT;
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return HANDLE_STEP_SELECTED;
                 if (stepInfo != null && stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorID (rowColor.get ()) : COLOR_CONTENT;
+                    return HANDLE_STEP_MUTED;
+                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorHandle (rowColor.get ()) : HANDLE_CONTENT;
 
             case CONTINUE:
                 if (highlight)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return HANDLE_HILITE_CONTENT;
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return HANDLE_STEP_SELECTED;
                 if (stepInfo != null && stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorID (ColorEx.darker (rowColor.get ())) : COLOR_CONTENT_CONT;
+                    return HANDLE_STEP_MUTED_CONT;
+                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorHandle (ColorEx.darker (rowColor.get ())) : HANDLE_CONTENT_CONT;
 
             default:
                 if (highlight)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
-                return step / 4 % 2 == 1 ? COLOR_NO_CONTENT_4 : COLOR_NO_CONTENT;
+                    return HANDLE_HILITE_NO_CONTENT;
+                return step / 4 % 2 == 1 ? HANDLE_NO_CONTENT_4 : HANDLE_NO_CONTENT;
         }
     }
 
@@ -586,7 +642,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
             if (activeMode instanceof final INoteEditorMode noteMode)
             {
                 // Store existing note for editing
-                final StepState state = clip.getStep (notePosition).getState ();
+                final StepState state = clip.getStepState (notePosition);
                 if (state == StepState.START)
                 {
                     this.editNote (clip, notePosition, true);
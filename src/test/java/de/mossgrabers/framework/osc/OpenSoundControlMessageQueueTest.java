@@ -0,0 +1,141 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker.Packet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Tests for the OSC message queue.
+ *
+ * @author Jürgen Moßgraber
+ */
+class OpenSoundControlMessageQueueTest
+{
+    private static final int MAX_PACKET_SIZE = 1472;
+    private static final int MAX_MESSAGES    = 100;
+
+
+    @Test
+    void burstOfDifferentAddressesStaysBounded ()
+    {
+        final OpenSoundControlMessageQueue queue = createQueue ();
+        for (int i = 0; i < 50; i++)
+            queue.addAll (createBurst ("/track/" + i + "/", 20, i));
+
+        assertEquals (MAX_MESSAGES, queue.size ());
+        assertEquals (50 * 20 - MAX_MESSAGES, queue.getDroppedMessages ());
+
+        // Only the newest messages are left
+        final List<IOpenSoundControlMessage> sent = drain (queue);
+        assertEquals (MAX_MESSAGES, sent.size ());
+        assertEquals ("/track/45/0", sent.get (0).getAddress ());
+        assertEquals ("/track/49/19", sent.get (MAX_MESSAGES - 1).getAddress ());
+    }
+
+
+    @Test
+    void burstOfSameAddressesIsCoalesced ()
+    {
+        final OpenSoundControlMessageQueue queue = createQueue ();
+        for (int i = 0; i < 1000; i++)
+            queue.addAll (createBurst ("/track/1/", 10, i));
+
+        assertEquals (10, queue.size ());
+
+        // Only the latest value of each address is sent
+        final List<IOpenSoundControlMessage> sent = drain (queue);
+        assertEquals (10, sent.size ());
+        for (final IOpenSoundControlMessage message: sent)
+            assertEquals (Integer.valueOf (999), message.getValues ()[0]);
+    }
+
+
+    @Test
+    void packetsFitIntoDatagram ()
+    {
+        final OpenSoundControlMessageQueue queue = createQueue ();
+        queue.addAll (createBurst ("/device/param/", MAX_MESSAGES, 1));
+
+        int count = 0;
+        while (!queue.isEmpty ())
+        {
+            final int size = queue.getNextPacketSize ();
+            final Packet packet = queue.removePacket ();
+            assertEquals (size, packet.getSize ());
+            assertTrue (packet.getSize () <= MAX_PACKET_SIZE);
+            count += packet.getMessages ().size ();
+        }
+        assertEquals (MAX_MESSAGES, count);
+        assertEquals (0, queue.getNextPacketSize ());
+        assertNull (queue.removePacket ());
+    }
+
+
+    private static OpenSoundControlMessageQueue createQueue ()
+    {
+        return new OpenSoundControlMessageQueue (new OpenSoundControlBundlePacker (MAX_PACKET_SIZE), MAX_MESSAGES);
+    }
+
+
+    private static List<IOpenSoundControlMessage> createBurst (final String prefix, final int count, final int value)
+    {
+        final List<IOpenSoundControlMessage> messages = new ArrayList<> (count);
+        for (int i = 0; i < count; i++)
+            messages.add (new TestMessage (prefix + i, value));
+        return messages;
+    }
+
+
+    private static List<IOpenSoundControlMessage> drain (final OpenSoundControlMessageQueue queue)
+    {
+        final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+        while (!queue.isEmpty ())
+            messages.addAll (queue.removePacket ().getMessages ());
+        return messages;
+    }
+
+
+    private static class TestMessage implements IOpenSoundControlMessage
+    {
+        private final String    address;
+        private final Object [] values;
+
+
+        TestMessage (final String address, final int value)
+        {
+            this.address = address;
+            this.values = new Object []
+            {
+                Integer.valueOf (value)
+            };
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getAddress ()
+        {
+            return this.address;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Object [] getValues ()
+        {
+            return this.values;
+        }
+    }
+}